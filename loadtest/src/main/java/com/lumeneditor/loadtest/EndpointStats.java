@@ -0,0 +1,66 @@
+package com.lumeneditor.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오 단계(엔드포인트)별 응답 시간과 오류 수를 집계합니다.
+ * 응답 시간은 마이크로초 단위로 기록합니다.
+ */
+final class EndpointStats {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long micros, boolean success) {
+        Entry entry = entries.computeIfAbsent(endpoint, key -> new Entry());
+        entry.recorder.recordValue(micros);
+        if (!success) {
+            entry.errors.increment();
+        }
+    }
+
+    // 워밍업 구간의 기록을 버림
+    void reset() {
+        entries.values().forEach(Entry::reset);
+    }
+
+    /**
+     * 측정 구간의 엔드포인트별 결과를 표 형태로 출력합니다.
+     *
+     * @param seconds 측정 구간의 길이(초)입니다.
+     */
+
+    void print(double seconds) {
+        System.out.printf("%-28s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        entries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> {
+                    Histogram histogram = e.getValue().recorder.getIntervalHistogram();
+                    System.out.printf("%-28s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                            e.getKey(),
+                            histogram.getTotalCount(),
+                            e.getValue().errors.sum(),
+                            histogram.getTotalCount() / seconds,
+                            histogram.getValueAtPercentile(50) / 1000.0,
+                            histogram.getValueAtPercentile(99) / 1000.0,
+                            histogram.getValueAtPercentile(99.9) / 1000.0,
+                            histogram.getMaxValue() / 1000.0);
+                });
+    }
+
+    private static final class Entry {
+
+        private final Recorder recorder = new Recorder(2);
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.lumeneditor.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 동시성(폐쇄 루프) 부하 테스트 드라이버입니다.
+ * <p>
+ * 로그인 후 발급된 accessToken 쿠키로 concurrency 개의 가상 스레드가 쉬지 않고 path 를 호출하며,
+ * 처리량(req/s)과 응답 시간 분포(p50/p99/max)를 출력합니다.
+ * 같은 인자로 서버를 기본 모드와 virtual-threads 프로파일로 각각 실행하여 비교합니다.
+ * <pre>
+ * ./gradlew :loadtest:runDriver --args='--base-url=http://localhost:8001 --user=load@lumen.com --password=secret
+ *                                 --path=/main/user --concurrency=2000 --duration=60s --warmup=15s'
+ * </pre>
+ */
+public class LoadTestDriver {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String baseUrl = options.get("base-url", "http://localhost:8001");
+        String path = options.get("path", "/main/user");
+        int concurrency = options.getInt("concurrency", 1000);
+        Duration duration = options.getDuration("duration", "60s");
+        Duration warmup = options.getDuration("warmup", "15s");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String cookie = login(client, baseUrl, options.get("user"), options.get("password"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Cookie", cookie)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        Recorder recorder = new Recorder(TimeUnit.SECONDS.toMicros(30), 2);
+        LongAdder errors = new LongAdder();
+        long endAt = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+
+        System.out.printf("target=%s%s concurrency=%d warmup=%s duration=%s%n", baseUrl, path, concurrency, warmup, duration);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < endAt) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                                TimeUnit.SECONDS.toMicros(30)));
+                    }
+                    return null;
+                });
+            }
+
+            // 워밍업 구간 기록은 버리고 측정 구간만 집계
+            Thread.sleep(warmup.toMillis());
+            recorder.getIntervalHistogram();
+            errors.reset();
+            Thread.sleep(duration.toMillis());
+            Histogram histogram = recorder.getIntervalHistogram();
+
+            double seconds = duration.toMillis() / 1000.0;
+            System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                    histogram.getTotalCount(), errors.sum(), histogram.getTotalCount() / seconds);
+            System.out.printf("latency(ms) p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+
+    // 로그인하여 accessToken 쿠키를 받아옵니다.
+    private static String login(HttpClient client, String baseUrl, String user, String password) throws Exception {
+        if (user == null || password == null) {
+            throw new IllegalArgumentException("--user and --password are required");
+        }
+        String body = "{\"userId\":\"" + user + "\",\"userPassword\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(header -> header.startsWith("accessToken="))
+                .map(header -> header.substring(0, header.indexOf(';') > 0 ? header.indexOf(';') : header.length()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body()));
+    }
+}
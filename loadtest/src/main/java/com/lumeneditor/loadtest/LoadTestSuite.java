@@ -0,0 +1,274 @@
+package com.lumeneditor.loadtest;
+
+import com.lumeneditor.www.LumenEditorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원가입부터 주요 API 사용까지 실제 사용자 흐름을 재현하는 전체 부하 테스트입니다.
+ * <p>
+ * 기본 모드에서는 Redis, SMTP 를 {@link StandIns} 로, MySQL 을 MySQL 모드 H2 로 대체한 뒤
+ * 애플리케이션을 같은 JVM 에서 기동하므로 외부 인프라 없이 실행할 수 있습니다.
+ * --base-url 을 지정하면 이미 실행 중인 서버를 대상으로 하며, 이때 인증 코드는 메일로 받을 수 없으므로
+ * --user/--password 로 지정한 기존 계정 하나를 모든 가상 사용자가 공유합니다.
+ * <p>
+ * 가상 사용자마다 가상 스레드 하나가 다음 흐름을 반복합니다.
+ * 1. 인증 코드 발송, 인증, 회원가입, 로그인 (사용자당 1회)
+ * 2. 가중치에 따라 내 정보 조회 / 프로젝트 목록 / 상세 정보 수정 / 토큰 재발급 / 프로젝트 생성
+ * <p>
+ * 사용 예시:
+ * ./gradlew :loadtest:run --args='--users=500 --duration=60s --warmup=15s'
+ * ./gradlew :loadtest:run --args='--users=500 --profile=virtual-threads'
+ * <p>
+ * 옵션:
+ * --users     동시 가상 사용자 수 (기본 200)
+ * --duration  측정 시간 (기본 60s)
+ * --warmup    측정 전 워밍업 시간, 이 구간의 기록은 버립니다 (기본 15s)
+ * --think     요청 사이 대기 시간 (기본 0s)
+ * --profile   내장 실행 시 추가로 활성화할 스프링 프로필 (예: virtual-threads)
+ * --base-url  외부 서버 주소, 지정하면 내장 실행을 생략합니다
+ */
+public final class LoadTestSuite {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String PASSWORD = "load-test-password";
+    private static final Duration MAIL_TIMEOUT = Duration.ofSeconds(30);
+
+    // 시나리오 가중치 (합계 100)
+    private static final int READ_PROFILE = 50;
+    private static final int LIST_PROJECTS = 10;
+    private static final int UPDATE_DETAILS = 20;
+    private static final int REFRESH_TOKEN = 10;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final StandIns standIns;
+    private final Options options;
+    private final EndpointStats stats = new EndpointStats();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private LoadTestSuite(HttpClient client, String baseUrl, StandIns standIns, Options options) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.standIns = standIns;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        String externalUrl = options.get("base-url");
+        if (externalUrl != null) {
+            new LoadTestSuite(client, externalUrl, null, options).run();
+            return;
+        }
+
+        try (StandIns standIns = StandIns.start();
+             ConfigurableApplicationContext context = startApplication(standIns, options.get("profile"))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadTestSuite(client, "http://localhost:" + port, standIns, options).run();
+        }
+    }
+
+    // 대체 인프라를 바라보도록 설정을 덮어쓰고 임의 포트로 애플리케이션을 기동
+    private static ConfigurableApplicationContext startApplication(StandIns standIns, String profile) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:lumen;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.sql.init.mode", "always");
+        properties.put("spring.sql.init.schema-locations", "classpath:loadtest-schema.sql");
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", standIns.redisPort());
+        properties.put("lumen.redis.topology", "STANDALONE");
+        properties.put("lumen.render.renderer", "stub");
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", standIns.smtpPort());
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        properties.put("mail.username", StandIns.MAIL_USER);
+        properties.put("mail.password", StandIns.MAIL_PASSWORD);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(LumenEditorApplication.class).properties(properties);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        return builder.run();
+    }
+
+    private void run() throws InterruptedException {
+        int users = options.getInt("users", 200);
+        Duration duration = options.getDuration("duration", "60s");
+        Duration warmup = options.getDuration("warmup", "15s");
+        Duration think = options.getDuration("think", "0s");
+
+        System.out.printf("target=%s users=%d warmup=%s duration=%s%n", baseUrl, users, warmup, duration);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                executor.submit(() -> virtualUser(index, running, think));
+            }
+
+            Thread.sleep(warmup.toMillis());
+            stats.reset();
+            long start = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            running.set(false);
+
+            stats.print(seconds);
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 가상 사용자 한 명의 전체 흐름
+    private void virtualUser(int index, AtomicBoolean running, Duration think) {
+        String cookie;
+        try {
+            cookie = standIns != null ? signUpAndLogin(index) : login(options.get("user"), options.get("password"));
+        } catch (InterruptedException e) {
+            return;
+        } catch (Exception e) {
+            System.err.printf("virtual user %d could not sign in: %s%n", index, e.getMessage());
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String profileETag = null; // 편집기처럼 마지막 응답의 ETag 로 조건부 조회
+        String projectsETag = null;
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                int pick = random.nextInt(100);
+                if (pick < READ_PROFILE) {
+                    HttpResponse<String> response = send("GET /main/user", get("/main/user", cookie, profileETag));
+                    profileETag = response.headers().firstValue("ETag").orElse(profileETag);
+                } else if (pick < READ_PROFILE + LIST_PROJECTS) {
+                    HttpResponse<String> response = send("GET /my-project/projects", get("/my-project/projects", cookie, projectsETag));
+                    projectsETag = response.headers().firstValue("ETag").orElse(projectsETag);
+                } else if (pick < READ_PROFILE + LIST_PROJECTS + UPDATE_DETAILS) {
+                    String body = "{\"occupation\":\"engineer-" + random.nextInt(100) + "\",\"country\":\"KR\"}";
+                    send("PATCH /main/user/details", json("PATCH", "/main/user/details", body, cookie));
+                } else if (pick < READ_PROFILE + LIST_PROJECTS + UPDATE_DETAILS + REFRESH_TOKEN) {
+                    HttpResponse<String> response = send("POST /auth/access-token", json("POST", "/auth/access-token", "", cookie));
+                    String refreshed = accessTokenCookie(response);
+                    if (refreshed != null) {
+                        cookie = refreshed;
+                    }
+                } else {
+                    String body = "{\"projectName\":\"load-" + runId + "-" + index + "\"}";
+                    send("POST /my-project/project", json("POST", "/my-project/project", body, cookie));
+                }
+                if (!think.isZero()) {
+                    Thread.sleep(think.toMillis());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                // 연결 오류 등은 send 에서 이미 오류로 집계됨
+            }
+        }
+    }
+
+    // 인증 코드 발송 -> 메일 수신 -> 인증 -> 회원가입 -> 로그인
+    private String signUpAndLogin(int index) throws Exception {
+        String email = "vu" + index + "-" + runId + "@load.test";
+
+        send("POST /auth/send-auth-code", json("POST", "/auth/send-auth-code", "{\"userId\":\"" + email + "\"}", null));
+        String code = standIns.awaitAuthCode(email, MAIL_TIMEOUT);
+        send("POST /auth/verify", json("POST", "/auth/verify",
+                "{\"authEmail\":\"" + email + "\",\"authCode\":\"" + code + "\"}", null));
+        send("POST /auth/signup", json("POST", "/auth/signup",
+                "{\"userId\":\"" + email + "\",\"userPassword\":\"" + PASSWORD + "\",\"userName\":\"vu" + index + "\"}", null));
+        return login(email, PASSWORD);
+    }
+
+    private String login(String user, String password) throws Exception {
+        if (user == null || password == null) {
+            throw new IllegalArgumentException("--user and --password are required with --base-url");
+        }
+        HttpResponse<String> response = send("POST /auth/login", json("POST", "/auth/login",
+                "{\"userId\":\"" + user + "\",\"userPassword\":\"" + password + "\"}", null));
+        String cookie = accessTokenCookie(response);
+        if (cookie == null) {
+            throw new IllegalStateException("Login failed: " + response.statusCode());
+        }
+        return cookie;
+    }
+
+    // 요청을 보내고 응답 시간과 성공 여부(2xx, 304)를 기록
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, (System.nanoTime() - start) / 1_000, response.statusCode() / 100 == 2 || response.statusCode() == 304);
+            return response;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            stats.record(endpoint, (System.nanoTime() - start) / 1_000, false);
+            throw e;
+        }
+    }
+
+    private HttpRequest get(String path, String cookie, String etag) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Cookie", cookie)
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest json(String method, String path, String body, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        return builder.build();
+    }
+
+    // 토큰 재발급 응답은 기존 쿠키 삭제(빈 값)와 새 쿠키를 함께 내려주므로 마지막의 비어 있지 않은 값을 사용
+    private static String accessTokenCookie(HttpResponse<?> response) {
+        String cookie = null;
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            if (!header.startsWith(ACCESS_TOKEN + "=")) {
+                continue;
+            }
+            int end = header.indexOf(';');
+            String pair = end > 0 ? header.substring(0, end) : header;
+            if (pair.length() > ACCESS_TOKEN.length() + 1) {
+                cookie = pair;
+            }
+        }
+        return cookie;
+    }
+}
@@ -0,0 +1,138 @@
+package com.lumeneditor.loadtest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 동안 외부 인프라를 대신하는 로컬 서버입니다.
+ * <p>
+ * Redis 는 내장 Redis 서버로, SMTP 는 GreenMail 로 대체합니다.
+ * GreenMail 은 수신한 메일을 메모리에 보관하므로 인증 코드를 메일 본문에서 직접 읽을 수 있습니다.
+ * MySQL 은 애플리케이션 속성으로 MySQL 모드 H2 를 지정하여 대체합니다 ({@link LoadTestSuite} 참고).
+ */
+final class StandIns implements AutoCloseable {
+
+    static final String MAIL_USER = "lumen@localhost";
+    static final String MAIL_PASSWORD = "secret";
+
+    private static final Pattern AUTH_CODE = Pattern.compile("\\b(\\d{6})\\b");
+
+    private final RedisServer redis;
+    private final GreenMail mail;
+    private final int redisPort;
+    private final int smtpPort;
+
+    private StandIns(RedisServer redis, int redisPort, GreenMail mail, int smtpPort) {
+        this.redis = redis;
+        this.redisPort = redisPort;
+        this.mail = mail;
+        this.smtpPort = smtpPort;
+    }
+
+    /**
+     * 사용 가능한 포트로 Redis 와 SMTP 서버를 시작합니다.
+     *
+     * @return 실행 중인 대체 서버입니다.
+     */
+
+    static StandIns start() throws IOException {
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        int smtpPort = freePort();
+        GreenMail mail = new GreenMail(new ServerSetup(smtpPort, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        mail.setUser(MAIL_USER, MAIL_USER, MAIL_PASSWORD);
+        mail.start();
+
+        return new StandIns(redis, redisPort, mail, smtpPort);
+    }
+
+    int redisPort() {
+        return redisPort;
+    }
+
+    int smtpPort() {
+        return smtpPort;
+    }
+
+    /**
+     * 주어진 주소로 발송된 가장 최근 메일에서 6자리 인증 코드를 찾습니다.
+     * 메일은 별도 스레드에서 발송되므로 timeout 동안 주기적으로 다시 확인합니다.
+     *
+     * @param email   인증 코드를 받은 이메일 주소입니다.
+     * @param timeout 메일 도착을 기다릴 최대 시간입니다.
+     * @return 인증 코드입니다.
+     * @throws IllegalStateException timeout 안에 메일이 도착하지 않은 경우
+     */
+
+    String awaitAuthCode(String email, Duration timeout) throws InterruptedException, IOException, MessagingException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            MimeMessage[] messages = mail.getReceivedMessagesForDomain(email);
+            for (int i = messages.length - 1; i >= 0; i--) {
+                if (isAddressedTo(messages[i], email)) {
+                    Matcher matcher = AUTH_CODE.matcher(textOf(messages[i]));
+                    if (matcher.find()) {
+                        return matcher.group(1);
+                    }
+                }
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("No auth code delivered to " + email);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mail.stop();
+        redis.stop();
+    }
+
+    // 주소 접미사가 같은 다른 사용자 메일과 구분
+    private static boolean isAddressedTo(MimeMessage message, String email) throws MessagingException {
+        Address[] recipients = message.getRecipients(Message.RecipientType.TO);
+        if (recipients == null) {
+            return false;
+        }
+        for (Address recipient : recipients) {
+            if (recipient instanceof InternetAddress address && email.equalsIgnoreCase(address.getAddress())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 전송 인코딩(quoted-printable, base64)을 풀어낸 본문 텍스트
+    private static String textOf(Part part) throws IOException, MessagingException {
+        Object content = part.getContent();
+        if (content instanceof Multipart multipart) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                text.append(textOf(multipart.getBodyPart(i))).append('\n');
+            }
+            return text.toString();
+        }
+        return content instanceof String value ? value : "";
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
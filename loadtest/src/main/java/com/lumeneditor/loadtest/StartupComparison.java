@@ -0,0 +1,189 @@
+package com.lumeneditor.loadtest;
+
+import org.h2.tools.RunScript;
+import org.h2.tools.Server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM 실행(bootJar)과 GraalVM 네이티브 실행 파일의 기동 시간과 메모리 사용량을 비교하는 스모크 테스트입니다.
+ * <p>
+ * Redis, SMTP 는 {@link StandIns} 로, MySQL 은 이 프로세스에서 띄운 H2 TCP 서버(MySQL 모드)로 대체합니다.
+ * 애플리케이션이 H2 로 연결할 수 있도록 두 실행 파일 모두 -PsmokeDb 로 빌드해야 합니다.
+ * <p>
+ * 실행마다 프로세스 시작부터 첫 HTTP 응답까지의 시간(time-to-first-request)과 그 시점의 RSS 를 측정하며,
+ * 첫 요청에 응답하지 못하고 종료되면 실패로 처리합니다 (네이티브 이미지의 리플렉션 설정 누락 확인).
+ * <p>
+ * 사용 예시:
+ * ./gradlew bootJar nativeCompile -PsmokeDb
+ * ./gradlew :loadtest:compareStartup --args='--runs=5'
+ * <p>
+ * 옵션:
+ * --jar      bootJar 경로
+ * --native   네이티브 실행 파일 경로
+ * --runs     실행 파일별 반복 횟수 (기본 3)
+ * --timeout  첫 응답을 기다릴 최대 시간 (기본 60s)
+ */
+public final class StartupComparison {
+
+    private static final String SCHEMA = "loadtest-schema.sql";
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        int runs = options.getInt("runs", 3);
+        Duration timeout = options.getDuration("timeout", "60s");
+
+        int h2Port = StandIns.freePort();
+        Server h2 = Server.createTcpServer("-tcpPort", String.valueOf(h2Port), "-ifNotExists").start();
+        String jdbcUrl = "jdbc:h2:tcp://127.0.0.1:" + h2Port + "/mem:lumen;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER";
+
+        // 비교 동안 스키마가 유지되도록 연결을 열어 둠
+        try (StandIns standIns = StandIns.start();
+             Connection schemaConnection = DriverManager.getConnection(jdbcUrl + ";DB_CLOSE_DELAY=-1", "sa", "")) {
+            RunScript.execute(schemaConnection, new InputStreamReader(
+                    StartupComparison.class.getClassLoader().getResourceAsStream(SCHEMA), StandardCharsets.UTF_8));
+
+            List<String> properties = List.of(
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                    "--spring.data.redis.host=127.0.0.1",
+                    "--spring.data.redis.port=" + standIns.redisPort(),
+                    "--spring.mail.host=127.0.0.1",
+                    "--spring.mail.port=" + standIns.smtpPort(),
+                    "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                    "--mail.username=" + StandIns.MAIL_USER,
+                    "--mail.password=" + StandIns.MAIL_PASSWORD);
+
+            System.out.printf("%-8s %4s %14s %10s%n", "mode", "run", "first-req(ms)", "rss(MB)");
+            List<Measurement> jvm = measure("jvm", jvmCommand(options.get("jar")), properties, runs, timeout);
+            List<Measurement> nativeImage = measure("native", nativeCommand(options.get("native")), properties, runs, timeout);
+
+            System.out.println();
+            System.out.printf("%-8s %20s %14s%n", "mode", "median first-req(ms)", "median rss(MB)");
+            summarize("jvm", jvm);
+            summarize("native", nativeImage);
+        } finally {
+            h2.stop();
+        }
+    }
+
+    private static List<String> jvmCommand(String jar) {
+        if (jar == null || !new File(jar).isFile()) {
+            System.out.println("jvm: --jar not found, skipped (" + jar + ")");
+            return null;
+        }
+        return List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar);
+    }
+
+    private static List<String> nativeCommand(String executable) {
+        if (executable == null || !new File(executable).canExecute()) {
+            System.out.println("native: --native not found, skipped (" + executable + ")");
+            return null;
+        }
+        return List.of(executable);
+    }
+
+    private static List<Measurement> measure(String mode, List<String> command, List<String> properties,
+                                             int runs, Duration timeout) throws Exception {
+        List<Measurement> measurements = new ArrayList<>();
+        if (command == null) {
+            return measurements;
+        }
+        for (int run = 1; run <= runs; run++) {
+            Measurement measurement = startOnce(mode, run, command, properties, timeout);
+            measurements.add(measurement);
+            System.out.printf("%-8s %4d %14d %10.1f%n", mode, run, measurement.firstRequestMillis(), measurement.rssKb() / 1024.0);
+        }
+        return measurements;
+    }
+
+    // 프로세스를 시작하고 첫 응답까지의 시간과 그 시점의 RSS 를 측정한 뒤 종료
+    private static Measurement startOnce(String mode, int run, List<String> command, List<String> properties,
+                                         Duration timeout) throws Exception {
+        int port = StandIns.freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.addAll(properties);
+        arguments.add("--server.port=" + port);
+
+        Path log = Files.createTempFile("lumen-startup-" + mode + "-" + run + "-", ".log");
+        Process process = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        long start = System.nanoTime();
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " exited with " + process.exitValue() + " before serving, see " + log);
+                }
+                try {
+                    // 상태 코드와 관계없이 응답이 오면 요청 처리가 가능한 상태
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    return new Measurement(elapsedMillis, rssKb(process.pid()));
+                } catch (IOException e) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException(mode + " did not respond within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // Linux 는 /proc, 그 외에는 ps 로 조회
+    private static long rssKb(long pid) throws Exception {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static void summarize(String mode, List<Measurement> measurements) {
+        if (measurements.isEmpty()) {
+            return;
+        }
+        long[] firstRequest = measurements.stream().mapToLong(Measurement::firstRequestMillis).sorted().toArray();
+        long[] rss = measurements.stream().mapToLong(Measurement::rssKb).sorted().toArray();
+        System.out.printf("%-8s %20d %14.1f%n", mode, firstRequest[firstRequest.length / 2], rss[rss.length / 2] / 1024.0);
+    }
+
+    private record Measurement(long firstRequestMillis, long rssKb) {
+    }
+}
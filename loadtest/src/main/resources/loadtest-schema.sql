@@ -0,0 +1,158 @@
+-- 부하 테스트용 H2 (MODE=MySQL) 스키마
+-- 운영 스키마(src/main/resources/DB)와 엔티티 매핑을 기준으로 작성
+
+CREATE TABLE IF NOT EXISTS user
+(
+    user_key          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id           VARCHAR(255) NOT NULL UNIQUE,
+    user_password     VARCHAR(255) NOT NULL,
+    user_name         VARCHAR(255) NOT NULL,
+    phone_number      VARCHAR(50),
+    accession_date    DATE         NOT NULL,
+    withdrawal_date   DATE,
+    birth_year        INT,
+    occupation        VARCHAR(255),
+    country           VARCHAR(255),
+    gender            VARCHAR(1),
+    email_accept      VARCHAR(1),
+    promo_accept      VARCHAR(1),
+    user_status       VARCHAR(1),
+    out_info          INT,
+    sub_round         INT,
+    company           VARCHAR(255),
+    is_deleted        INT,
+    logo_image        VARCHAR(255),
+    plan_key          BIGINT,
+    password_recovery DATE,
+    role              VARCHAR(50),
+    row_version       BIGINT       NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS email_auth
+(
+    email_auth_key BIGINT AUTO_INCREMENT PRIMARY KEY,
+    auth_email     VARCHAR(255) UNIQUE,
+    auth_code      VARCHAR(20) NOT NULL,
+    auth_status    VARCHAR(1)
+);
+
+CREATE TABLE IF NOT EXISTS workspaces
+(
+    workspaces_key BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_key       BIGINT NOT NULL,
+    row_version    BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_key) REFERENCES user (user_key) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS project_contents
+(
+    content_key      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    timeline         LONGTEXT NOT NULL,
+    version          BIGINT   NOT NULL DEFAULT 0,
+    snapshot_version BIGINT   NOT NULL DEFAULT 0,
+    ref_count        INT      NOT NULL DEFAULT 1,
+    created_date     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS timeline_operations
+(
+    content_key  BIGINT   NOT NULL,
+    version      BIGINT   NOT NULL,
+    operations   LONGTEXT NOT NULL,
+    created_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (content_key, version),
+    FOREIGN KEY (content_key) REFERENCES project_contents (content_key) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS projects
+(
+    project_key       BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_name      VARCHAR(255)    NOT NULL,
+    disclosure_status ENUM ('Y', 'N') NOT NULL DEFAULT 'N',
+    project_date      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    archived          ENUM ('Y', 'N') NOT NULL DEFAULT 'N',
+    workspaces_key    BIGINT          NOT NULL,
+    row_version       BIGINT          NOT NULL DEFAULT 0,
+    content_key       BIGINT,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (content_key) REFERENCES project_contents (content_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_projects_workspace_date ON projects (workspaces_key, archived, project_date, project_key);
+
+CREATE TABLE IF NOT EXISTS media_blobs
+(
+    blob_hash         CHAR(64) NOT NULL PRIMARY KEY,
+    blob_size         BIGINT   NOT NULL,
+    ref_count         INT      NOT NULL DEFAULT 1,
+    created_date      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    unreferenced_date DATETIME
+);
+
+CREATE INDEX IF NOT EXISTS idx_media_blobs_unreferenced ON media_blobs (unreferenced_date);
+
+CREATE TABLE IF NOT EXISTS workspace_media
+(
+    media_key      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    workspaces_key BIGINT       NOT NULL,
+    blob_hash      CHAR(64)     NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255) NOT NULL,
+    created_date   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (blob_hash) REFERENCES media_blobs (blob_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_workspace_media_list ON workspace_media (workspaces_key, media_key);
+CREATE INDEX IF NOT EXISTS idx_workspace_media_blob ON workspace_media (workspaces_key, blob_hash);
+
+CREATE TABLE IF NOT EXISTS upload_sessions
+(
+    upload_id      CHAR(36)     NOT NULL PRIMARY KEY,
+    workspaces_key BIGINT       NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255) NOT NULL,
+    total_size     BIGINT       NOT NULL,
+    chunk_size     INT          NOT NULL,
+    part_count     INT          NOT NULL,
+    status         VARCHAR(20)  NOT NULL DEFAULT 'OPEN',
+    created_date   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_created ON upload_sessions (created_date);
+
+CREATE TABLE IF NOT EXISTS upload_parts
+(
+    upload_id   CHAR(36) NOT NULL,
+    part_number INT      NOT NULL,
+    part_hash   CHAR(64) NOT NULL,
+    PRIMARY KEY (upload_id, part_number),
+    FOREIGN KEY (upload_id) REFERENCES upload_sessions (upload_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS render_jobs
+(
+    job_key        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_key    BIGINT       NOT NULL,
+    workspaces_key BIGINT       NOT NULL,
+    format         VARCHAR(10)  NOT NULL,
+    timeline       LONGTEXT     NOT NULL,
+    status         VARCHAR(20)  NOT NULL DEFAULT 'QUEUED',
+    progress       INT          NOT NULL DEFAULT 0,
+    attempts       INT          NOT NULL DEFAULT 0,
+    run_after      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    worker_id      CHAR(36),
+    heartbeat_date DATETIME,
+    media_key      BIGINT,
+    error_message  VARCHAR(500),
+    created_date   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_date   DATETIME,
+    finished_date  DATETIME,
+    FOREIGN KEY (project_key) REFERENCES projects (project_key) ON DELETE CASCADE,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (media_key) REFERENCES workspace_media (media_key) ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_render_jobs_queue ON render_jobs (status, run_after, job_key);
+CREATE INDEX IF NOT EXISTS idx_render_jobs_workspace ON render_jobs (workspaces_key, status, job_key);
@@ -0,0 +1,33 @@
+package com.lumeneditor.www.comm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 형식 검사와 인증번호 생성을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailUtilsBenchmark {
+
+    @Param({"user@lumen.com", "very.long.first.last+tag_2024@subdomain.mail.example-company.co.kr", "not-an-email"})
+    public String email;
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return EmailUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public String createCode() {
+        return EmailUtils.createCode();
+    }
+}
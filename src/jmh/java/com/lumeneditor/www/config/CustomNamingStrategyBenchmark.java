@@ -0,0 +1,28 @@
+package com.lumeneditor.www.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 필드 이름을 컬럼 이름으로 바꾸는 addUnderscores 를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomNamingStrategyBenchmark {
+
+    @Param({"role", "userPassword", "workSpaces.projectDisclosureStatusUpdatedAt"})
+    public String name;
+
+    @Benchmark
+    public String addUnderscores() {
+        return CustomNamingStrategy.addUnderscores(name);
+    }
+}
@@ -0,0 +1,100 @@
+package com.lumeneditor.www.config;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 방식별 인코딩/디코딩 시간과 페이로드 크기를 비교합니다.
+ * 인코딩 벤치마크는 {@link Payload} 보조 카운터로 만든 바이트 수(encodedBytes)와 값 개수(encodedValues)를 결과에 함께 기록하며,
+ * 값 하나의 크기는 encodedBytes / encodedValues 입니다. 두 카운터는 같은 방식으로 합산되므로 반복 횟수와 관계없이 나눈 값이 정확합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisValueCodecBenchmark {
+
+    private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQGx1bWVuLmNvbSIsImV4cCI6MTcxMDAwMDAwMH0"
+            + ".f1E2d3C4b5A6f7E8d9C0b1A2f3E4d5C6b7A8f9E0d1C";
+
+    @Param({"JDK", "JSON", "CBOR"})
+    public RedisValueCodec codec;
+
+    private RedisSerializer<CachedProfile> serializer;
+    private CachedProfile profile;
+    private byte[] encoded;
+
+    private final RedisSerializer<Object> jdkTokenSerializer = new JdkSerializationRedisSerializer();
+    private final RedisSerializer<String> utf8TokenSerializer = RedisSerializer.string();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = codec.serializer(CachedProfile.class);
+        profile = new CachedProfile(42L, "user@lumen.com", "홍길동", "010-1234-5678",
+                LocalDateTime.of(2024, 3, 1, 12, 0), List.of(1001L, 1002L, 1003L, 1004L));
+        encoded = serializer.serialize(profile);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) {
+        return payload.record(serializer.serialize(profile));
+    }
+
+    @Benchmark
+    public CachedProfile decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    @Benchmark
+    public byte[] encodeTokenJdk(Payload payload) {
+        return payload.record(jdkTokenSerializer.serialize(REFRESH_TOKEN));
+    }
+
+    @Benchmark
+    public byte[] encodeTokenUtf8(Payload payload) {
+        return payload.record(utf8TokenSerializer.serialize(REFRESH_TOKEN));
+    }
+
+    /**
+     * 인코딩 결과 크기를 JMH 보조 카운터로 기록합니다.
+     * 공개 필드가 벤치마크 결과에 encodedBytes, encodedValues 항목으로 함께 출력됩니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long encodedBytes;
+        public long encodedValues;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+            encodedValues = 0;
+        }
+
+        byte[] record(byte[] bytes) {
+            encodedBytes += bytes.length;
+            encodedValues++;
+            return bytes;
+        }
+    }
+
+    // 캐시 대상 DTO 와 비슷한 구성의 샘플 (JDK 직렬화 비교를 위해 Serializable)
+    public record CachedProfile(Long userKey, String userId, String userName, String phoneNumber,
+                                LocalDateTime joinDate, List<Long> workspaceKeys) implements Serializable {
+    }
+}
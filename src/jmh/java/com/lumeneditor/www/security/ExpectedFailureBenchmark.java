@@ -0,0 +1,95 @@
+package com.lumeneditor.www.security;
+
+import com.lumeneditor.www.exception.CustomException;
+import com.lumeneditor.www.exception.CustomExpiredJwtException;
+import com.lumeneditor.www.exception.ExpectedCustomException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 토큰 처리와 예상된 실패 예외의 비용을 비교합니다.
+ * <p>
+ * expiredToken* 은 기존 방식(요청마다 파서 생성, ExpiredJwtException 을 감싼 새 예외)과 parse() 결과 객체 방식을,
+ * throw* 는 stackDepth 만큼 깊은 호출 스택(필터 체인 흉내)에서 새 CustomException 과 공유 ExpectedCustomException 을 비교합니다.
+ * {@code ./gradlew jmh -PjmhIncludes=ExpectedFailure -PjmhProfilers=gc} 로 실행하면 호출당 할당량도 함께 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpectedFailureBenchmark {
+
+    private static final String SECRET = "64461f01e1s23mf93ngrg2fd9501ce59142452199ff112fb5404c8e7e98e3ff";
+
+    @Param({"16", "128"})
+    public int stackDepth;
+
+    private Key key;
+    private JwtTokenProvider provider;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        provider = new JwtTokenProvider(null, SECRET); // RedisTemplate 은 토큰 발급에만 사용
+        expiredToken = Jwts.builder()
+                .setSubject("user@lumen.com")
+                .claim("roles", "ROLE_User")
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Object expiredTokenLegacy() {
+        try {
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(expiredToken).getBody();
+        } catch (ExpiredJwtException e) {
+            return new CustomExpiredJwtException("Expired JWT Token", e);
+        }
+    }
+
+    @Benchmark
+    public TokenParseResult expiredTokenParseResult() {
+        return provider.parse(expiredToken);
+    }
+
+    @Benchmark
+    public Object throwNewCustomException() {
+        try {
+            return descend(stackDepth, false);
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwSharedExpectedException() {
+        try {
+            return descend(stackDepth, true);
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+
+    private static Object descend(int depth, boolean shared) {
+        if (depth == 0) {
+            throw shared ? ExpectedCustomException.TOKEN_VALIDATION_FAILED : new CustomException("Token validation failed");
+        }
+        return descend(depth - 1, shared);
+    }
+}
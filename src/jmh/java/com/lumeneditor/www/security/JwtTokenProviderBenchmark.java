@@ -0,0 +1,89 @@
+package com.lumeneditor.www.security;
+
+import com.lumeneditor.www.web.dto.auth.JwtToken;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 의 토큰 발급/검증 경로를 측정합니다.
+ * generateToken 의 Redis 저장은 아무 일도 하지 않는 ValueOperations 로 대체하여 토큰 생성 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "64461f01e1s23mf93ngrg2fd9501ce59142452199ff112fb5404c8e7e98e3ff";
+
+    private JwtTokenProvider provider;
+    private Authentication authentication;
+    private com.lumeneditor.www.domain.auth.entity.User user;
+    private String accessToken;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(noOpRedisTemplate(), SECRET);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_User"));
+        authentication = new UsernamePasswordAuthenticationToken("user@lumen.com", "", authorities);
+        user = new com.lumeneditor.www.domain.auth.entity.User("user@lumen.com", "", "User");
+
+        accessToken = provider.generateAccessToken(user);
+        claims = provider.parseAndValidateToken(accessToken, false);
+    }
+
+    @Benchmark
+    public JwtToken generateToken() {
+        return provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parseAndValidateToken() {
+        return provider.parseAndValidateToken(accessToken, false);
+    }
+
+    // 필터 경로: 토큰 문자열에서 인증 정보까지 (파싱 포함)
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(accessToken);
+    }
+
+    // 이미 파싱된 클레임에서 인증 정보만 생성
+    @Benchmark
+    public Authentication getAuthenticationFromClaims() {
+        return provider.getAuthentication(claims);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> noOpRedisTemplate() {
+        ValueOperations<String, String> noOp = (ValueOperations<String, String>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(), new Class<?>[]{ValueOperations.class}, (proxy, method, args) -> null);
+        return new RedisTemplate<>() {
+            @Override
+            public ValueOperations<String, String> opsForValue() {
+                return noOp;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.lumeneditor.www.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lumeneditor.www.comm.eunm.Gender;
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.auth.entity.User;
+import com.lumeneditor.www.web.dto.account.UserResponse;
+import com.lumeneditor.www.web.dto.auth.JwtToken;
+import com.lumeneditor.www.web.dto.auth.TokenResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /main/user, /auth/login 응답의 직렬화 시간과 크기를 엔티티/기존 DTO 와 응답 레코드로 비교합니다.
+ * mapper=blackbird 는 애플리케이션과 같이 Blackbird 모듈을 등록한 ObjectMapper 입니다.
+ * 응답 크기는 {@link Payload} 보조 카운터로 결과에 함께 기록되며, 응답 하나의 크기는 encodedBytes / encodedValues 입니다.
+ * <p>
+ * ./gradlew jmh -PjmhIncludes=ResponseSerialization -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"default", "blackbird"})
+    public String mapper;
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private UserResponse userResponse;
+    private JwtToken jwtToken;
+    private TokenResponse tokenResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Spring Boot 기본 설정과 같이 날짜를 문자열로 기록
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("blackbird".equals(mapper)) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+
+        user = User.builder()
+                .userKey(42L)
+                .userId("user@lumen.com")
+                .userPassword("")
+                .userName("루멘")
+                .phoneNumber("010-1234-5678")
+                .accessionDate(new java.sql.Date(System.currentTimeMillis()))
+                .birthYear(1995)
+                .occupation("editor")
+                .country("KR")
+                .gender(Gender.F)
+                .emailAccept(YesNo.Y)
+                .promoAccept(YesNo.N)
+                .userStatus(YesNo.Y)
+                .outInfo(0)
+                .subRound(0)
+                .isDeleted(0)
+                .planKey(1L)
+                .passwordRecovery(new Date())
+                .role("User")
+                .build();
+        userResponse = UserResponse.from(user);
+        jwtToken = JwtToken.builder().grantType("Bearer").accessToken("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQGx1bWVuLmNvbSJ9.signature").build();
+        tokenResponse = TokenResponse.from(jwtToken);
+    }
+
+    @Benchmark
+    public byte[] userEntity(Payload payload) throws Exception {
+        return payload.record(objectMapper.writeValueAsBytes(user));
+    }
+
+    // 엔티티 조회 후 변환까지 포함
+    @Benchmark
+    public byte[] userResponse(Payload payload) throws Exception {
+        return payload.record(objectMapper.writeValueAsBytes(UserResponse.from(user)));
+    }
+
+    @Benchmark
+    public byte[] jwtToken(Payload payload) throws Exception {
+        return payload.record(objectMapper.writeValueAsBytes(jwtToken));
+    }
+
+    @Benchmark
+    public byte[] tokenResponse(Payload payload) throws Exception {
+        return payload.record(objectMapper.writeValueAsBytes(tokenResponse));
+    }
+
+    /**
+     * 직렬화된 응답 크기를 JMH 보조 카운터로 기록합니다.
+     * 공개 필드가 벤치마크 결과에 encodedBytes, encodedValues 항목으로 함께 출력됩니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long encodedBytes;
+        public long encodedValues;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+            encodedValues = 0;
+        }
+
+        byte[] record(byte[] bytes) {
+            encodedBytes += bytes.length;
+            encodedValues++;
+            return bytes;
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.lumeneditor.www;
 
+import com.lumeneditor.www.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
+@ImportRuntimeHints(NativeHints.class)
 public class LumenEditorApplication {
 
+	// 기동 단계 기록 개수 (빈 하나당 1개 이상, 초과분은 버림)
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(LumenEditorApplication.class, args);
+		SpringApplication application = new SpringApplication(LumenEditorApplication.class);
+		// 기동 단계별 소요 시간 기록 (StartupTimingReporter, /admin/startup)
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -1,6 +1,8 @@
 package com.lumeneditor.www.aspect;
 
+import com.lumeneditor.www.comm.RateLimitedLogger;
 import com.lumeneditor.www.exception.CustomException;
+import com.lumeneditor.www.exception.ExpectedCustomException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -11,10 +13,14 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1));
+
     /**
      * HTTP 요청 메서드가 지원되지 않을 때의 예외를 처리합니다.
      * 클라이언트가 서버가 인식할 수 없거나 지원하지 않는 HTTP 메서드를 사용했을 때 발생합니다.
@@ -100,4 +106,21 @@ public class GlobalExceptionHandler {
                 .body("Custom error: " + ex.getMessage());
     }
 
+    /**
+     * 정상적인 흐름에서 자주 발생하는 예상된 예외를 처리합니다.
+     * 만료되거나 유효하지 않은 토큰처럼 반복되는 실패는 스택 트레이스 없이 빈도가 제한된 INFO 로그로만 기록합니다.
+     * 응답은 CustomException 과 동일합니다.
+     *
+     * @param ex 발생한 ExpectedCustomException 예외 인스턴스입니다.
+     * @return HTTP 400 상태 코드와 함께, 사용자 정의 오류가 발생했음을 설명하는 메시지를 담은 ResponseEntity 객체를 반환합니다.
+     */
+
+    @ExceptionHandler(ExpectedCustomException.class)
+    public ResponseEntity<String> handleExpectedCustomException(ExpectedCustomException ex) {
+        rateLimitedLog.info(ex.getMessage(), "ExpectedCustomException: " + ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body("Custom error: " + ex.getMessage());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.lumeneditor.www.comm;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Enumeration;
+
+public class ETagUtil {
+    private ETagUtil() {
+    }
+
+    /**
+     * 요청의 If-None-Match 헤더가 현재 ETag 와 일치하는지 확인합니다.
+     * <p>
+     * If-None-Match 는 GET 요청에서 약한 비교를 사용하므로 W/ 접두사는 무시합니다.
+     * 응답 압축 시 서버가 강한 ETag 를 약한 ETag 로 바꾸어 보내더라도 같은 값으로 판단합니다.
+     *
+     * @param request 현재 HTTP 요청입니다.
+     * @param etag    현재 자원의 ETag (따옴표 포함)입니다.
+     * @return 클라이언트가 가진 표현이 현재와 같으면 true 를 반환합니다.
+     */
+
+    public static boolean isNotModified(HttpServletRequest request, String etag) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        String current = stripWeak(etag);
+        while (headers.hasMoreElements()) {
+            for (String candidate : headers.nextElement().split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || stripWeak(value).equals(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청의 If-Range 조건을 확인합니다. Range 요청을 부분 응답으로 처리해도 되는지 판단할 때 사용합니다.
+     * <p>
+     * If-Range 는 강한 비교를 사용하므로 약한 ETag 나 날짜 값은 일치하지 않는 것으로 판단하며,
+     * 이 경우 Range 를 무시하고 전체 내용을 보내야 합니다.
+     *
+     * @param request 현재 HTTP 요청입니다.
+     * @param etag    현재 자원의 ETag (따옴표 포함)입니다.
+     * @return If-Range 가 없거나 현재 ETag 와 같으면 true 를 반환합니다.
+     */
+
+    public static boolean matchesIfRange(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+
+}
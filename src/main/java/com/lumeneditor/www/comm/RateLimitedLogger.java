@@ -0,0 +1,88 @@
+package com.lumeneditor.www.comm;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RateLimitedLogger {
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 종류의 로그를 interval 마다 한 번만 기록하는 로거를 생성합니다.
+     * <p>
+     * 만료 토큰처럼 정상적인 흐름에서 반복되는 실패를 매번 기록하지 않기 위해 사용합니다.
+     * 기록이 생략된 횟수는 다음 기록 시 "(N suppressed)" 로 함께 출력됩니다.
+     *
+     * @param log      실제로 기록할 로거입니다.
+     * @param interval 같은 키의 로그를 기록하는 최소 간격입니다.
+     */
+
+    public RateLimitedLogger(Logger log, Duration interval) {
+        this.log = log;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void debug(String key, String message) {
+        log(Level.DEBUG, key, "{}", message);
+    }
+
+    public void info(String key, String message) {
+        log(Level.INFO, key, "{}", message);
+    }
+
+    /**
+     * 형식 문자열과 인자로 INFO 로그를 기록합니다. 메시지는 실제로 기록할 때만 만들어지므로, 생략되는 로그에는 문자열을 만들지 않습니다.
+     *
+     * @param key    빈도를 제한할 로그의 종류입니다.
+     * @param format SLF4J 형식 문자열입니다 ({} 자리에 arg 가 들어감).
+     * @param arg    형식 문자열의 인자입니다.
+     */
+
+    public void info(String key, String format, Object arg) {
+        log(Level.INFO, key, format, arg);
+    }
+
+    public void warn(String key, String message) {
+        log(Level.WARN, key, "{}", message);
+    }
+
+    private void log(Level level, String key, String format, Object arg) {
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        long suppressed = windows.computeIfAbsent(key, k -> new Window()).tryAcquire(intervalNanos);
+        if (suppressed < 0) {
+            return;
+        }
+        log.atLevel(level)
+                .setMessage(format + " ({} suppressed)")
+                .addArgument(arg)
+                .addArgument(suppressed)
+                .log();
+    }
+
+    // 키별 마지막 기록 시각과 생략 횟수
+    private static final class Window {
+
+        private final AtomicLong lastLoggedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+        private final AtomicLong suppressed = new AtomicLong();
+
+        // 기록해도 되면 그동안 생략된 횟수를, 아니면 -1 을 반환
+        private long tryAcquire(long intervalNanos) {
+            long now = System.nanoTime();
+            long last = lastLoggedAt.get();
+            if (now - last >= intervalNanos && lastLoggedAt.compareAndSet(last, now)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.lumeneditor.www.comm;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class RedisHotKeyCache implements AutoCloseable {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisClient client;
+    private final CacheFrontend<String, String> frontend;
+
+    private RedisHotKeyCache(RedisTemplate<String, String> redisTemplate, RedisClient client, CacheFrontend<String, String> frontend) {
+        this.redisTemplate = redisTemplate;
+        this.client = client;
+        this.frontend = frontend;
+    }
+
+    /**
+     * 클라이언트 측 캐시 없이 RedisTemplate 으로 바로 조회하는 인스턴스를 생성합니다.
+     *
+     * @param redisTemplate 조회에 사용할 RedisTemplate 입니다.
+     * @return 캐시가 비활성화된 RedisHotKeyCache 입니다.
+     */
+
+    public static RedisHotKeyCache disabled(RedisTemplate<String, String> redisTemplate) {
+        return new RedisHotKeyCache(redisTemplate, null, null);
+    }
+
+    /**
+     * RESP3 클라이언트 트래킹을 사용하는 클라이언트 측 캐시를 활성화합니다.
+     * <p>
+     * 전용 연결에서 CLIENT TRACKING 을 켜고, 조회한 키를 최대 maxEntries 개까지 LRU 방식으로 메모리에 보관합니다.
+     * 키와 값은 RedisTemplate 의 직렬화 방식을 그대로 사용하므로 템플릿으로 저장한 값과 항상 같은 형태로 읽힙니다.
+     *
+     * @param redisTemplate 직렬화 설정과 장애 시 대체 조회에 사용할 RedisTemplate 입니다.
+     * @param client        트래킹 전용 연결을 생성할 RedisClient 입니다. RESP3 프로토콜이 설정되어 있어야 합니다.
+     * @param maxEntries    로컬에 보관할 최대 키 개수입니다.
+     * @return 캐시가 활성화된 RedisHotKeyCache 입니다.
+     */
+
+    @SuppressWarnings("unchecked")
+    public static RedisHotKeyCache enabled(RedisTemplate<String, String> redisTemplate, RedisClient client, int maxEntries) {
+        RedisCodec<String, String> codec = new SerializerCodec(
+                (RedisSerializer<String>) redisTemplate.getKeySerializer(),
+                (RedisSerializer<String>) redisTemplate.getValueSerializer());
+        StatefulRedisConnection<String, String> connection = client.connect(codec);
+
+        CacheFrontend<String, String> frontend = ClientSideCaching.enable(
+                new LruCacheAccessor(maxEntries), connection, TrackingArgs.Builder.enabled());
+        return new RedisHotKeyCache(redisTemplate, client, frontend);
+    }
+
+    /**
+     * 키에 해당하는 값을 조회합니다.
+     * 캐시가 활성화되어 있으면 로컬 캐시를 먼저 확인하고, 없을 때만 Redis 에 조회합니다.
+     * 트래킹 연결에 문제가 생긴 경우에는 RedisTemplate 으로 직접 조회합니다.
+     *
+     * @param key 조회할 키입니다.
+     * @return 저장된 값, 키가 없으면 null 입니다.
+     */
+
+    public String get(String key) {
+        if (frontend == null) {
+            return redisTemplate.opsForValue().get(key);
+        }
+        try {
+            return frontend.get(key);
+        } catch (RedisException e) {
+            log.warn("Client-side cache lookup failed, falling back to direct read: {}", e.getMessage());
+            return redisTemplate.opsForValue().get(key);
+        }
+    }
+
+    /**
+     * 키의 존재 여부를 확인합니다.
+     * 캐시가 활성화되어 있으면 로컬 캐시에 보관된 값으로 판단하여 Redis 왕복을 생략합니다.
+     *
+     * @param key 확인할 키입니다.
+     * @return 키가 존재하면 true 입니다.
+     */
+
+    public boolean exists(String key) {
+        if (frontend == null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        }
+        return get(key) != null;
+    }
+
+    @Override
+    public void close() {
+        if (frontend != null) {
+            frontend.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+
+    // 최대 maxEntries 개를 보관하는 LRU 로컬 캐시 (가상 스레드 고정 방지를 위해 synchronized 대신 ReentrantLock 사용)
+    private static final class LruCacheAccessor implements CacheAccessor<String, String> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, String> store;
+
+        private LruCacheAccessor(int maxEntries) {
+            this.store = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        @Override
+        public String get(String key) {
+            lock.lock();
+            try {
+                return store.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void put(String key, String value) {
+            lock.lock();
+            try {
+                store.put(key, value);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void evict(String key) {
+            lock.lock();
+            try {
+                store.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // RedisTemplate 의 직렬화 방식을 Lettuce 코덱으로 변환
+    private record SerializerCodec(RedisSerializer<String> keySerializer,
+                                   RedisSerializer<String> valueSerializer) implements RedisCodec<String, String> {
+
+        @Override
+        public String decodeKey(ByteBuffer bytes) {
+            return keySerializer.deserialize(toArray(bytes));
+        }
+
+        @Override
+        public String decodeValue(ByteBuffer bytes) {
+            return valueSerializer.deserialize(toArray(bytes));
+        }
+
+        @Override
+        public ByteBuffer encodeKey(String key) {
+            return ByteBuffer.wrap(keySerializer.serialize(key));
+        }
+
+        @Override
+        public ByteBuffer encodeValue(String value) {
+            return ByteBuffer.wrap(valueSerializer.serialize(value));
+        }
+
+        private static byte[] toArray(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.lumeneditor.www.comm;
+
+public class RedisKeys {
+
+    private static final String PROJECT_CHANNEL_PREFIX = "collab:project:";
+    private static final String RENDER_CHANNEL_PREFIX = "render:job:";
+
+    private RedisKeys() {
+    }
+
+    /**
+     * 사용자의 리프레시 토큰을 저장하는 Redis 키를 생성합니다.
+     * <p>
+     * 키는 "{user:사용자ID}" 형태의 해시 태그로 시작하므로, 클러스터 모드에서도
+     * 같은 사용자의 키(리프레시 토큰, 프로필 등)는 항상 하나의 슬롯에 배치됩니다.
+     *
+     * @param userId 사용자 ID(이메일)입니다.
+     * @return 리프레시 토큰 키 문자열입니다.
+     */
+
+    public static String refreshToken(String userId) {
+        return userTag(userId) + ":refresh-token";
+    }
+
+    /**
+     * 사용자의 캐시된 프로필을 저장하는 Redis 키를 생성합니다.
+     *
+     * @param userId 사용자 ID(이메일)입니다.
+     * @return 프로필 캐시 키 문자열입니다.
+     */
+
+    public static String profile(String userId) {
+        return userTag(userId) + ":profile";
+    }
+
+    /**
+     * 프로젝트의 공동 편집 변경을 전달하는 Pub/Sub 채널 이름을 생성합니다.
+     *
+     * @param projectKey 프로젝트의 키입니다.
+     * @return 채널 이름입니다.
+     */
+
+    public static String projectChannel(Long projectKey) {
+        return PROJECT_CHANNEL_PREFIX + projectKey;
+    }
+
+    /**
+     * 모든 프로젝트의 공동 편집 채널을 구독하는 패턴입니다.
+     *
+     * @return 채널 패턴입니다.
+     */
+
+    public static String projectChannelPattern() {
+        return PROJECT_CHANNEL_PREFIX + "*";
+    }
+
+    /**
+     * 공동 편집 채널 이름에서 프로젝트 키를 추출합니다.
+     *
+     * @param channel 채널 이름입니다.
+     * @return 프로젝트 키, 공동 편집 채널이 아니면 null 입니다.
+     */
+
+    public static Long projectKeyOfChannel(String channel) {
+        return keyOfChannel(PROJECT_CHANNEL_PREFIX, channel);
+    }
+
+    /**
+     * 렌더링 작업의 진행 상황을 전달하는 Pub/Sub 채널 이름을 생성합니다.
+     *
+     * @param jobKey 렌더링 작업의 키입니다.
+     * @return 채널 이름입니다.
+     */
+
+    public static String renderChannel(Long jobKey) {
+        return RENDER_CHANNEL_PREFIX + jobKey;
+    }
+
+    /**
+     * 모든 렌더링 작업의 진행 상황 채널을 구독하는 패턴입니다.
+     *
+     * @return 채널 패턴입니다.
+     */
+
+    public static String renderChannelPattern() {
+        return RENDER_CHANNEL_PREFIX + "*";
+    }
+
+    /**
+     * 렌더링 진행 상황 채널 이름에서 작업 키를 추출합니다.
+     *
+     * @param channel 채널 이름입니다.
+     * @return 작업 키, 렌더링 채널이 아니면 null 입니다.
+     */
+
+    public static Long jobKeyOfChannel(String channel) {
+        return keyOfChannel(RENDER_CHANNEL_PREFIX, channel);
+    }
+
+    // 접두사 뒤의 숫자 키 (형식이 다르면 null)
+    private static Long keyOfChannel(String prefix, String channel) {
+        if (channel == null || !channel.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(channel.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 클러스터 해시 슬롯 계산에 사용되는 사용자 해시 태그
+    private static String userTag(String userId) {
+        return "{user:" + userId + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.lumeneditor.www.comm;
+
+/**
+ * 행의 키와 변경 버전(row_version)입니다. 본문 없이 ETag 를 계산할 때 조회합니다.
+ *
+ * @param key     행의 기본 키입니다.
+ * @param version 행이 변경될 때마다 1씩 증가하는 버전입니다.
+ */
+public record RowVersion(Long key, Long version) {
+
+    // 키와 버전으로 만든 강한 ETag (예: "42.7")
+    public String etag() {
+        return "\"" + key + "." + version + "\"";
+    }
+}
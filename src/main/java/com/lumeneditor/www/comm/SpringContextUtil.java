@@ -8,10 +8,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class SpringContextUtil implements ApplicationContextAware {
 
-    private static ApplicationContext context;
+    // 시작 시 한 번만 설정되므로 동기화 대신 volatile 로 가시성만 보장
+    private static volatile ApplicationContext context;
 
     @Override
-    public synchronized void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         SpringContextUtil.context = applicationContext;
     }
 
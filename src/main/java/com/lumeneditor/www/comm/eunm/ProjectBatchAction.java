@@ -0,0 +1,5 @@
+package com.lumeneditor.www.comm.eunm;
+
+public enum ProjectBatchAction {
+    ARCHIVE, UNARCHIVE, DELETE, DUPLICATE, SET_DISCLOSURE // 보관, 보관 해제, 삭제, 복제, 공개 여부 변경
+}
@@ -0,0 +1,18 @@
+package com.lumeneditor.www.comm.eunm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum RenderFormat {
+    MP4("mp4", "video/mp4", List.of("-c:v", "libx264", "-preset", "veryfast", "-pix_fmt", "yuv420p",
+            "-c:a", "aac", "-movflags", "+faststart", "-f", "mp4")),
+    WEBM("webm", "video/webm", List.of("-c:v", "libvpx-vp9", "-row-mt", "1", "-c:a", "libopus", "-f", "webm"));
+
+    private final String extension;
+    private final String contentType;
+    private final List<String> ffmpegArgs; // 출력 파일 앞에 붙는 ffmpeg 인코딩 옵션
+}
@@ -0,0 +1,10 @@
+package com.lumeneditor.www.comm.eunm;
+
+public enum RenderStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELED; // 대기, 렌더링 중, 완료, 실패, 취소
+
+    // 더 이상 바뀌지 않는 상태
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELED;
+    }
+}
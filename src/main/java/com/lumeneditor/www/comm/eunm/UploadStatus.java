@@ -0,0 +1,5 @@
+package com.lumeneditor.www.comm.eunm;
+
+public enum UploadStatus {
+    OPEN, COMPLETING // 조각 업로드 중, 완료 처리 중 (조각 업로드 불가)
+}
@@ -0,0 +1,126 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.monitoring.SqlStatementStats;
+import com.lumeneditor.www.monitoring.SqlTimingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${lumen.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${lumen.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${lumen.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${lumen.datasource.replica.maximum-pool-size:10}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${lumen.datasource.replica.max-lag:2s}")
+    private Duration replicaMaxLag;
+
+    @Value("${lumen.datasource.replica.lag-check-interval:1s}")
+    private Duration replicaLagCheckInterval;
+
+    @Value("${lumen.datasource.sticky-window:3s}")
+    private Duration stickyWindow;
+
+    /**
+     * 쓰기와 기본 읽기를 처리하는 기본 DB 연결 풀을 생성합니다.
+     * spring.datasource 설정으로 생성하며, 풀 설정은 spring.datasource.hikari 를 따릅니다.
+     *
+     * @param properties spring.datasource 설정입니다.
+     * @return 기본 DB 의 HikariDataSource 입니다.
+     */
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 처리하는 복제본 연결 풀을 생성합니다.
+     * lumen.datasource.replica.url 이 설정된 경우에만 생성됩니다.
+     *
+     * @param properties 드라이버 클래스를 공유할 spring.datasource 설정입니다.
+     * @return 복제본의 HikariDataSource 입니다.
+     */
+
+    @Bean
+    @ConditionalOnProperty("lumen.datasource.replica.url")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaUrl);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        dataSource.setMaximumPoolSize(replicaMaximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 복제본의 복제 지연을 주기적으로 확인하는 모니터를 생성합니다.
+     *
+     * @param replicaDataSource 확인할 복제본 DataSource 입니다.
+     * @return 복제 지연 모니터입니다.
+     */
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("lumen.datasource.replica.url")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaMaxLag, replicaLagCheckInterval);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource 를 생성합니다.
+     * <p>
+     * 복제본이 설정되어 있으면 읽기 전용 트랜잭션을 복제본으로 보내는 ReplicationRoutingDataSource 를,
+     * 없으면 기본 DB 를 그대로 사용합니다. 어느 경우든 LazyConnectionDataSourceProxy 로 감싸서
+     * 실제 쿼리가 실행될 때까지 연결 획득을 미루므로, 쿼리가 없는 트랜잭션은 연결 풀을 사용하지 않습니다.
+     * 실제 연결은 SqlTimingDataSource 를 거치므로 모든 SQL 의 실행 시간이 SqlStatementStats 에 집계됩니다.
+     *
+     * @param primaryDataSource 기본 DB DataSource 입니다.
+     * @param replicaDataSource 복제본 DataSource 입니다. 설정되지 않은 경우 비어 있습니다.
+     * @param lagMonitor        복제 지연 모니터입니다. 설정되지 않은 경우 비어 있습니다.
+     * @param sqlStatementStats SQL 실행 통계 집계기입니다.
+     * @return JPA 와 JDBC 가 사용하는 기본 DataSource 입니다.
+     */
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> lagMonitor,
+                                 SqlStatementStats sqlStatementStats) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return new LazyConnectionDataSourceProxy(new SqlTimingDataSource(primaryDataSource, sqlStatementStats));
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource, replica, lagMonitor.getObject(), stickyWindow);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(new SqlTimingDataSource(routingDataSource, sqlStatementStats));
+    }
+}
@@ -0,0 +1,30 @@
+package com.lumeneditor.www.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 응답 직렬화에 Blackbird 모듈을 등록합니다.
+     * <p>
+     * Blackbird 는 getter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 바꾸어
+     * 직렬화할 때마다 발생하는 리플렉션 호출 비용을 줄입니다.
+     * 네이티브 이미지에서는 런타임에 클래스를 정의할 수 없으므로 등록하지 않습니다.
+     *
+     * @return ObjectMapper 빌더 설정입니다.
+     */
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+        return builder -> {
+            if (!NativeDetector.inNativeImage()) {
+                builder.modulesToInstall(new BlackbirdModule());
+            }
+        };
+    }
+}
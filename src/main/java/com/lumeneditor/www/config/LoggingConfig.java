@@ -0,0 +1,22 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.logging.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * {@code @Async} 실행기에 요청의 MDC 를 전달하는 TaskDecorator 를 등록합니다.
+     * Spring Boot 의 기본 작업 실행기(applicationTaskExecutor)가 자동으로 사용합니다.
+     *
+     * @return MDC 를 복사하는 TaskDecorator 입니다.
+     */
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
@@ -0,0 +1,125 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.comm.eunm.Gender;
+import com.lumeneditor.www.comm.eunm.ProjectBatchAction;
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+import com.lumeneditor.www.comm.eunm.UploadStatus;
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.auth.entity.EmailAuth;
+import com.lumeneditor.www.domain.auth.entity.User;
+import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
+import com.lumeneditor.www.domain.main.account.ProfileCache;
+import com.lumeneditor.www.domain.media.entity.MediaBlob;
+import com.lumeneditor.www.domain.media.entity.UploadSession;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.domain.myproject.entity.ProjectContent;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import com.lumeneditor.www.domain.myproject.entity.TimelineOperation;
+import com.lumeneditor.www.domain.render.entity.RenderJob;
+import com.lumeneditor.www.logging.RingBufferAppender;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * GraalVM 네이티브 이미지에서 리플렉션, 리소스, 동적 프록시로 접근하는 타입을 등록합니다.
+ * <p>
+ * 스프링 빈, 컨트롤러 요청/응답 타입, JPA 엔티티는 빌드 시 AOT 처리로 대부분 등록되지만,
+ * 클래스 이름 문자열로 로드되는 타입(jjwt 구현체, 네이밍 전략, logback 어펜더, 메일 프로바이더)과
+ * 직접 생성하는 JDK 프록시는 여기서 등록해야 합니다.
+ * Lettuce, Netty, MySQL 드라이버는 라이브러리에 포함된 메타데이터와 GraalVM 메타데이터 저장소를 사용합니다.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] ALL_MEMBERS = {
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS,
+            MemberCategory.DECLARED_FIELDS
+    };
+
+    // jjwt 0.11 은 API 모듈에서 구현체를 클래스 이름으로 생성하고, 직렬화/압축 구현은 ServiceLoader 로 찾음
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private static final List<String> JJWT_SERVICES = List.of(
+            "META-INF/services/io.jsonwebtoken.io.Serializer",
+            "META-INF/services/io.jsonwebtoken.io.Deserializer",
+            "META-INF/services/io.jsonwebtoken.CompressionCodec");
+
+    // logback-spring.xml 에서 클래스 이름으로 생성하고 setter 로 설정하는 타입
+    private static final List<String> LOGBACK_TYPES = List.of(
+            "ch.qos.logback.classic.encoder.JsonEncoder",
+            "ch.qos.logback.core.rolling.RollingFileAppender",
+            "ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy");
+
+    // Jakarta Mail 은 프로바이더와 본문 처리기를 설정 파일에 적힌 클래스 이름으로 로드
+    private static final List<String> MAIL_TYPES = List.of(
+            "org.eclipse.angus.mail.smtp.SMTPTransport",
+            "org.eclipse.angus.mail.smtp.SMTPSSLTransport",
+            "org.eclipse.angus.mail.handlers.text_plain",
+            "org.eclipse.angus.mail.handlers.text_html",
+            "org.eclipse.angus.mail.handlers.multipart_mixed");
+
+    private static final List<String> MAIL_RESOURCES = List.of(
+            "META-INF/javamail.providers",
+            "META-INF/javamail.default.providers",
+            "META-INF/javamail.default.address.map",
+            "META-INF/mailcap");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // jjwt
+        JJWT_TYPES.forEach(type -> hints.reflection().registerTypeIfPresent(classLoader, type, ALL_MEMBERS));
+        JJWT_SERVICES.forEach(hints.resources()::registerPattern);
+
+        // JPA 엔티티 (요청 본문 바인딩에도 사용)와 열거형 컬럼
+        for (Class<?> type : List.of(User.class, WorkSpaces.class, Projects.class, ProjectContent.class, EmailAuth.class,
+                MediaBlob.class, WorkspaceMedia.class, UploadSession.class, TimelineOperation.class, TimelineOperation.Key.class,
+                RenderJob.class, Gender.class, YesNo.class, ProjectBatchAction.class, UploadStatus.class, RenderStatus.class,
+                RenderFormat.class)) {
+            hints.reflection().registerType(type, ALL_MEMBERS);
+        }
+
+        // Redis 프로필 캐시 값은 컨트롤러 반환 타입이 아니므로 직렬화용으로 직접 등록
+        hints.reflection().registerType(ProfileCache.CachedProfile.class, ALL_MEMBERS);
+
+        // spring.jpa.hibernate.naming.physical-strategy 로 지정되어 Hibernate 가 이름으로 생성
+        hints.reflection().registerType(CustomNamingStrategy.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // logback
+        hints.reflection().registerType(RingBufferAppender.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        LOGBACK_TYPES.forEach(type -> hints.reflection().registerTypeIfPresent(classLoader, type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // SMTP
+        MAIL_TYPES.forEach(type -> hints.reflection().registerTypeIfPresent(classLoader, type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+        MAIL_RESOURCES.forEach(hints.resources()::registerPattern);
+
+        // SQL 실행 시간 측정 프록시 (SqlTimingDataSource)
+        for (Class<?> type : List.of(Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class)) {
+            hints.proxies().registerJdkProxy(type);
+        }
+
+        // Lettuce 풀 모드(commons-pool2)의 기본 만료 정책은 클래스 이름으로 생성
+        hints.reflection().registerTypeIfPresent(classLoader, "org.apache.commons.pool2.impl.DefaultEvictionPolicy",
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
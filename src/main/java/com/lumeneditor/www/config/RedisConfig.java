@@ -1,45 +1,175 @@
 package com.lumeneditor.www.config;
 
+import com.lumeneditor.www.comm.RedisHotKeyCache;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Slf4j
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Lettuce 연결 사용 방식입니다.
+     * SHARED 는 하나의 네이티브 연결을 멀티플렉싱하고 풀은 블로킹/트랜잭션 명령에만 사용합니다.
+     * POOLED 는 모든 명령마다 풀에서 전용 연결을 대여합니다.
+     */
+    public enum ConnectionMode {
+        SHARED, POOLED
+    }
+
+    /**
+     * Redis 배포 형태입니다.
+     * STANDALONE 은 단일 노드(복제본 자동 탐색), SENTINEL 은 센티널이 관리하는 마스터/복제본,
+     * CLUSTER 는 해시 슬롯으로 분산된 Redis 클러스터에 연결합니다.
+     */
+    public enum Topology {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
     @Value("${spring.data.redis.host}")
     private String host;
 
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${spring.data.redis.password:}")
+    private String password;
+
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.lettuce.shutdown-timeout:100ms}")
+    private Duration shutdownTimeout;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:-1ms}")
+    private Duration poolMaxWait;
+
+    @Value("${spring.data.redis.lettuce.pool.time-between-eviction-runs:-1ms}")
+    private Duration poolEvictionInterval;
+
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String[] sentinelNodes;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String[] clusterNodes;
+
+    @Value("${spring.data.redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    @Value("${spring.data.redis.lettuce.cluster.refresh.period:30s}")
+    private Duration clusterRefreshPeriod;
+
+    @Value("${lumen.redis.topology:STANDALONE}")
+    private Topology topology;
+
+    @Value("${lumen.redis.read-from:upstream}")
+    private String readFrom;
+
+    @Value("${lumen.redis.value-codec:CBOR}")
+    private RedisValueCodec valueCodec;
+
+    @Value("${lumen.redis.connection-mode:SHARED}")
+    private ConnectionMode connectionMode;
+
+    @Value("${lumen.redis.execute-pipelined-flush-size:0}")
+    private int executePipelinedFlushSize;
+
+    @Value("${lumen.redis.client-cache.enabled:false}")
+    private boolean clientCacheEnabled;
+
+    @Value("${lumen.redis.client-cache.max-entries:10000}")
+    private int clientCacheMaxEntries;
+
     /**
      * Redis 연결 팩토리를 생성하는 메서드입니다.
      * 이 메서드는 Spring Data Redis와 Lettuce 클라이언트를 사용하여
      * Redis 서버에 연결하기 위한 연결 팩토리를 설정하고 생성합니다.
-     * RedisStandaloneConfiguration을 사용하여 Redis 서버의 호스트 이름과 포트를 설정합니다.
-     * 이 설정은 단일 노드 Redis 환경에 대한 기본 연결 설정을 제공합니다.
+     * lumen.redis.topology 에 따라 단일 노드, 센티널, 클러스터 구성 중 하나로 연결하며,
+     * 쓰기와 일반 조회는 모두 마스터(upstream) 노드로 전달됩니다.
+     * application.yml의 spring.data.redis.lettuce.pool 설정으로 연결 풀을 구성하고,
+     * 명령 타임아웃과 재연결 정책을 클라이언트 옵션으로 적용합니다.
+     * lumen.redis.connection-mode 에 따라 공유 연결 또는 풀 전용 연결 방식을 선택하며,
+     * lumen.redis.execute-pipelined-flush-size 가 0보다 크면 executePipelined 호출 안의 명령을 해당 개수만큼 모아서 전송합니다.
+     * 이 설정은 명시적인 파이프라인에만 적용되며, 일반 템플릿/리포지토리 명령은 그대로 명령마다 전송됩니다.
      *
      * @return LettuceConnectionFactory를 사용하여 생성된 RedisConnectionFactory 객체입니다.
      *         이 객체는 Redis 서버와의 연결을 관리하며, RedisTemplate에 의해 사용됩니다.
      */
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(host);
-        config.setPort(port);
-        return new LettuceConnectionFactory(config);
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory() {
+        return createConnectionFactory(null);
+    }
+
+    /**
+     * 읽기 전용 조회를 복제본으로 보내기 위한 연결 팩토리를 생성합니다.
+     * lumen.redis.read-from 값(예: replicaPreferred)을 Lettuce ReadFrom 으로 적용하며,
+     * 버전으로 유효성을 확인하는 프로필 캐시처럼 복제 지연을 허용하는 조회에만 사용합니다.
+     * 리프레시 토큰처럼 삭제 즉시 반영되어야 하는 키는 복제본에서 읽지 않습니다.
+     * read-from 이 upstream 이면 생성되지 않습니다.
+     *
+     * @return 복제본 우선 조회가 설정된 LettuceConnectionFactory 객체입니다.
+     */
+
+    @Bean
+    @Lazy
+    public LettuceConnectionFactory replicaRedisConnectionFactory() {
+        return createConnectionFactory(ReadFrom.valueOf(readFrom));
     }
 
     /**
      * 애플리케이션에서 Redis 데이터 작업을 수행하기 위한 RedisTemplate 인스턴스를 생성합니다.
      * 이 메서드는 Redis와의 데이터 교환을 위한 템플릿을 제공합니다. RedisTemplate은
      * String 타입의 키와 값에 대한 Redis 연산을 캡슐화합니다.
+     * 키와 값은 JDK 직렬화 헤더 없이 UTF-8 원문으로 저장하여 토큰 값의 메모리와 네트워크 사용량을 줄입니다.
      * RedisConnectionFactory를 사용하여 Redis 서버와의 연결을 설정합니다.
      *
      * @return Redis 작업을 위해 구성된 RedisTemplate<String, String> 인스턴스입니다.
@@ -48,9 +178,189 @@ public class RedisConfig {
 
     @Bean
     public RedisTemplate<String, String> redisTemplate() {
+        return stringTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * DTO 캐시용 RedisTemplate 을 만드는 팩토리를 생성합니다.
+     * 값 직렬화 방식은 lumen.redis.value-codec(JDK, JSON, CBOR) 설정을 따릅니다.
+     * 쓰기는 기본 연결 팩토리로, 조회 전용 템플릿은 lumen.redis.read-from 이 upstream 이 아니면 복제본 연결로 만듭니다.
+     *
+     * @return 기본 연결 팩토리를 사용하는 RedisTemplateFactory 입니다.
+     */
+
+    @Bean
+    public RedisTemplateFactory redisTemplateFactory() {
+        RedisConnectionFactory readConnectionFactory = isReplicaRead() ? replicaRedisConnectionFactory() : redisConnectionFactory();
+        return new RedisTemplateFactory(redisConnectionFactory(), readConnectionFactory, valueCodec);
+    }
+
+    /**
+     * 리프레시 토큰처럼 자주 조회되는 키를 위한 읽기 캐시를 생성합니다.
+     * 로그아웃으로 삭제된 토큰이 복제 지연 동안 유효하게 보이지 않도록 lumen.redis.read-from 과 관계없이 마스터에서 조회합니다.
+     * lumen.redis.client-cache.enabled 가 true 이면 RESP3 클라이언트 트래킹을 사용하는 전용 연결을 마스터에 열어
+     * 조회한 값을 로컬 메모리에 보관하고, 다른 클라이언트가 키를 변경하면 Redis 의 무효화 메시지로 즉시 제거합니다.
+     * 클라이언트 측 캐시는 단일 노드와 센티널 구성에서만 사용할 수 있습니다.
+     *
+     * @param redisTemplate 쓰기 및 캐시 미스 시 조회에 사용할 RedisTemplate 입니다.
+     * @return 설정에 따라 구성된 RedisHotKeyCache 인스턴스입니다.
+     */
+
+    @Bean(destroyMethod = "close")
+    public RedisHotKeyCache redisHotKeyCache(RedisTemplate<String, String> redisTemplate) {
+        if (!clientCacheEnabled) {
+            return RedisHotKeyCache.disabled(redisTemplate);
+        }
+        if (topology == Topology.CLUSTER) {
+            log.warn("Client-side caching is not supported in cluster topology; reading hot keys directly.");
+            return RedisHotKeyCache.disabled(redisTemplate);
+        }
+
+        RedisClient client = RedisClient.create(hotKeyCacheUri());
+        // 클라이언트 측 캐시 무효화 메시지(push)는 RESP3 에서만 같은 연결로 전달됩니다.
+        client.setOptions(clientOptions().mutate().protocolVersion(ProtocolVersion.RESP3).build());
+        return RedisHotKeyCache.enabled(redisTemplate, client, clientCacheMaxEntries);
+    }
+
+    /**
+     * Redis Pub/Sub 메시지를 받는 리스너 컨테이너를 생성합니다.
+     * 구독 전용 연결 하나를 열어 두고, 등록된 채널/패턴의 메시지를 리스너에 전달합니다 (공동 편집 변경 전파).
+     *
+     * @return 기본 연결 팩토리를 사용하는 RedisMessageListenerContainer 입니다.
+     */
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    // 토폴로지와 ReadFrom 설정으로 연결 팩토리 생성 (readFrom 이 null 이면 마스터 전용)
+    private LettuceConnectionFactory createConnectionFactory(ReadFrom readFrom) {
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig())
+                .clientOptions(clientOptions())
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(shutdownTimeout);
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(topologyConfiguration(), builder.build());
+        // SHARED: 단일 연결 멀티플렉싱, POOLED: 명령마다 풀에서 연결 대여
+        factory.setShareNativeConnection(connectionMode == ConnectionMode.SHARED);
+        if (executePipelinedFlushSize > 0) {
+            // executePipelined 안의 명령만 모아서 flush (일반 명령은 영향 없음)
+            factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(executePipelinedFlushSize));
+        }
+        return factory;
+    }
+
+    // lumen.redis.topology 에 맞는 연결 구성
+    private RedisConfiguration topologyConfiguration() {
+        switch (topology) {
+            case SENTINEL -> {
+                RedisSentinelConfiguration config = new RedisSentinelConfiguration(sentinelMaster, new LinkedHashSet<>(nodes(sentinelNodes)));
+                if (StringUtils.hasText(password)) {
+                    config.setPassword(password);
+                }
+                return config;
+            }
+            case CLUSTER -> {
+                RedisClusterConfiguration config = new RedisClusterConfiguration(nodes(clusterNodes));
+                config.setMaxRedirects(clusterMaxRedirects);
+                if (StringUtils.hasText(password)) {
+                    config.setPassword(password);
+                }
+                return config;
+            }
+            default -> {
+                RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+                config.setHostName(host);
+                config.setPort(port);
+                if (StringUtils.hasText(password)) {
+                    config.setPassword(password);
+                }
+                return config;
+            }
+        }
+    }
+
+    // 키와 값을 UTF-8 문자열로 저장하는 템플릿
+    private static RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.string());
         return template;
     }
 
+    // 클라이언트 측 캐시 전용 연결 주소 (센티널이면 센티널을 통해 마스터를 찾음)
+    private RedisURI hotKeyCacheUri() {
+        RedisURI.Builder uri;
+        if (topology == Topology.SENTINEL) {
+            List<String> sentinels = nodes(sentinelNodes);
+            String[] first = sentinels.get(0).split(":");
+            uri = RedisURI.Builder.sentinel(first[0], Integer.parseInt(first[1]), sentinelMaster);
+            for (String sentinel : sentinels.subList(1, sentinels.size())) {
+                String[] hostAndPort = sentinel.split(":");
+                uri.withSentinel(hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+            }
+        } else {
+            uri = RedisURI.Builder.redis(host, port);
+        }
+        uri.withTimeout(commandTimeout);
+        if (StringUtils.hasText(password)) {
+            uri.withPassword(password.toCharArray());
+        }
+        return uri.build();
+    }
+
+    private boolean isReplicaRead() {
+        return !"upstream".equalsIgnoreCase(readFrom) && !"master".equalsIgnoreCase(readFrom);
+    }
+
+    private static List<String> nodes(String[] values) {
+        return Arrays.stream(values).map(String::trim).filter(StringUtils::hasText).toList();
+    }
+
+    // spring.data.redis.lettuce.pool 설정으로 연결 풀 구성
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> pool = new GenericObjectPoolConfig<>();
+        pool.setMaxTotal(poolMaxActive);
+        pool.setMaxIdle(poolMaxIdle);
+        pool.setMinIdle(poolMinIdle);
+        pool.setMaxWait(poolMaxWait);
+        if (!poolEvictionInterval.isNegative() && !poolEvictionInterval.isZero()) {
+            pool.setTimeBetweenEvictionRuns(poolEvictionInterval);
+        }
+        return pool;
+    }
+
+    // 명령 타임아웃, 연결 타임아웃, 재연결 정책을 담은 클라이언트 옵션 (클러스터는 토폴로지 갱신 포함)
+    private ClientOptions clientOptions() {
+        ClientOptions options = ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(connectTimeout)
+                        .keepAlive(true)
+                        .build())
+                .build();
+
+        if (topology != Topology.CLUSTER) {
+            return options;
+        }
+        return ClusterClientOptions.builder(options)
+                .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                        .enablePeriodicRefresh(clusterRefreshPeriod)
+                        .enableAllAdaptiveRefreshTriggers()
+                        .build())
+                .build();
+    }
+
 }
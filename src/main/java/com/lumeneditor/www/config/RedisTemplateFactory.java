@@ -0,0 +1,59 @@
+package com.lumeneditor.www.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@RequiredArgsConstructor
+public class RedisTemplateFactory {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisConnectionFactory readConnectionFactory;
+    private final RedisValueCodec valueCodec;
+
+    /**
+     * DTO 캐시용 RedisTemplate 을 생성합니다.
+     * <p>
+     * 키는 UTF-8 문자열로, 값은 lumen.redis.value-codec 으로 설정된 방식(기본 CBOR)으로 직렬화합니다.
+     * 값 타입별로 직렬화기를 미리 만들어 두므로, 캐시를 사용하는 빈의 생성자에서 한 번만 호출하여 재사용합니다.
+     *
+     * @param valueType 캐시할 값의 클래스입니다.
+     * @param <T>       값의 타입입니다.
+     * @return 초기화가 완료된 RedisTemplate 입니다.
+     */
+
+    public <T> RedisTemplate<String, T> create(Class<T> valueType) {
+        return create(connectionFactory, valueType);
+    }
+
+    /**
+     * DTO 캐시 조회 전용 RedisTemplate 을 생성합니다.
+     * <p>
+     * lumen.redis.read-from 이 upstream 이 아니면 복제본 연결을 사용하므로 복제 지연만큼 오래된 값을 읽을 수 있습니다.
+     * 읽은 값의 유효성을 따로 확인할 수 있는 캐시(예: 버전이 함께 저장된 프로필)에만 사용하고,
+     * 토큰처럼 보안에 관련된 키는 {@link #create(Class)} 나 기본 RedisTemplate 으로 마스터에서 읽어야 합니다.
+     *
+     * @param valueType 캐시할 값의 클래스입니다.
+     * @param <T>       값의 타입입니다.
+     * @return 초기화가 완료된 조회용 RedisTemplate 입니다.
+     */
+
+    public <T> RedisTemplate<String, T> createReader(Class<T> valueType) {
+        return create(readConnectionFactory, valueType);
+    }
+
+
+    private <T> RedisTemplate<String, T> create(RedisConnectionFactory factory, Class<T> valueType) {
+        RedisSerializer<T> valueSerializer = valueCodec.serializer(valueType);
+
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
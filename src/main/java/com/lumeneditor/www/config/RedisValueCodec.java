@@ -0,0 +1,55 @@
+package com.lumeneditor.www.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 에 캐시하는 DTO 값의 직렬화 방식입니다.
+ * JDK 는 Serializable 기반의 기존 방식, JSON 은 사람이 읽을 수 있는 텍스트, CBOR 는 가장 작은 바이너리 형식입니다.
+ * 토큰 같은 문자열 값은 이 설정과 관계없이 항상 UTF-8 원문으로 저장됩니다.
+ */
+public enum RedisValueCodec {
+
+    JDK {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> RedisSerializer<T> serializer(Class<T> type) {
+            return (RedisSerializer<T>) new JdkSerializationRedisSerializer(type.getClassLoader());
+        }
+    },
+
+    JSON {
+        @Override
+        public <T> RedisSerializer<T> serializer(Class<T> type) {
+            return new Jackson2JsonRedisSerializer<>(Mappers.JSON, type);
+        }
+    },
+
+    CBOR {
+        @Override
+        public <T> RedisSerializer<T> serializer(Class<T> type) {
+            return new CborRedisSerializer<>(type);
+        }
+    };
+
+    /**
+     * 주어진 타입의 값을 이 방식으로 직렬화하는 RedisSerializer 를 생성합니다.
+     *
+     * @param type 직렬화할 값의 클래스입니다.
+     * @param <T>  값의 타입입니다.
+     * @return 타입 전용 RedisSerializer 입니다.
+     */
+    public abstract <T> RedisSerializer<T> serializer(Class<T> type);
+
+    // enum 상수 초기화 순서와 무관하게 사용할 공용 매퍼
+    private static final class Mappers {
+        private static final ObjectMapper JSON = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+}
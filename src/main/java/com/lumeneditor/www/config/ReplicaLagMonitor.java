@@ -0,0 +1,97 @@
+package com.lumeneditor.www.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    // MySQL 8.0.22 이상 (이전 버전은 SHOW SLAVE STATUS / Seconds_Behind_Master)
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean replicaUsable = false;
+    private volatile long lagSeconds = -1;
+
+    /**
+     * 복제본의 복제 지연을 주기적으로 확인하는 모니터를 생성하고 즉시 시작합니다.
+     * <p>
+     * 지연이 maxLag 를 넘거나, 복제가 중단되었거나(Seconds_Behind_Source 가 NULL), 상태 조회에 실패하면
+     * 복제본을 사용할 수 없는 것으로 판단하여 읽기 전용 트랜잭션도 기본 DB 로 보냅니다.
+     * 첫 확인이 끝나기 전까지는 안전하게 기본 DB 를 사용합니다.
+     *
+     * @param replicaDataSource 지연을 확인할 복제본 DataSource 입니다.
+     * @param maxLag            복제본을 사용할 수 있는 최대 지연 시간입니다.
+     * @param checkInterval     확인 주기입니다.
+     */
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 복제본으로 읽기를 보내도 되는지 여부
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    // 마지막으로 확인한 복제 지연(초), 확인 불가 시 -1
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private void check() {
+        long lag = readLagSeconds();
+        boolean usable = lag >= 0 && lag <= maxLagSeconds;
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica reads enabled (lag {}s)", lag);
+            } else {
+                log.warn("Replica reads disabled (lag {}s, max {}s), routing reads to primary", lag, maxLagSeconds);
+            }
+        }
+        lagSeconds = lag;
+        replicaUsable = usable;
+    }
+
+    private long readLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_SQL)) {
+
+            if (!resultSet.next()) {
+                return -1; // 복제 설정이 없는 서버
+            }
+            long lag = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? -1 : lag; // NULL: 복제 스레드 중단
+        } catch (SQLException e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
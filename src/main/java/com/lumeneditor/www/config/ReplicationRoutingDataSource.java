@@ -0,0 +1,95 @@
+package com.lumeneditor.www.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {PRIMARY, REPLICA}
+
+    // 이 크기를 넘으면 만료된 쓰기 기록을 정리
+    private static final int STICKY_PURGE_THRESHOLD = 10_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyWindowNanos;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 트랜잭션 속성에 따라 기본 DB 와 복제본으로 연결을 나누는 DataSource 를 생성합니다.
+     * <p>
+     * {@code @Transactional(readOnly = true)} 트랜잭션은 복제본으로, 그 외에는 기본 DB 로 보냅니다.
+     * 단, 복제 지연이 허용치를 넘었거나 같은 사용자가 stickyWindow 이내에 쓰기를 커밋한 경우에는
+     * 자신이 방금 쓴 값을 읽을 수 있도록(read-your-writes) 읽기 전용 트랜잭션도 기본 DB 로 보냅니다.
+     * 트랜잭션의 읽기 전용 여부는 첫 쿼리 시점에 확정되므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+     *
+     * @param primary      쓰기와 기본 읽기를 처리하는 DataSource 입니다.
+     * @param replica      읽기 전용 트랜잭션을 처리하는 DataSource 입니다.
+     * @param lagMonitor   복제본 사용 가능 여부를 제공하는 모니터입니다.
+     * @param stickyWindow 쓰기 이후 같은 사용자의 읽기를 기본 DB 에 고정하는 시간입니다.
+     */
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, Duration stickyWindow) {
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(userId);
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable() || recentlyWrote(userId)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 해당 사용자의 마지막 쓰기 시각을 기록
+    private void registerWrite(String userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByUser.put(userId, System.nanoTime());
+            }
+        });
+    }
+
+    private boolean recentlyWrote(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (lastWriteByUser.size() > STICKY_PURGE_THRESHOLD) {
+            lastWriteByUser.values().removeIf(writtenAt -> now - writtenAt > stickyWindowNanos);
+        }
+        Long writtenAt = lastWriteByUser.get(userId);
+        return writtenAt != null && now - writtenAt <= stickyWindowNanos;
+    }
+
+    // JwtAuthenticationFilter 가 설정한 인증 정보의 사용자 아이디
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -4,9 +4,11 @@ import com.lumeneditor.www.exception.JwtAccessDeniedHandler;
 import com.lumeneditor.www.exception.JwtAuthenticationEntryPoint;
 import com.lumeneditor.www.security.JwtAuthenticationFilter;
 import com.lumeneditor.www.security.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -81,6 +83,11 @@ public class SecurityConfig {
                 .requestMatchers("/auth/login", "/auth/signup", "/auth/send-auth-code", "auth/verify", "auth/access-token").permitAll()
                 // "/" 루트 경로에 대한 접근은 모든 사용자에게 허용
                 .requestMatchers("/").permitAll()
+                // 서명된 미디어 URL 은 서명으로 확인하므로 인증 없이 허용 (MediaUrlSigner)
+                .requestMatchers(HttpMethod.GET, "/media/signed/**").permitAll()
+                // SSE 등 비동기 응답의 완료 디스패치는 이미 인가된 요청의 후속 처리이므로 허용
+                // (JWT 필터는 GenericFilterBean 이라 ASYNC 디스패치에서도 다시 실행되며, 긴 SSE 연결 중 토큰이 만료되면 여기서 거부됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 나머지 모든 요청에 대한 접근은 인증된 사용자에게만 허용
                 .anyRequest().authenticated());
 
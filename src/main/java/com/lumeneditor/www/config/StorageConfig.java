@@ -0,0 +1,26 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.domain.media.BlobStorage;
+import com.lumeneditor.www.domain.media.LocalBlobStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class StorageConfig {
+
+    /**
+     * 미디어 원본 저장소입니다. S3 호환 저장소를 사용할 때는 같은 {@link BlobStorage} 구현으로 이 빈을 교체합니다.
+     *
+     * @param root 원본 파일을 저장할 로컬 디렉터리입니다. 없으면 생성합니다.
+     * @return 로컬 파일 시스템 저장소입니다.
+     */
+
+    @Bean
+    public BlobStorage blobStorage(@Value("${lumen.storage.local.root}") Path root) throws IOException {
+        return new LocalBlobStorage(root);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.monitoring.EndpointLatencyRecorder;
+import com.lumeneditor.www.monitoring.EndpointTimingInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<EndpointLatencyRecorder> endpointLatencyRecorder;
+    private final double debugSampleRate;
+
+    public WebMvcConfig(ObjectProvider<EndpointLatencyRecorder> endpointLatencyRecorder,
+                        @Value("${lumen.web.timing.debug-sample-rate:0.01}") double debugSampleRate) {
+        this.endpointLatencyRecorder = endpointLatencyRecorder;
+        this.debugSampleRate = debugSampleRate;
+    }
+
+    /**
+     * 컨트롤러 처리 시간을 측정하는 인터셉터를 등록합니다.
+     * 지연 시간 기록기 빈이 없는 컨텍스트(@WebMvcTest 슬라이스 등)에서는 측정하지 않습니다.
+     *
+     * @param registry 인터셉터 등록 객체입니다.
+     */
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        endpointLatencyRecorder.ifAvailable(recorder ->
+                registry.addInterceptor(new EndpointTimingInterceptor(recorder, debugSampleRate)));
+    }
+}
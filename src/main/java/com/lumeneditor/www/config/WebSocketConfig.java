@@ -0,0 +1,97 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.domain.collab.CollaborationChannelInterceptor;
+import com.lumeneditor.www.domain.collab.CollaborationSessionExpiry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final CollaborationChannelInterceptor collaborationChannelInterceptor;
+    private final CollaborationSessionExpiry collaborationSessionExpiry;
+    private final TaskScheduler messageBrokerTaskScheduler;
+
+    // 비어 있으면 같은 Origin 의 핸드셰이크만 허용
+    @Value("${lumen.collab.allowed-origins:}")
+    private String[] allowedOrigins;
+
+    @Value("${lumen.collab.heartbeat:25s}")
+    private Duration heartbeat;
+
+    // 하트비트 전송 스케줄러는 브로커 설정 중에 생성되는 빈이므로 지연 주입
+    public WebSocketConfig(CollaborationChannelInterceptor collaborationChannelInterceptor,
+                           CollaborationSessionExpiry collaborationSessionExpiry,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.collaborationChannelInterceptor = collaborationChannelInterceptor;
+        this.collaborationSessionExpiry = collaborationSessionExpiry;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
+    /**
+     * 공동 편집 STOMP 엔드포인트를 등록합니다.
+     * 핸드셰이크는 일반 HTTP 요청이므로 보안 필터 체인에서 accessToken 쿠키로 인증되며,
+     * 인증된 사용자가 WebSocket 세션의 Principal 이 됩니다.
+     * 쿠키 인증은 다른 사이트의 페이지에서도 전송되므로(CSWSH), Origin 은 같은 Origin 과 lumen.collab.allowed-origins 에
+     * 나열한 패턴만 허용합니다. 세션은 핸드셰이크에 사용한 토큰이 만료되면 닫힙니다.
+     *
+     * @param registry STOMP 엔드포인트 등록 객체입니다.
+     */
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/collab")
+                .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(collaborationSessionExpiry);
+    }
+
+    /**
+     * WebSocket 세션 처리기에 토큰 만료 시 세션을 닫는 데코레이터를 추가합니다.
+     *
+     * @param registration WebSocket 전송 설정 객체입니다.
+     */
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(collaborationSessionExpiry);
+    }
+
+    /**
+     * 메시지 브로커를 구성합니다.
+     * 서버 간 전파는 Redis Pub/Sub 으로 하므로 각 서버는 자신에게 연결된 구독자만 관리하는 내장 브로커를 사용합니다.
+     *
+     * @param registry 메시지 브로커 등록 객체입니다.
+     */
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeatMillis = heartbeat.toMillis();
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    /**
+     * 클라이언트가 보내는 프레임의 구독 권한을 확인하는 인터셉터를 등록합니다.
+     *
+     * @param registration 클라이언트 수신 채널 등록 객체입니다.
+     */
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(collaborationChannelInterceptor);
+    }
+}
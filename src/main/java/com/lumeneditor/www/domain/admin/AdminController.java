@@ -0,0 +1,59 @@
+package com.lumeneditor.www.domain.admin;
+
+import com.lumeneditor.www.web.dto.admin.EndpointLatency;
+import com.lumeneditor.www.web.dto.admin.LogPipelineStats;
+import com.lumeneditor.www.web.dto.admin.SqlStatementStat;
+import com.lumeneditor.www.web.dto.admin.StartupStepTiming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/")
+@PreAuthorize("hasRole('Admin')")
+public class AdminController {
+
+    private final AdminService adminService;
+
+    // SQL 문장별 실행 통계
+    @GetMapping("sql-stats")
+    public ResponseEntity<List<SqlStatementStat>> getSqlStats(@RequestParam(defaultValue = "50") int limit) {
+        return adminService.getSqlStats(limit);
+    }
+
+    // SQL 실행 통계 초기화
+    @DeleteMapping("sql-stats")
+    public ResponseEntity<Boolean> resetSqlStats() {
+        return adminService.resetSqlStats();
+    }
+
+    // 엔드포인트별 지연 시간 분포 (p50/p99/max)
+    @GetMapping("endpoint-latency")
+    public ResponseEntity<List<EndpointLatency>> getEndpointLatency() {
+        return adminService.getEndpointLatency();
+    }
+
+    // 엔드포인트 지연 시간 분포 초기화
+    @DeleteMapping("endpoint-latency")
+    public ResponseEntity<Boolean> resetEndpointLatency() {
+        return adminService.resetEndpointLatency();
+    }
+
+    // 비동기 로그 파이프라인 상태 (큐 사용량, 버려진 이벤트 수)
+    @GetMapping("log-pipeline")
+    public ResponseEntity<List<LogPipelineStats>> getLogPipelineStats() {
+        return adminService.getLogPipelineStats();
+    }
+
+    // 기동 시 가장 오래 걸린 단계 (빈 생성 등)
+    @GetMapping("startup")
+    public ResponseEntity<List<StartupStepTiming>> getStartupSteps() {
+        return adminService.getStartupSteps();
+    }
+
+
+}
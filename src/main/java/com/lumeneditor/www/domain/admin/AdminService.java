@@ -0,0 +1,74 @@
+package com.lumeneditor.www.domain.admin;
+
+import com.lumeneditor.www.web.dto.admin.EndpointLatency;
+import com.lumeneditor.www.web.dto.admin.LogPipelineStats;
+import com.lumeneditor.www.web.dto.admin.SqlStatementStat;
+import com.lumeneditor.www.web.dto.admin.StartupStepTiming;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public interface AdminService {
+
+    /**
+     * SQL 문장별 실행 통계를 조회합니다.
+     * <p>
+     * 애플리케이션 시작(또는 마지막 초기화) 이후 실행된 SQL 을 문장별로 집계한 실행 횟수, 누적/평균/최대 실행 시간,
+     * 느린 쿼리 횟수를 누적 실행 시간이 큰 순서로 반환합니다.
+     *
+     * @param limit 반환할 최대 문장 수입니다.
+     * @return SQL 문장별 통계 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<SqlStatementStat>> getSqlStats(int limit);
+
+    /**
+     * 누적된 SQL 실행 통계를 초기화합니다.
+     *
+     * @return 초기화 성공 여부를 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> resetSqlStats();
+
+    /**
+     * 엔드포인트별 응답 지연 시간 분포를 조회합니다.
+     * <p>
+     * 컨트롤러 처리 시간을 HDR 히스토그램으로 누적한 호출 수, p50, p99, 최대, 평균 지연 시간(마이크로초)을
+     * p99 가 큰 순서로 반환합니다.
+     *
+     * @return 엔드포인트별 지연 시간 요약 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<EndpointLatency>> getEndpointLatency();
+
+    /**
+     * 누적된 엔드포인트 지연 시간 분포를 초기화합니다.
+     *
+     * @return 초기화 성공 여부를 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> resetEndpointLatency();
+
+    /**
+     * 비동기 로그 파이프라인의 상태를 조회합니다.
+     * <p>
+     * 로그를 기록하는 각 링 버퍼 어펜더의 큐 크기, 현재 대기 중인 이벤트 수, 시작 이후 버려진 이벤트 수를 반환합니다.
+     *
+     * @return 어펜더별 로그 파이프라인 상태 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<LogPipelineStats>> getLogPipelineStats();
+
+    /**
+     * 애플리케이션 기동 시 가장 오래 걸린 단계를 조회합니다.
+     * <p>
+     * 컨텍스트 준비, 빈 생성 등 기동 단계의 이름, 태그(빈 이름 등), 소요 시간을 소요 시간이 긴 순서로 반환합니다.
+     * 빈 생성 시간은 그 빈이 의존하는 빈의 생성 시간을 포함합니다.
+     *
+     * @return 기동 단계 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<StartupStepTiming>> getStartupSteps();
+
+
+}
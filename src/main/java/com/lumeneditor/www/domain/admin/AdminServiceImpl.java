@@ -0,0 +1,87 @@
+package com.lumeneditor.www.domain.admin;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.lumeneditor.www.logging.RingBufferAppender;
+import com.lumeneditor.www.monitoring.EndpointLatencyRecorder;
+import com.lumeneditor.www.monitoring.SqlStatementStats;
+import com.lumeneditor.www.monitoring.StartupTimingReporter;
+import com.lumeneditor.www.web.dto.admin.EndpointLatency;
+import com.lumeneditor.www.web.dto.admin.LogPipelineStats;
+import com.lumeneditor.www.web.dto.admin.SqlStatementStat;
+import com.lumeneditor.www.web.dto.admin.StartupStepTiming;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminServiceImpl implements AdminService {
+
+    private final SqlStatementStats sqlStatementStats;
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+    private final StartupTimingReporter startupTimingReporter;
+
+
+    // SQL 문장별 실행 통계
+    @Override
+    public ResponseEntity<List<SqlStatementStat>> getSqlStats(int limit) {
+        return ResponseEntity.ok()
+                .header("X-Untracked-Executions", String.valueOf(sqlStatementStats.getUntrackedExecutions()))
+                .body(sqlStatementStats.snapshot(limit));
+    }
+
+    // SQL 실행 통계 초기화
+    @Override
+    public ResponseEntity<Boolean> resetSqlStats() {
+        sqlStatementStats.reset();
+        return ResponseEntity.ok(true);
+    }
+
+    // 엔드포인트별 지연 시간 분포
+    @Override
+    public ResponseEntity<List<EndpointLatency>> getEndpointLatency() {
+        return ResponseEntity.ok(endpointLatencyRecorder.snapshot());
+    }
+
+    // 엔드포인트 지연 시간 분포 초기화
+    @Override
+    public ResponseEntity<Boolean> resetEndpointLatency() {
+        endpointLatencyRecorder.reset();
+        return ResponseEntity.ok(true);
+    }
+
+    // 로거에 연결된 링 버퍼 어펜더별 상태
+    @Override
+    public ResponseEntity<List<LogPipelineStats>> getLogPipelineStats() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        List<LogPipelineStats> stats = new ArrayList<>();
+
+        for (Logger logger : context.getLoggerList()) {
+            logger.iteratorForAppenders().forEachRemaining(appender -> {
+                if (appender instanceof RingBufferAppender ringBuffer) {
+                    stats.add(LogPipelineStats.builder()
+                            .appender(ringBuffer.getName())
+                            .queueSize(ringBuffer.getQueueSize())
+                            .queueDepth(ringBuffer.getQueueDepth())
+                            .droppedEvents(ringBuffer.getDroppedEvents())
+                            .droppedBelowWarn(ringBuffer.getDroppedBelowWarn())
+                            .build());
+                }
+            });
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // 기동 시 가장 오래 걸린 단계
+    @Override
+    public ResponseEntity<List<StartupStepTiming>> getStartupSteps() {
+        return ResponseEntity.ok(startupTimingReporter.getSlowestSteps());
+    }
+
+
+}
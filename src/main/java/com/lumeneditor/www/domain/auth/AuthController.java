@@ -4,6 +4,7 @@ import com.lumeneditor.www.comm.JwtTokenUtil;
 import com.lumeneditor.www.domain.auth.entity.EmailAuth;
 import com.lumeneditor.www.domain.auth.entity.User;
 import com.lumeneditor.www.web.dto.auth.JwtToken;
+import com.lumeneditor.www.web.dto.auth.TokenResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -45,23 +46,23 @@ public class AuthController {
 
     // 로그인
     @PostMapping("login")
-    public ResponseEntity<JwtToken> login(@RequestBody User user, HttpServletResponse response) {
+    public ResponseEntity<TokenResponse> login(@RequestBody User user, HttpServletResponse response) {
         JwtToken jwtToken = memberService.signInAndGenerateJwtToken(user);
         if (jwtToken != null && jwtToken.getAccessToken() != null && !jwtToken.getAccessToken().isEmpty()) {
             addCookie(response, ACCESS_TOKEN, jwtToken.getAccessToken(), 60 * 60 * 24); // 하루 동안 유효한 쿠키 설정
         }
-        return ResponseEntity.ok().body(jwtToken);
+        return ResponseEntity.ok().body(TokenResponse.from(jwtToken));
     }
 
     // accessToken 재발급
     @PostMapping("access-token")
-    ResponseEntity<JwtToken> getAccessToken(HttpServletRequest request, HttpServletResponse response) {
+    ResponseEntity<TokenResponse> getAccessToken(HttpServletRequest request, HttpServletResponse response) {
         JwtToken jwtToken = memberService.getAccessToken(request);
         deleteCookie(response, ACCESS_TOKEN); // 기존 쿠키 삭제
         if (jwtToken != null && jwtToken.getAccessToken() != null && !jwtToken.getAccessToken().isEmpty()) {
             addCookie(response, ACCESS_TOKEN, jwtToken.getAccessToken(), 60 * 60 * 24); // 새 쿠키 추가
         }
-        return ResponseEntity.ok().body(jwtToken);
+        return ResponseEntity.ok().body(TokenResponse.from(jwtToken));
     }
 
     // 로그아웃
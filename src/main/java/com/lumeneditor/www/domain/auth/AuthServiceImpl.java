@@ -2,6 +2,7 @@ package com.lumeneditor.www.domain.auth;
 
 import com.lumeneditor.www.comm.EmailUtils;
 import com.lumeneditor.www.comm.PasswordUtil;
+import com.lumeneditor.www.comm.RedisKeys;
 import com.lumeneditor.www.domain.auth.email.EmailAuthRepository;
 import com.lumeneditor.www.domain.auth.email.EmailService;
 import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
@@ -123,10 +124,8 @@ public class AuthServiceImpl implements AuthService {
     public void logout(String accessToken) {
         try {
             String userId = jwtTokenProvider.getAdminUserInfoFromToken(accessToken);
-            // Redis에서 사용자 ID를 키로 사용하여 refresh token 조회
-            String refreshToken = redisTemplate.opsForValue().get(userId);
-            // Redis에서 refresh token 삭제
-            if (refreshToken != null) redisTemplate.delete(userId);
+            // Redis에서 refresh token 삭제 (키가 없으면 아무 일도 일어나지 않으므로 사전 조회 없이 한 번에 처리)
+            redisTemplate.delete(RedisKeys.refreshToken(userId));
 
         } catch (InvalidTokenException e) {
             log.error("Invalid token error during logout: ", e);
@@ -2,12 +2,13 @@ package com.lumeneditor.www.domain.auth;
 
 import com.lumeneditor.www.comm.EmailUtils;
 import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.comm.RedisHotKeyCache;
+import com.lumeneditor.www.comm.RedisKeys;
 import com.lumeneditor.www.security.JwtTokenProvider;
 import com.lumeneditor.www.domain.auth.entity.User;
 import com.lumeneditor.www.web.dto.auth.JwtToken;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -24,7 +25,7 @@ public class MemberServiceImpl implements MemberService {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHotKeyCache redisHotKeyCache;
     private final AuthRepository authRepository;
 
     private static final String INVALID_CREDENTIALS_MESSAGE = "Authentication failed.";
@@ -76,16 +77,16 @@ public class MemberServiceImpl implements MemberService {
     }
 
 
-    // 리프레시 토큰의 유효성을 검사한 후, 새로운 액세스 토큰을 발행
+    // 리프레시 토큰의 유효성을 검사한 후, 새로운 액세스 토큰을 발행 (사용자 조회는 클래스의 읽기 전용 트랜잭션으로 복제본 DB 사용)
     @Override
-    @Transactional
     public JwtToken getAccessToken(HttpServletRequest request) {
         String accessToken = JwtTokenUtil.extractTokenFromCookies(request);
         String userId = jwtTokenProvider.getAdminUserInfoFromToken(accessToken);
-        String refreshToken = redisTemplate.opsForValue().get(userId);
+        // 로그아웃으로 삭제된 토큰이 복제 지연 동안 통과하지 않도록 마스터(또는 무효화 메시지를 받는 클라이언트 측 캐시)에서 조회
+        boolean hasRefreshToken = redisHotKeyCache.exists(RedisKeys.refreshToken(userId));
 
 
-        if (refreshToken != null) {
+        if (hasRefreshToken) {
             // 토큰이 유효한 경우, 새로운 액세스 토큰 생성
             User user = authRepository.findByUserId(userId);
             String newAccessToken = jwtTokenProvider.generateAccessToken(user);
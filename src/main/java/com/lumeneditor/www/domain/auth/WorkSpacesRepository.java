@@ -1,11 +1,38 @@
 package com.lumeneditor.www.domain.auth;
 
+import com.lumeneditor.www.comm.RowVersion;
 import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface WorkSpacesRepository extends JpaRepository<WorkSpaces, Long> {
 
+    /**
+     * 사용자 ID 로 사용자의 작업공간 키와 변경 버전을 조회합니다.
+     * <p>
+     * 회원가입 시 생성된 작업공간이 먼저 오도록 작업공간 키 순서로 반환합니다.
+     * 변경 버전은 프로젝트 목록의 ETag 계산에 사용합니다.
+     *
+     * @param userId 조회할 사용자의 ID.
+     * @return 작업공간 키와 변경 버전 목록, 작업공간이 없으면 빈 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.comm.RowVersion(w.workspacesKey, w.rowVersion) FROM WorkSpaces w " +
+            "WHERE w.user.userId = :userId ORDER BY w.workspacesKey")
+    List<RowVersion> findRowVersionsByUserId(String userId);
+
+    /**
+     * 작업공간의 변경 버전을 1 증가시킵니다. 작업공간의 프로젝트를 변경하는 트랜잭션에서 호출합니다.
+     *
+     * @param workspacesKey 변경된 작업공간의 키.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE WorkSpaces w SET w.rowVersion = w.rowVersion + 1 WHERE w.workspacesKey = :workspacesKey")
+    int incrementRowVersion(Long workspacesKey);
 
 }
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
 
 
     @Value("${spring.mail.username}")
@@ -54,7 +55,7 @@ public class EmailServiceImpl implements EmailService {
         mimeMessageHelper.setText(emailMessage.getMessage(), true); // 메시지 본문 설정, HTML 사용 여부는 true 또는 false로
 
 
-        javaMailSender.send(mimeMessage); // 메일 발송
+        mailDispatcher.send(mimeMessage); // 메일 발송 (전용 플랫폼 스레드에서 실행)
     }
 
 
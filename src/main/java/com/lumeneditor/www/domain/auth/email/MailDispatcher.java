@@ -0,0 +1,78 @@
+package com.lumeneditor.www.domain.auth.email;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final JavaMailSender javaMailSender;
+    private final ExecutorService executor;
+
+    @Value("${lumen.mail.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    /**
+     * SMTP 발송을 전용 플랫폼 스레드 풀에서 실행하는 발송기를 생성합니다.
+     * <p>
+     * Jakarta Mail 의 SMTPTransport 는 소켓 I/O 를 synchronized 메서드 안에서 수행하므로,
+     * 가상 스레드에서 직접 발송하면 SMTP 응답을 기다리는 동안 캐리어 스레드가 고정(pinning)됩니다.
+     * 요청 스레드는 Future 를 기다리며 대기하므로(가상 스레드는 언마운트됨) 동작은 동기 발송과 같고,
+     * 동시 SMTP 연결 수도 poolSize 로 제한됩니다.
+     *
+     * @param javaMailSender 메일 발송에 사용할 JavaMailSender 입니다.
+     * @param poolSize       동시에 발송할 최대 메일 수입니다.
+     */
+
+    public MailDispatcher(JavaMailSender javaMailSender, @Value("${lumen.mail.pool-size:4}") int poolSize) {
+        this.javaMailSender = javaMailSender;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "mail-send-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 메일을 발송하고 완료될 때까지 기다립니다.
+     *
+     * @param mimeMessage 발송할 메시지입니다.
+     * @throws MailSendException 발송에 실패했거나 sendTimeout 안에 끝나지 않은 경우 발생합니다.
+     */
+
+    public void send(MimeMessage mimeMessage) {
+        Future<?> future = executor.submit(() -> javaMailSender.send(mimeMessage));
+        try {
+            future.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new MailSendException("Failed to send mail", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new MailSendException("Mail send timed out after " + sendTimeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while sending mail", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -82,6 +82,10 @@ public class User implements UserDetails {
 
     private String role;
 
+    // 행이 변경될 때마다 1 증가 (ETag 계산용, 낙관적 잠금에는 사용하지 않음)
+    @Column(nullable = false)
+    private Long rowVersion;
+
     @PrePersist
     protected void onCreate() {
         accessionDate = new Date();
@@ -94,12 +98,14 @@ public class User implements UserDetails {
         passwordRecovery = new Date();
         planKey = 1L;
         role = "User";
+        rowVersion = 0L;
     }
 
     @PreUpdate
     protected void onUpdate() {
         withdrawalDate = new Date(); // 탈퇴시
         passwordRecovery = new Date(); // 비밀번호 변경시
+        rowVersion = rowVersion == null ? 1L : rowVersion + 1;
     }
 
     @Override
@@ -21,4 +21,15 @@ public class WorkSpaces {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_key") // DB 컬럼 이름과 일치해야 합니다.
     private User user; // User 엔티티 참조. User 클래스는 해당 관계에 맞게 정의되어야 합니다.
+
+    // 작업공간의 프로젝트가 생성/수정/삭제될 때마다 1 증가 (프로젝트 목록 ETag 계산용)
+    @Column(nullable = false)
+    private Long rowVersion;
+
+    @PrePersist
+    protected void onCreate() {
+        if (rowVersion == null) {
+            rowVersion = 0L;
+        }
+    }
 }
\ No newline at end of file
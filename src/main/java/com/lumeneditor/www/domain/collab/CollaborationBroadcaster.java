@@ -0,0 +1,114 @@
+package com.lumeneditor.www.domain.collab;
+
+import com.lumeneditor.www.comm.RedisKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 로 받은 타임라인 변경을 이 서버에서 프로젝트를 구독 중인 편집기에 전달합니다.
+ * <p>
+ * 변경을 바로 보내지 않고 프로젝트별로 모았다가 flush-interval 마다 한 프레임으로 보냅니다.
+ * 여러 사람이 동시에 편집하거나 자동 저장이 몰릴 때 프레임 수와 전송 횟수가 구독자 수 × 변경 수로 늘어나지 않습니다.
+ * 프레임 형식: {"projectKey":1,"changes":[{"version":5,"userId":"...","operations":[...]}, ...]}
+ * 변경 JSON 은 Redis 에서 받은 문자열을 다시 파싱하지 않고 그대로 이어 붙입니다.
+ * 편집기는 changes 를 version 순으로 적용하고, 이미 가진 버전(자신의 저장 포함)은 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class CollaborationBroadcaster implements MessageListener, DisposableBean {
+
+    public static final String TOPIC_PREFIX = "/topic/projects/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<Long, Queue<String>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public CollaborationBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    @Value("${lumen.collab.flush-interval:20ms}") Duration flushInterval) {
+        this.messagingTemplate = messagingTemplate;
+        listenerContainer.addMessageListener(this, new PatternTopic(RedisKeys.projectChannelPattern()));
+
+        // 전송 주기를 지키도록 @Scheduled 공용 스케줄러(타임라인 압축 등)와 분리된 전용 스레드 사용
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("collab-flush").daemon().factory());
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long projectKey = RedisKeys.projectKeyOfChannel(new String(message.getChannel(), StandardCharsets.UTF_8));
+        if (projectKey == null) {
+            return;
+        }
+        String change = new String(message.getBody(), StandardCharsets.UTF_8);
+        // 큐 생성과 추가를 한 번에 처리하여 flush 의 빈 큐 제거와 겹쳐도 변경을 잃지 않음
+        pending.compute(projectKey, (key, queue) -> {
+            Queue<String> target = queue == null ? new ConcurrentLinkedQueue<>() : queue;
+            target.add(change);
+            return target;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdownNow();
+    }
+
+
+    // 프로젝트별로 모인 변경을 한 프레임으로 전송
+    private void flush() {
+        for (Long projectKey : pending.keySet()) {
+            try {
+                Queue<String> queue = pending.computeIfPresent(projectKey, (key, value) -> value.isEmpty() ? null : value);
+                if (queue == null) {
+                    continue;
+                }
+                StringBuilder frame = new StringBuilder("{\"projectKey\":").append(projectKey).append(",\"changes\":[");
+                boolean first = true;
+                for (String change = queue.poll(); change != null; change = queue.poll()) {
+                    if (!first) {
+                        frame.append(',');
+                    }
+                    frame.append(change);
+                    first = false;
+                }
+                if (first) {
+                    continue;
+                }
+                send(projectKey, frame.append("]}").toString());
+            } catch (RuntimeException e) {
+                // 예외로 주기 작업이 취소되지 않도록 프로젝트 단위로 처리
+                log.warn("Failed to broadcast collaboration changes for project {}: {}", projectKey, e.getMessage());
+            }
+        }
+    }
+
+    private void send(Long projectKey, String frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(TOPIC_PREFIX + projectKey,
+                MessageBuilder.createMessage(frame.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.lumeneditor.www.domain.collab;
+
+import com.lumeneditor.www.domain.myproject.ProjectsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 공동 편집 채널로 들어오는 STOMP 프레임을 검사합니다.
+ * <p>
+ * 구독은 자신의 작업공간에 속한 프로젝트의 토픽(/topic/projects/{projectKey})만 허용하며, 구독할 때 한 번만 DB 로 확인합니다.
+ * 변경 저장은 자동 저장 API 로 하므로 클라이언트의 SEND 는 받지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollaborationChannelInterceptor implements ChannelInterceptor {
+
+    private final ProjectsRepository projectsRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException(message, "Sending is not supported on the collaboration channel");
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            Long projectKey = projectKeyOf(accessor.getDestination());
+            Principal user = accessor.getUser();
+            if (projectKey == null || user == null || !projectsRepository.existsForUser(projectKey, user.getName())) {
+                throw new MessageDeliveryException(message, "Not allowed to subscribe to " + accessor.getDestination());
+            }
+        }
+        return message;
+    }
+
+
+    private static Long projectKeyOf(String destination) {
+        if (destination == null || !destination.startsWith(CollaborationBroadcaster.TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(CollaborationBroadcaster.TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
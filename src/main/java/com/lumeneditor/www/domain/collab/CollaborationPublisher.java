@@ -0,0 +1,85 @@
+package com.lumeneditor.www.domain.collab;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.lumeneditor.www.comm.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 저장된 타임라인 변경을 Redis Pub/Sub 으로 모든 서버에 알립니다.
+ * <p>
+ * 각 서버의 {@link CollaborationBroadcaster} 가 받아서 해당 프로젝트를 구독 중인 편집기에 전달합니다.
+ * 롤백된 변경이 전달되지 않도록 트랜잭션 커밋 후 발행하며, 발행에 실패해도 저장은 유지됩니다
+ * (편집기는 작업 로그 조회로 따라잡을 수 있습니다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollaborationPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 자동 저장으로 추가된 작업을 알립니다.
+     *
+     * @param projectKey 프로젝트의 키입니다.
+     * @param version    작업을 적용한 뒤의 문서 버전입니다.
+     * @param userId     저장한 사용자의 ID 입니다. 편집기는 자신의 변경을 구분하는 데 사용합니다.
+     * @param operations 저장된 작업 JSON 배열입니다.
+     */
+
+    public void publishOperations(Long projectKey, long version, String userId, String operations) {
+        ObjectNode change = change(version, userId);
+        change.putRawValue("operations", new RawValue(operations));
+        publishAfterCommit(projectKey, change.toString());
+    }
+
+    /**
+     * 문서 전체가 바뀌었음을 알립니다. 편집기는 타임라인을 다시 조회해야 합니다.
+     *
+     * @param projectKey 프로젝트의 키입니다.
+     * @param version    저장된 문서 버전입니다.
+     * @param userId     저장한 사용자의 ID 입니다.
+     */
+
+    public void publishReload(Long projectKey, long version, String userId) {
+        ObjectNode change = change(version, userId);
+        change.put("reload", true);
+        publishAfterCommit(projectKey, change.toString());
+    }
+
+
+    private static ObjectNode change(long version, String userId) {
+        ObjectNode change = JsonNodeFactory.instance.objectNode();
+        change.put("version", version);
+        change.put("userId", userId);
+        return change;
+    }
+
+    private void publishAfterCommit(Long projectKey, String message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(projectKey, message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(projectKey, message);
+            }
+        });
+    }
+
+    private void publish(Long projectKey, String message) {
+        try {
+            redisTemplate.convertAndSend(RedisKeys.projectChannel(projectKey), message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish collaboration change for project {}: {}", projectKey, e.getMessage());
+        }
+    }
+}
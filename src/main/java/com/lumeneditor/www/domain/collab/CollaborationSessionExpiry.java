@@ -0,0 +1,106 @@
+package com.lumeneditor.www.domain.collab;
+
+import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.security.TokenParseResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 공동 편집 WebSocket 세션을 핸드셰이크에 사용한 accessToken 이 만료될 때 닫습니다.
+ * <p>
+ * 인증은 핸드셰이크에서 한 번만 하므로, 닫지 않으면 토큰이 만료된 뒤에도 구독한 변경이 계속 전달됩니다.
+ * 핸드셰이크에서 토큰의 만료 시각을 세션 속성에 저장하고, 연결되면 그 시각에 4001 상태로 세션을 닫도록 예약합니다.
+ * 클라이언트는 토큰을 갱신한 뒤 다시 연결하여 구독합니다.
+ */
+@Slf4j
+@Component
+public class CollaborationSessionExpiry implements HandshakeInterceptor, WebSocketHandlerDecoratorFactory {
+
+    // 토큰 만료로 닫을 때의 상태 (4000~4999 는 애플리케이션 정의 범위)
+    public static final CloseStatus TOKEN_EXPIRED = new CloseStatus(4001, "Access token expired");
+
+    private static final String TOKEN_EXPIRY_ATTRIBUTE = "lumen.collab.tokenExpiry";
+    private static final String CLOSE_TASK_ATTRIBUTE = "lumen.collab.closeTask";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TaskScheduler taskScheduler;
+
+    // 브로커 스케줄러는 브로커 설정 중에 생성되는 빈이므로 지연 주입
+    public CollaborationSessionExpiry(JwtTokenProvider jwtTokenProvider,
+                                      @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        TokenParseResult result = request instanceof ServletServerHttpRequest servletRequest
+                ? jwtTokenProvider.parse(JwtTokenUtil.extractTokenFromCookies(servletRequest.getServletRequest()))
+                : TokenParseResult.INVALID;
+        if (!result.isValid() || result.claims().getExpiration() == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(TOKEN_EXPIRY_ATTRIBUTE, result.claims().getExpiration().toInstant());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(session);
+                Instant expiry = (Instant) session.getAttributes().get(TOKEN_EXPIRY_ATTRIBUTE);
+                if (expiry != null) {
+                    session.getAttributes().put(CLOSE_TASK_ATTRIBUTE, taskScheduler.schedule(() -> close(session), expiry));
+                }
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if (session.getAttributes().remove(CLOSE_TASK_ATTRIBUTE) instanceof ScheduledFuture<?> task) {
+                    task.cancel(false);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+
+    private static void close(WebSocketSession session) {
+        try {
+            if (session.isOpen()) {
+                session.close(TOKEN_EXPIRED);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to close expired collaboration session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+}
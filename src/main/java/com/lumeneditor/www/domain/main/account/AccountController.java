@@ -2,6 +2,7 @@ package com.lumeneditor.www.domain.main.account;
 
 
 import com.lumeneditor.www.domain.auth.entity.User;
+import com.lumeneditor.www.web.dto.account.UserResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +17,7 @@ public class AccountController {
 
     // 유저 세부 정보
     @GetMapping("user")
-    public ResponseEntity<User> getUser(HttpServletRequest request) {
+    public ResponseEntity<UserResponse> getUser(HttpServletRequest request) {
         return accountService.getUser(request);
     }
 
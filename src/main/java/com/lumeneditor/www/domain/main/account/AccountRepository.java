@@ -1,5 +1,6 @@
 package com.lumeneditor.www.domain.main.account;
 
+import com.lumeneditor.www.comm.RowVersion;
 import com.lumeneditor.www.comm.eunm.YesNo;
 import com.lumeneditor.www.domain.auth.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
@@ -24,6 +25,17 @@ public interface AccountRepository extends JpaRepository<User,Long> {
      */
     User findByUserId(String userId);
 
+    /**
+     * 사용자 ID 로 사용자 키와 변경 버전만 조회합니다.
+     * <p>
+     * user_id 유니크 인덱스로 한 행만 읽으며, 내 정보 조회의 ETag 를 본문 조회 없이 계산할 때 사용합니다.
+     *
+     * @param userId 조회할 사용자의 ID.
+     * @return 사용자 키와 변경 버전, 사용자가 없으면 null.
+     */
+    @Query("SELECT new com.lumeneditor.www.comm.RowVersion(u.userKey, u.rowVersion) FROM User u WHERE u.userId = :userId")
+    RowVersion findRowVersionByUserId(String userId);
+
     /**
      * 사용자의 비밀번호를 업데이트하는 쿼리 메서드입니다.
      * <p>
@@ -38,7 +50,7 @@ public interface AccountRepository extends JpaRepository<User,Long> {
      * @return 업데이트된 레코드의 수.
      */
     @Modifying
-    @Query("UPDATE User u SET u.userPassword = :userPassword, u.passwordRecovery = CURRENT_DATE WHERE u.userId = :userId")
+    @Query("UPDATE User u SET u.userPassword = :userPassword, u.passwordRecovery = CURRENT_DATE, u.rowVersion = u.rowVersion + 1 WHERE u.userId = :userId")
     int updateUserPasswordById(@Param("userPassword") String userPassword, @Param("userId") String userId);
 
     /**
@@ -57,7 +69,7 @@ public interface AccountRepository extends JpaRepository<User,Long> {
      * @return 업데이트된 레코드의 수.
      */
     @Modifying
-    @Query("UPDATE User u SET u.userStatus = :status, u.isDeleted = :isDeleted, u.withdrawalDate = CURRENT_DATE WHERE u.userId = :userId")
+    @Query("UPDATE User u SET u.userStatus = :status, u.isDeleted = :isDeleted, u.withdrawalDate = CURRENT_DATE, u.rowVersion = u.rowVersion + 1 WHERE u.userId = :userId")
     int deleteUser(String userId, YesNo status, int isDeleted);
 
 }
@@ -1,13 +1,18 @@
 package com.lumeneditor.www.domain.main.account;
 
+import com.lumeneditor.www.comm.ETagUtil;
 import com.lumeneditor.www.comm.JwtTokenUtil;
 import com.lumeneditor.www.comm.PasswordUtil;
+import com.lumeneditor.www.comm.RowVersion;
 import com.lumeneditor.www.comm.eunm.YesNo;
 import com.lumeneditor.www.domain.auth.entity.User;
+import com.lumeneditor.www.web.dto.account.UserResponse;
 import com.lumeneditor.www.security.JwtTokenProvider;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,18 +25,40 @@ public class AccountServiceImpl implements AccountService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final AccountRepository accountRepository;
+    private final ProfileCache profileCache;
 
 
     // 유저 세부 정보
     @Override
     @Transactional(readOnly = true)
-    public ResponseEntity<User> getUser(HttpServletRequest request) {
+    public ResponseEntity<UserResponse> getUser(HttpServletRequest request) {
 
-        User user = accountRepository.findByUserId(getUserId(request));
+        String userId = getUserId(request);
+
+        // 변경 버전만 먼저 조회하여 클라이언트의 ETag 와 같으면 본문 조회 없이 304 반환
+        RowVersion rowVersion = accountRepository.findRowVersionByUserId(userId);
+        if (rowVersion == null) {
+            return ResponseEntity.notFound().build(); // 사용자를 찾을 수 없는 경우
+        }
+        String etag = rowVersion.etag();
+        // 브라우저가 응답을 보관하되 매번 ETag 로 재검증하도록 설정
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ETagUtil.isNotModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        // 같은 버전으로 캐시된 응답이 있으면 엔티티 조회 생략
+        UserResponse cached = profileCache.get(userId, etag);
+        if (cached != null) {
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(cached);
+        }
+
+        User user = accountRepository.findByUserId(userId);
 
         if (user != null) {
-            user.setUserPassword(""); // 사용자 정보는 있지만, 비밀번호는 응답에서 제외
-            return ResponseEntity.ok(user);
+            UserResponse profile = UserResponse.from(user); // 비밀번호, 내부 키, 보안 속성은 응답에서 제외
+            profileCache.put(userId, etag, profile);
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(profile);
         } else {
             return ResponseEntity.notFound().build(); // 사용자를 찾을 수 없는 경우
         }
@@ -60,7 +87,6 @@ public class AccountServiceImpl implements AccountService {
         updated |= updateIfNotNull(user.getEmailAccept(), existingUser::setEmailAccept);
         updated |= updateIfNotNull(user.getPromoAccept(), existingUser::setPromoAccept);
         updated |= updateIfNotNull(user.getCompany(), existingUser::setCompany);
-        updated |= updateIfNotNull(user.getLogoImage(), existingUser::setLogoImage);
         updated |= updateIfNotNull(user.getRole(), existingUser::setRole);
 
         accountRepository.save(existingUser);
@@ -0,0 +1,75 @@
+package com.lumeneditor.www.domain.main.account;
+
+import com.lumeneditor.www.comm.RedisKeys;
+import com.lumeneditor.www.config.RedisTemplateFactory;
+import com.lumeneditor.www.web.dto.account.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * 내 정보 조회 응답을 Redis 에 캐시합니다.
+ * <p>
+ * 응답과 함께 ETag(행 버전)를 저장하고, DB 에서 조회한 현재 버전과 같을 때만 캐시 값을 사용합니다.
+ * 그래서 조회는 복제본(lumen.redis.read-from)으로 보내도 되며, 복제 지연이나 정보 수정 직후에는 캐시 미스로 처리되어
+ * 오래된 프로필이 응답되지 않습니다. 값은 lumen.redis.value-codec 방식(기본 CBOR)으로 저장됩니다.
+ */
+@Slf4j
+@Component
+public class ProfileCache {
+
+    private final RedisTemplate<String, CachedProfile> writer;
+    private final RedisTemplate<String, CachedProfile> reader;
+    private final Duration ttl;
+
+    public ProfileCache(RedisTemplateFactory redisTemplateFactory,
+                        @Value("${lumen.redis.profile-cache-ttl:10m}") Duration ttl) {
+        this.writer = redisTemplateFactory.create(CachedProfile.class);
+        this.reader = redisTemplateFactory.createReader(CachedProfile.class);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 캐시된 프로필을 조회합니다.
+     * 저장된 ETag 가 현재 행의 ETag 와 다르거나 Redis 조회에 실패하면 캐시 미스로 처리합니다.
+     *
+     * @param userId 사용자 ID(이메일)입니다.
+     * @param etag   DB 에서 조회한 현재 행의 ETag 입니다.
+     * @return 캐시된 응답, 없거나 오래된 값이면 null 입니다.
+     */
+
+    public UserResponse get(String userId, String etag) {
+        try {
+            CachedProfile cached = reader.opsForValue().get(RedisKeys.profile(userId));
+            return cached != null && etag.equals(cached.etag()) ? cached.profile() : null;
+        } catch (RuntimeException e) {
+            log.warn("Profile cache lookup failed for {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조회한 프로필을 ETag 와 함께 저장합니다. 저장에 실패해도 응답에는 영향을 주지 않습니다.
+     *
+     * @param userId  사용자 ID(이메일)입니다.
+     * @param etag    응답을 만든 행의 ETag 입니다.
+     * @param profile 캐시할 응답입니다.
+     */
+
+    public void put(String userId, String etag, UserResponse profile) {
+        try {
+            writer.opsForValue().set(RedisKeys.profile(userId), new CachedProfile(etag, profile), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache profile for {}: {}", userId, e.getMessage());
+        }
+    }
+
+
+    // 캐시 값 (JDK 코덱에서도 저장할 수 있도록 Serializable)
+    public record CachedProfile(String etag, UserResponse profile) implements Serializable {
+    }
+}
@@ -0,0 +1,64 @@
+package com.lumeneditor.www.domain.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 미디어 원본을 키(SHA-256 해시)로 저장하는 객체 저장소입니다.
+ * <p>
+ * S3 호환 저장소의 HeadObject / PutObject / GetObject / DeleteObject 에 대응하는 연산만 정의하므로,
+ * 로컬 파일 시스템 구현({@link LocalBlobStorage})과 S3 호환 구현을 설정으로 바꿔 사용할 수 있습니다.
+ * 키가 내용의 해시이므로 같은 키에는 항상 같은 내용이 저장되며, 이미 있는 키에 다시 저장해도 결과는 같습니다.
+ */
+public interface BlobStorage {
+
+    /**
+     * 키에 해당하는 객체가 있는지 확인합니다.
+     *
+     * @param key 객체의 키입니다.
+     * @return 객체가 있으면 true 입니다.
+     */
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 로컬 파일의 내용을 키로 저장합니다. 저장이 끝나기 전에는 다른 요청에서 해당 키가 보이지 않아야 합니다.
+     *
+     * @param key    객체의 키입니다.
+     * @param source 저장할 내용이 담긴 임시 파일입니다. 호출 후 구현에 따라 옮겨지거나 남아 있을 수 있습니다.
+     */
+
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 객체의 내용을 읽는 스트림을 엽니다.
+     *
+     * @param key 객체의 키입니다.
+     * @return 객체 내용 스트림입니다. 호출한 쪽에서 닫아야 합니다.
+     */
+
+    InputStream get(String key) throws IOException;
+
+    /**
+     * 객체를 삭제합니다. 객체가 없으면 아무것도 하지 않습니다.
+     *
+     * @param key 객체의 키입니다.
+     */
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 객체가 로컬 파일 시스템에 있으면 그 경로를 반환합니다.
+     * <p>
+     * 내려받기에서 sendfile 이나 {@link java.nio.channels.FileChannel#transferTo} 로 힙에 복사하지 않고 전송할 때 사용하며,
+     * 원격 저장소 구현은 null 을 반환하여 {@link #get} 스트림으로 전송하게 합니다.
+     *
+     * @param key 객체의 키입니다.
+     * @return 로컬 파일 경로, 로컬에 없으면 null 입니다.
+     */
+
+    default Path localPath(String key) {
+        return null;
+    }
+}
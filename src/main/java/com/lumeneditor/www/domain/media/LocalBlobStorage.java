@@ -0,0 +1,74 @@
+package com.lumeneditor.www.domain.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일 시스템에 객체를 저장하는 {@link BlobStorage} 구현입니다.
+ * <p>
+ * 한 디렉터리에 파일이 몰리지 않도록 키의 앞 4자리로 두 단계 하위 디렉터리를 만들어 저장합니다 (root/ab/cd/abcd...).
+ * 같은 디렉터리의 임시 파일에 먼저 쓴 뒤 원자적 이동으로 공개하므로, 읽는 쪽에서 쓰는 중인 파일이 보이지 않습니다.
+ */
+public class LocalBlobStorage implements BlobStorage {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public LocalBlobStorage(Path root) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return; // 같은 키는 같은 내용
+        }
+        Files.createDirectories(target.getParent());
+        Path staging = target.resolveSibling(key + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try {
+                Files.move(source, staging);
+            } catch (IOException e) {
+                Files.copy(source, staging); // 다른 파일 시스템의 임시 파일
+            }
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용이 업로드된 경우
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Path localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private Path resolve(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
@@ -0,0 +1,108 @@
+package com.lumeneditor.www.domain.media;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 참조가 없어진 미디어 원본을 수거하고, 어긋난 참조 수를 보정합니다.
+ * <p>
+ * 참조 수가 0 이 된 원본은 바로 삭제하지 않고 blob-gc-grace 동안 남겨 둡니다. 업로드는 파일을 저장한 뒤 트랜잭션 밖에서
+ * 잠시 후에 참조를 추가하므로, 그 사이 같은 내용의 파일이 삭제되지 않게 하기 위해서입니다.
+ * 수거는 원본 행을 조건부로 삭제하여 잠근 상태에서 파일을 삭제한 뒤 커밋하므로, 같은 원본에 참조를 추가하는 트랜잭션과 겹치지 않습니다.
+ * <p>
+ * 작업공간이나 사용자 행이 ON DELETE CASCADE 로 삭제되면 참조 수가 줄지 않습니다.
+ * reconcile-cron 마다 실제 참조 수와 다른 원본을 찾아 행을 잠근 뒤 다시 세어 맞춥니다.
+ */
+@Slf4j
+@Component
+public class MediaBlobCollector {
+
+    private final MediaBlobRepository mediaBlobRepository;
+    private final BlobStorage blobStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${lumen.media.blob-gc-grace:1h}")
+    private Duration grace;
+
+    @Value("${lumen.media.blob-gc-batch-size:100}")
+    private int batchSize;
+
+    public MediaBlobCollector(MediaBlobRepository mediaBlobRepository, BlobStorage blobStorage,
+                              PlatformTransactionManager transactionManager) {
+        this.mediaBlobRepository = mediaBlobRepository;
+        this.blobStorage = blobStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 유예 시간이 지난 참조 없는 원본 삭제
+    @Scheduled(fixedDelayString = "${lumen.media.blob-gc-interval:10m}")
+    public void collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        try {
+            for (String hash : mediaBlobRepository.findCollectable(cutoff, Limit.of(batchSize))) {
+                collect(hash, cutoff);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to collect unreferenced blobs: {}", e.getMessage());
+        }
+    }
+
+    // 실제 참조 수와 다른 원본의 참조 수 보정
+    @Scheduled(cron = "${lumen.media.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            for (String hash : mediaBlobRepository.findMiscounted(batchSize)) {
+                transactionTemplate.executeWithoutResult(status -> reconcile(hash));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile blob reference counts: {}", e.getMessage());
+        }
+    }
+
+
+    private void collect(String hash, LocalDateTime cutoff) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 행 삭제로 잠근 상태에서 파일 삭제 (그 사이 다시 참조되었으면 0 건)
+                if (mediaBlobRepository.deleteCollectable(hash, cutoff) == 0) {
+                    return;
+                }
+                try {
+                    blobStorage.delete(hash);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 롤백되어 행이 남으므로 다음 주기에 다시 시도
+            log.warn("Failed to collect blob {}: {}", hash, e.getMessage());
+        }
+    }
+
+    // 행을 잠근 뒤 센 참조 수로 맞춤 (참조를 추가/제거하는 트랜잭션은 같은 행을 갱신하므로 잠금 이후의 변경은 그대로 반영됨)
+    private void reconcile(String hash) {
+        mediaBlobRepository.lockByHash(hash).ifPresent(blob -> {
+            long references = mediaBlobRepository.countReferences(hash);
+            if (blob.getRefCount() == references) {
+                return;
+            }
+            log.warn("Blob {} had {} references recorded but {} found; correcting", hash, blob.getRefCount(), references);
+            blob.setRefCount((int) references);
+            if (references > 0) {
+                blob.setUnreferencedDate(null);
+            } else if (blob.getUnreferencedDate() == null) {
+                blob.setUnreferencedDate(LocalDateTime.now());
+            }
+        });
+    }
+}
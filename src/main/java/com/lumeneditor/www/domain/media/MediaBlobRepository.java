@@ -0,0 +1,127 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.media.entity.MediaBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+
+    /**
+     * 원본 행을 추가하거나, 이미 있으면 참조 수를 1 증가시킵니다.
+     * <p>
+     * 같은 내용이 동시에 업로드되어도 기본 키 충돌 없이 한 행으로 합쳐지도록 INSERT ... ON DUPLICATE KEY UPDATE 를 사용합니다.
+     * 수거를 기다리던(참조 수 0) 행이면 다시 참조되므로 수거 대상에서 제외됩니다.
+     *
+     * @param blobHash    내용의 SHA-256 해시.
+     * @param blobSize    내용의 크기 (바이트).
+     * @param createdDate 새 행일 때의 생성 시각.
+     * @return 영향받은 레코드의 수 (추가 1, 증가 2).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO media_blobs (blob_hash, blob_size, ref_count, created_date) " +
+            "VALUES (:blobHash, :blobSize, 1, :createdDate) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, unreferenced_date = NULL", nativeQuery = true)
+    int addReference(String blobHash, long blobSize, LocalDateTime createdDate);
+
+    /**
+     * 작업공간에서 이미 참조하고 있는 원본의 참조 수를 1 증가시킵니다. 업로드 없이 미디어를 추가할 때 사용합니다.
+     * <p>
+     * 해시만 알고 내용은 없는 사용자가 다른 사용자의 미디어를 가져가지 못하도록, 같은 작업공간에 같은 원본이 있을 때만 증가시킵니다.
+     *
+     * @param blobHash      내용의 SHA-256 해시.
+     * @param blobSize      내용의 크기 (바이트).
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 업데이트된 레코드의 수, 조건에 맞는 원본이 없으면 0.
+     */
+    @Modifying
+    @Query(value = "UPDATE media_blobs SET ref_count = ref_count + 1, unreferenced_date = NULL " +
+            "WHERE blob_hash = :blobHash AND blob_size = :blobSize " +
+            "AND EXISTS (SELECT 1 FROM workspace_media m WHERE m.blob_hash = :blobHash AND m.workspaces_key = :workspacesKey)",
+            nativeQuery = true)
+    int addReferenceInWorkspace(String blobHash, long blobSize, Long workspacesKey);
+
+    /**
+     * 원본의 참조 수를 1 감소시킵니다. 마지막 참조였으면 참조가 없어진 시각을 기록합니다.
+     * <p>
+     * 수정 전 참조 수로 판단하도록 unreferencedDate 를 refCount 보다 먼저 지정합니다 (MySQL 은 SET 을 왼쪽부터 적용).
+     *
+     * @param blobHash 내용의 SHA-256 해시.
+     * @param now      참조가 없어진 시각.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE MediaBlob b SET b.unreferencedDate = CASE WHEN b.refCount <= 1 THEN :now ELSE NULL END, " +
+            "b.refCount = b.refCount - 1 WHERE b.blobHash = :blobHash")
+    int removeReference(String blobHash, LocalDateTime now);
+
+    /**
+     * 참조가 없어진 지 유예 시간이 지난 원본의 해시를 조회합니다.
+     *
+     * @param cutoff 이 시각 이전에 참조가 없어진 원본만 조회합니다.
+     * @param limit  최대 조회 수.
+     * @return 수거 대상 원본의 해시 목록.
+     */
+    @Query("SELECT b.blobHash FROM MediaBlob b WHERE b.refCount <= 0 AND b.unreferencedDate < :cutoff")
+    List<String> findCollectable(LocalDateTime cutoff, Limit limit);
+
+    /**
+     * 수거 대상 원본 행을 삭제합니다.
+     * <p>
+     * 조건을 다시 확인하며 행을 잠그므로, 같은 원본에 참조를 추가하는 트랜잭션은 이 트랜잭션이 끝날 때까지 기다립니다.
+     * 저장소의 파일은 이 트랜잭션 안에서 삭제해야 합니다.
+     *
+     * @param blobHash 내용의 SHA-256 해시.
+     * @param cutoff   이 시각 이전에 참조가 없어진 원본만 삭제합니다.
+     * @return 삭제된 레코드의 수, 그 사이 다시 참조되었으면 0.
+     */
+    @Modifying
+    @Query("DELETE FROM MediaBlob b WHERE b.blobHash = :blobHash AND b.refCount <= 0 AND b.unreferencedDate < :cutoff")
+    int deleteCollectable(String blobHash, LocalDateTime cutoff);
+
+    /**
+     * 참조 수가 실제 참조(작업공간 미디어 행과 사용자 로고) 수와 다른 원본의 해시를 조회합니다.
+     * <p>
+     * 작업공간이나 사용자 행이 ON DELETE CASCADE 로 삭제되면 참조 수가 줄지 않으므로, 정기 보정 작업에서 찾아 맞춥니다.
+     * 잠금 없이 조회하므로 결과는 후보이며, 보정할 때 행을 잠근 뒤 다시 셉니다.
+     *
+     * @param limit 최대 조회 수.
+     * @return 참조 수가 맞지 않는 원본의 해시 목록.
+     */
+    @Query(value = "SELECT b.blob_hash FROM media_blobs b " +
+            "LEFT JOIN (SELECT blob_hash, COUNT(*) AS refs FROM workspace_media GROUP BY blob_hash) m ON m.blob_hash = b.blob_hash " +
+            "LEFT JOIN (SELECT logo_image, COUNT(*) AS refs FROM user WHERE logo_image IS NOT NULL GROUP BY logo_image) u " +
+            "ON u.logo_image = b.blob_hash " +
+            "WHERE b.ref_count <> COALESCE(m.refs, 0) + COALESCE(u.refs, 0) LIMIT :limit", nativeQuery = true)
+    List<String> findMiscounted(int limit);
+
+    /**
+     * 원본 행을 쓰기 잠금으로 조회합니다. 참조 수를 보정하는 동안 참조 추가/제거를 막습니다.
+     *
+     * @param blobHash 내용의 SHA-256 해시.
+     * @return 잠근 원본 행.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM MediaBlob b WHERE b.blobHash = :blobHash")
+    Optional<MediaBlob> lockByHash(String blobHash);
+
+    /**
+     * 원본을 참조하는 작업공간 미디어 행과 사용자 로고의 수를 셉니다.
+     *
+     * @param blobHash 내용의 SHA-256 해시.
+     * @return 실제 참조 수.
+     */
+    @Query(value = "SELECT (SELECT COUNT(*) FROM workspace_media WHERE blob_hash = :blobHash) " +
+            "+ (SELECT COUNT(*) FROM user WHERE logo_image = :blobHash)", nativeQuery = true)
+    long countReferences(String blobHash);
+
+}
@@ -0,0 +1,293 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.auth.WorkSpacesRepository;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 방식(SHA-256)으로 미디어 원본을 저장하고 참조 수를 관리합니다.
+ * <p>
+ * 같은 내용은 저장소에 한 번만 저장되고, media_blobs 행의 참조 수만 늘어납니다.
+ * 참조 수가 0 이 되어도 바로 삭제하지 않고, 유예 시간이 지난 뒤 {@link MediaBlobCollector} 가 행 잠금을 잡은 채 파일과 행을 삭제합니다.
+ * 파일 저장({@link #store}, {@link #storeFile})과 DB 변경은 나뉘어 있어, 큰 파일을 받는 동안 DB 연결을 잡지 않습니다.
+ * 그 사이 같은 내용의 파일이 수거될 수 있으므로, 참조를 추가할 때 행 잠금을 잡은 상태에서 파일이 있는지 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MediaBlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 255;
+
+    private final BlobStorage blobStorage;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final WorkspaceMediaRepository workspaceMediaRepository;
+    private final WorkSpacesRepository workSpacesRepository;
+
+    /**
+     * 저장된 원본의 해시와 크기입니다.
+     * <p>
+     * 저장소에 같은 내용이 이미 있어 저장을 건너뛴 경우, 업로드한 파일(spool)을 참조를 추가할 때까지 남겨 둡니다.
+     * 그 사이 기존 파일이 수거되었으면 이 파일로 다시 저장합니다. 참조를 추가한 뒤(또는 사용하지 않게 되면) close 로 삭제합니다.
+     *
+     * @param hash  내용의 SHA-256 해시입니다.
+     * @param size  내용의 크기(바이트)입니다.
+     * @param spool 다시 저장할 때 사용할 파일, 저장소로 옮겨졌으면 null 입니다.
+     */
+    public record StoredBlob(String hash, long size, Path spool) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            if (spool != null) {
+                Files.deleteIfExists(spool);
+            }
+        }
+    }
+
+    /**
+     * 스트림을 임시 파일에 쓰면서 SHA-256 을 계산하고, 저장소에 없는 내용이면 저장합니다.
+     * <p>
+     * DB 는 변경하지 않으므로, 업로드 동안 DB 연결을 잡지 않도록 트랜잭션의 첫 쿼리보다 먼저 호출합니다.
+     * 이후 DB 처리가 실패하면 참조 없는 파일이 남을 수 있지만, 같은 내용이 다시 업로드되면 그대로 재사용됩니다.
+     *
+     * @param input 저장할 내용 스트림입니다. 이 메서드에서 닫습니다.
+     * @return 저장된 원본입니다. 참조를 추가한 뒤 닫아야 합니다.
+     */
+
+    public StoredBlob store(InputStream input) throws IOException {
+        Path temp = Files.createTempFile("lumen-upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(input, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return put(HexFormat.of().formatHex(digest.digest()), size, temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 디스크에 모인 파일의 SHA-256 을 계산하고, 저장소에 없는 내용이면 저장합니다.
+     * <p>
+     * 로컬 저장소가 같은 파일 시스템에 있으면 파일을 복사하지 않고 이동만 하며, 저장소에 같은 내용이 있으면 파일을
+     * 반환값의 spool 로 남겨 두었다가 close 할 때 삭제합니다.
+     * 해시를 계산한 뒤 저장하기 전에 파일이 바뀌면 다른 내용이 그 해시로 저장되므로, 새로 저장한 원본은 해시를 다시 확인하고
+     * 다르면 삭제한 뒤 예외를 던집니다. 이때 파일은 남아 있지 않을 수 있습니다.
+     * {@link #store} 와 마찬가지로 DB 는 변경하지 않습니다.
+     *
+     * @param file 저장할 파일입니다. 호출하는 동안 다른 곳에서 기록하지 않아야 합니다.
+     * @return 저장된 원본입니다. 참조를 추가한 뒤 닫아야 합니다.
+     */
+
+    public StoredBlob storeFile(Path file) throws IOException {
+        String hash = hashOf(file);
+        long size = Files.size(file);
+        if (blobStorage.exists(hash)) {
+            return new StoredBlob(hash, size, file);
+        }
+        blobStorage.put(hash, file);
+        verifyStored(hash);
+        return new StoredBlob(hash, size, Files.exists(file) ? file : null);
+    }
+
+    /**
+     * 파일 내용의 SHA-256 을 계산합니다.
+     *
+     * @param file 해시를 계산할 파일입니다.
+     * @return 소문자 16진수 해시입니다.
+     */
+
+    public static String hashOf(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 저장한 원본을 작업공간 미디어로 추가합니다. 원본의 참조를 하나 추가하고 작업공간 미디어 행을 만듭니다.
+     *
+     * @param workspacesKey 미디어를 추가할 작업공간의 키입니다.
+     * @param blob          {@link #store} 또는 {@link #storeFile} 로 저장한 원본입니다.
+     * @param fileName      파일 이름입니다.
+     * @param contentType   콘텐츠 타입입니다. 올바르지 않으면 application/octet-stream 으로 저장합니다.
+     * @return 추가된 작업공간 미디어입니다.
+     */
+
+    @Transactional
+    public WorkspaceMedia attach(Long workspacesKey, StoredBlob blob, String fileName, String contentType) {
+        addReference(blob);
+        return saveMedia(workspacesKey, blob.hash(), fileName, contentType);
+    }
+
+    /**
+     * 참조를 이미 추가한 원본으로 작업공간 미디어 행을 만듭니다.
+     *
+     * @param workspacesKey 미디어를 추가할 작업공간의 키입니다.
+     * @param hash          원본의 SHA-256 해시입니다.
+     * @param fileName      파일 이름입니다.
+     * @param contentType   콘텐츠 타입입니다. 올바르지 않으면 application/octet-stream 으로 저장합니다.
+     * @return 추가된 작업공간 미디어입니다.
+     */
+
+    public WorkspaceMedia saveMedia(Long workspacesKey, String hash, String fileName, String contentType) {
+        WorkspaceMedia media = WorkspaceMedia.builder()
+                .workSpaces(workSpacesRepository.getReferenceById(workspacesKey))
+                .blob(mediaBlobRepository.getReferenceById(hash))
+                .fileName(fileName.strip())
+                .contentType(isValidContentType(contentType) ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .build();
+        return workspaceMediaRepository.save(media);
+    }
+
+    /**
+     * 저장한 원본의 참조를 하나 추가합니다. 원본 행이 없으면 만듭니다.
+     * <p>
+     * 참조 추가로 원본 행을 잠근 뒤 저장소에 파일이 있는지 확인합니다. 저장한 뒤 참조를 추가하기 전에 수거되었으면
+     * spool 로 다시 저장하고, spool 도 없으면 예외를 던져 트랜잭션을 롤백합니다.
+     * 행을 잠근 동안에는 수거 작업이 같은 원본을 삭제할 수 없으므로, 이 확인 이후에는 파일이 유지됩니다.
+     *
+     * @param blob {@link #store} 또는 {@link #storeFile} 로 저장한 원본입니다.
+     */
+
+    public void addReference(StoredBlob blob) {
+        mediaBlobRepository.addReference(blob.hash(), blob.size(), LocalDateTime.now());
+        try {
+            if (blobStorage.exists(blob.hash())) {
+                return;
+            }
+            if (blob.spool() == null || !Files.exists(blob.spool())) {
+                throw new IllegalStateException("Blob " + blob.hash() + " was collected before it could be referenced");
+            }
+            log.info("Blob {} was collected while being uploaded; storing it again", blob.hash());
+            blobStorage.put(blob.hash(), blob.spool());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 원본의 참조를 하나 제거합니다.
+     * 마지막 참조였으면 참조가 없어진 시각을 기록하고, 유예 시간이 지나면 {@link MediaBlobCollector} 가 행과 파일을 삭제합니다.
+     *
+     * @param hash 원본의 SHA-256 해시입니다.
+     */
+
+    public void release(String hash) {
+        mediaBlobRepository.removeReference(hash, LocalDateTime.now());
+    }
+
+    /**
+     * 원본의 내용을 읽는 스트림을 엽니다.
+     *
+     * @param hash 원본의 SHA-256 해시입니다.
+     * @return 내용 스트림입니다. 호출한 쪽에서 닫아야 합니다.
+     */
+
+    public InputStream open(String hash) throws IOException {
+        return blobStorage.get(hash);
+    }
+
+    /**
+     * 원본이 저장소에 있는지 확인합니다.
+     *
+     * @param hash 원본의 SHA-256 해시입니다.
+     * @return 원본이 있으면 true 입니다.
+     */
+
+    public boolean exists(String hash) throws IOException {
+        return blobStorage.exists(hash);
+    }
+
+    /**
+     * 문자열이 원본 키 형식(SHA-256 소문자 16진수)인지 확인합니다.
+     *
+     * @param value 확인할 문자열입니다.
+     * @return 원본 키 형식이면 true 입니다.
+     */
+
+    public static boolean isHash(String value) {
+        return value != null && HASH_PATTERN.matcher(value).matches();
+    }
+
+
+    // 저장된 내용의 해시가 키와 다르면 삭제 (내용 주소 저장소에 잘못된 내용이 남지 않도록)
+    private void verifyStored(String hash) throws IOException {
+        Path local = blobStorage.localPath(hash);
+        String actual;
+        if (local != null) {
+            actual = hashOf(local);
+        } else {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(blobStorage.get(hash), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            actual = HexFormat.of().formatHex(digest.digest());
+        }
+        if (!hash.equals(actual)) {
+            blobStorage.delete(hash);
+            throw new IOException("Blob " + hash + " changed while it was being stored (stored content hashes to " + actual + ")");
+        }
+    }
+
+    // 저장소에 없는 내용이면 저장, 옮겨지지 않고 남은 파일은 spool 로 반환
+    private StoredBlob put(String hash, long size, Path file) throws IOException {
+        if (!blobStorage.exists(hash)) {
+            blobStorage.put(hash, file);
+        }
+        return new StoredBlob(hash, size, Files.exists(file) ? file : null);
+    }
+
+    private static boolean isValidContentType(String contentType) {
+        if (contentType == null || contentType.length() > MAX_CONTENT_TYPE_LENGTH) {
+            return false;
+        }
+        try {
+            MediaType.parseMediaType(contentType);
+            return true;
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.lumeneditor.www.domain.media;
+
+
+import com.lumeneditor.www.web.dto.media.MediaClaimRequest;
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.MediaSignRequest;
+import com.lumeneditor.www.web.dto.media.SignedMediaUrlResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/media/")
+public class MediaController {
+
+    private final MediaService mediaService;
+
+    // 미디어 업로드 (multipart, 필드 이름 file)
+    @PostMapping("upload")
+    public ResponseEntity<MediaResponse> uploadMedia(HttpServletRequest request, @RequestParam MultipartFile file) throws IOException {
+        return mediaService.uploadMedia(request, file);
+    }
+
+    // 업로드 없이 해시로 미디어 추가 (같은 작업공간에 같은 내용이 있을 때)
+    @PostMapping("claim")
+    public ResponseEntity<MediaResponse> claimMedia(HttpServletRequest request, @RequestBody MediaClaimRequest claimRequest) {
+        return mediaService.claimMedia(request, claimRequest);
+    }
+
+    // 미디어 목록 (최근 업로드 순, after 는 이전 페이지 마지막 mediaKey)
+    @GetMapping("list")
+    public ResponseEntity<List<MediaResponse>> getMediaList(HttpServletRequest request,
+                                                            @RequestParam(required = false) Long after,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        return mediaService.getMediaList(request, after, size);
+    }
+
+    // 미디어 내려받기 (Range 요청 지원)
+    @GetMapping("{mediaKey}")
+    public void downloadMedia(HttpServletRequest request, HttpServletResponse response, @PathVariable Long mediaKey) throws IOException {
+        mediaService.downloadMedia(request, response, mediaKey);
+    }
+
+    // 서명된 내려받기 URL 발급 (타임라인 썸네일 등을 한 번에)
+    @PostMapping("signed-urls")
+    public ResponseEntity<List<SignedMediaUrlResponse>> signMediaUrls(HttpServletRequest request, @RequestBody MediaSignRequest signRequest) {
+        return mediaService.signMediaUrls(request, signRequest);
+    }
+
+    // 서명된 URL 로 내려받기 (쿠키 없이, DB 조회 없이)
+    @GetMapping("signed/{mediaKey}")
+    public void downloadSignedMedia(HttpServletRequest request, HttpServletResponse response, @PathVariable Long mediaKey) throws IOException {
+        mediaService.downloadSignedMedia(request, response, mediaKey);
+    }
+
+    // 미디어 삭제
+    @DeleteMapping("{mediaKey}")
+    public ResponseEntity<Boolean> deleteMedia(HttpServletRequest request, @PathVariable Long mediaKey) {
+        return mediaService.deleteMedia(request, mediaKey);
+    }
+
+    // 로고 이미지 업로드
+    @PutMapping("logo")
+    public ResponseEntity<Boolean> uploadLogo(HttpServletRequest request, @RequestParam MultipartFile file) throws IOException {
+        return mediaService.uploadLogo(request, file);
+    }
+
+    // 로고 이미지 내려받기
+    @GetMapping("logo")
+    public ResponseEntity<Resource> downloadLogo(HttpServletRequest request) throws IOException {
+        return mediaService.downloadLogo(request);
+    }
+
+
+}
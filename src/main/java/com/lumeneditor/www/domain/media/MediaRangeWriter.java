@@ -0,0 +1,321 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.comm.ETagUtil;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 미디어 원본을 HTTP Range 요청에 맞춰 전송합니다. 편집기의 미리보기 재생과 구간 탐색에 사용합니다.
+ * <p>
+ * 단일/다중 구간(multipart/byteranges), If-Range, If-None-Match 를 지원합니다.
+ * 원본이 로컬 파일이고 커넥터가 sendfile 을 지원하면(TLS 가 없는 NIO 커넥터) 단일 구간과 전체 응답은 Tomcat sendfile 로 보내
+ * 구간 내용을 힙에 복사하지 않습니다.
+ * 다중 구간은 구간 사이에 파트 헤더를 써야 하므로 sendfile 을 사용할 수 없고, {@link FileChannel#transferTo} 의 대상이
+ * 서블릿 출력 스트림을 감싼 채널이라 JDK 가 내부 버퍼로 읽어 쓰는 복사로 처리됩니다. 원격 저장소의 원본은 스트림으로 전송합니다.
+ * <p>
+ * 콘텐츠 타입은 업로드한 클라이언트가 정한 값이므로, 동영상/오디오/래스터 이미지만 그 타입으로 인라인 전송하고
+ * 나머지(text/html, image/svg+xml 등)는 application/octet-stream 첨부로 보내 앱 출처에서 스크립트가 실행되지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MediaRangeWriter {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성 (서블릿이 반환된 뒤 커넥터가 파일을 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final int MAX_RANGES = 16;
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().getHeaderValue();
+
+    // 인라인으로 보내는 이미지 타입 (스크립트를 담을 수 있는 SVG 등은 제외)
+    private static final Set<String> INLINE_IMAGE_SUBTYPES = Set.of("png", "jpeg", "gif", "webp", "avif", "bmp");
+
+    private final BlobStorage blobStorage;
+
+    /**
+     * 전송할 미디어입니다.
+     *
+     * @param hash        원본의 SHA-256 해시입니다. ETag 로도 사용합니다.
+     * @param size        원본의 크기입니다.
+     * @param contentType 응답의 콘텐츠 타입입니다.
+     * @param fileName    Content-Disposition 에 표시할 파일 이름, 헤더를 생략하면 null 입니다.
+     */
+    public record MediaFile(String hash, long size, String contentType, String fileName) {
+    }
+
+    /**
+     * 요청의 Range 헤더에 따라 전체(200), 단일 구간(206), 다중 구간(206 multipart/byteranges) 응답을 보냅니다.
+     * <p>
+     * If-Range 가 현재 ETag 와 다르거나, 구간이 너무 많거나 겹쳐서 전체 크기보다 커지면 Range 를 무시하고 전체를 보냅니다.
+     * 만족할 수 있는 구간이 하나도 없으면 416 을 보냅니다.
+     *
+     * @param request  현재 HTTP 요청입니다.
+     * @param response 현재 HTTP 응답입니다.
+     * @param file     전송할 미디어입니다.
+     */
+
+    public void write(HttpServletRequest request, HttpServletResponse response, MediaFile file) throws IOException {
+        write(request, response, file, null);
+    }
+
+    /**
+     * 허용된 구간 안에서만 응답을 보냅니다. 서명된 URL 처럼 접근 범위가 정해진 요청에 사용합니다.
+     * <p>
+     * Range 헤더가 없으면 허용된 구간 전체를, 있으면 모든 구간이 허용된 구간 안에 있을 때만 보내고 아니면 416 을 보냅니다.
+     *
+     * @param request  현재 HTTP 요청입니다.
+     * @param response 현재 HTTP 응답입니다.
+     * @param file     전송할 미디어입니다.
+     * @param allowed  허용된 구간, 제한이 없으면 null 입니다.
+     */
+
+    public void write(HttpServletRequest request, HttpServletResponse response, MediaFile file, HttpRange allowed) throws IOException {
+        String etag = "\"" + file.hash() + "\"";
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        setSafeContentHeaders(response);
+        if (ETagUtil.isNotModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        boolean inline = isInlineType(file.contentType());
+        if (!inline) {
+            file = new MediaFile(file.hash(), file.size(), MediaType.APPLICATION_OCTET_STREAM_VALUE, file.fileName());
+        }
+        if (file.fileName() != null || !inline) {
+            ContentDisposition.Builder disposition = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+            if (file.fileName() != null) {
+                disposition.filename(file.fileName(), StandardCharsets.UTF_8);
+            }
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.build().toString());
+        }
+
+        List<long[]> regions = ETagUtil.matchesIfRange(request, etag) ? requestedRegions(request, file.size()) : null;
+        if (allowed != null) {
+            regions = restrict(regions, allowed, file.size());
+        }
+        if (regions == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(file.contentType());
+            response.setContentLengthLong(file.size());
+            sendSingle(request, response, file, 0, file.size());
+            return;
+        }
+        if (regions.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.size() == 1) {
+            long start = regions.get(0)[0];
+            long end = regions.get(0)[1];
+            response.setContentType(file.contentType());
+            response.setContentLengthLong(end - start + 1);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, file.size()));
+            sendSingle(request, response, file, start, end - start + 1);
+            return;
+        }
+        sendMultipart(request, response, file, regions);
+    }
+
+    /**
+     * 업로드한 클라이언트가 정한 콘텐츠 타입을 그대로 인라인으로 보내도 되는지 확인합니다.
+     * 동영상, 오디오, 래스터 이미지(PNG, JPEG, GIF, WebP, AVIF, BMP)만 허용합니다.
+     *
+     * @param contentType 확인할 콘텐츠 타입입니다.
+     * @return 인라인으로 보낼 수 있으면 true, 아니면 false 입니다.
+     */
+
+    public static boolean isInlineType(String contentType) {
+        MediaType type;
+        try {
+            type = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        if (type.isWildcardSubtype()) {
+            return false;
+        }
+        return switch (type.getType()) {
+            case "video", "audio" -> true;
+            case "image" -> INLINE_IMAGE_SUBTYPES.contains(type.getSubtype());
+            default -> false;
+        };
+    }
+
+    /**
+     * 브라우저가 내용을 다른 타입으로 추측하거나 문서로 실행하지 않도록 nosniff 와 sandbox CSP 헤더를 설정합니다.
+     *
+     * @param response 현재 HTTP 응답입니다.
+     */
+
+    public static void setSafeContentHeaders(HttpServletResponse response) {
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "sandbox");
+    }
+
+
+    // Range 헤더의 구간 목록 ([시작, 끝] 포함 범위), Range 를 무시해야 하면 null, 만족할 수 있는 구간이 없으면 빈 목록
+    private static List<long[]> requestedRegions(HttpServletRequest request, long size) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return null; // 형식이 잘못된 Range 는 무시
+        }
+        if (ranges.isEmpty() || ranges.size() > MAX_RANGES) {
+            return null;
+        }
+
+        List<long[]> regions = new ArrayList<>();
+        long total = 0;
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(size);
+            long end = range.getRangeEnd(size);
+            if (start >= size || start > end) {
+                continue;
+            }
+            regions.add(new long[]{start, end});
+            total += end - start + 1;
+        }
+        // 겹치는 구간으로 원본보다 큰 응답을 만들게 하는 요청은 전체 응답으로 처리
+        return total > size ? null : regions;
+    }
+
+    // 허용된 구간으로 제한 (Range 가 없으면 허용된 구간 전체, 벗어나는 구간이 있으면 빈 목록)
+    private static List<long[]> restrict(List<long[]> regions, HttpRange allowed, long size) {
+        if (size == 0) {
+            return regions;
+        }
+        long allowedStart = allowed.getRangeStart(size);
+        long allowedEnd = allowed.getRangeEnd(size);
+        if (allowedStart >= size || allowedStart > allowedEnd) {
+            return List.of();
+        }
+        if (regions == null) {
+            // 전체가 허용되면 200 으로 전송
+            return allowedStart == 0 && allowedEnd == size - 1 ? null : List.<long[]>of(new long[]{allowedStart, allowedEnd});
+        }
+        for (long[] region : regions) {
+            if (region[0] < allowedStart || region[1] > allowedEnd) {
+                return List.of();
+            }
+        }
+        return regions;
+    }
+
+    // 한 구간 (로컬 파일이면 sendfile)
+    private void sendSingle(HttpServletRequest request, HttpServletResponse response, MediaFile file,
+                            long start, long length) throws IOException {
+        if (isHead(request) || length == 0) {
+            return;
+        }
+        Path local = blobStorage.localPath(file.hash());
+        if (local != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, local.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        transfer(response.getOutputStream(), file.hash(), local, start, length);
+    }
+
+    // 여러 구간 (multipart/byteranges)
+    private void sendMultipart(HttpServletRequest request, HttpServletResponse response, MediaFile file,
+                               List<long[]> regions) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0;
+        for (long[] region : regions) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + file.contentType() + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region[0], region[1], file.size()) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + region[1] - region[0] + 1;
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (isHead(request)) {
+            return;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        Path local = blobStorage.localPath(file.hash());
+        for (int i = 0; i < regions.size(); i++) {
+            long[] region = regions.get(i);
+            out.write(partHeaders.get(i));
+            transfer(out, file.hash(), local, region[0], region[1] - region[0] + 1);
+        }
+        out.write(closing);
+    }
+
+    // 로컬 파일은 FileChannel.transferTo, 원격 원본은 스트림 복사
+    // (대상이 소켓/파일 채널이 아니므로 transferTo 도 제로 카피가 아닌 버퍼 복사, 제로 카피는 sendfile 경로만 해당)
+    private void transfer(ServletOutputStream out, String hash, Path local, long start, long length) throws IOException {
+        if (local != null) {
+            WritableByteChannel target = Channels.newChannel(out);
+            try (FileChannel channel = FileChannel.open(local, StandardOpenOption.READ)) {
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        throw new IOException("Unexpected end of blob " + hash + " at " + position);
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+            return;
+        }
+        try (InputStream in = blobStorage.get(hash)) {
+            StreamUtils.copyRange(in, out, start, start + length - 1);
+        }
+    }
+
+    private static String contentRange(long start, long end, long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+
+    // HEAD 는 헤더만 전송
+    private static boolean isHead(HttpServletRequest request) {
+        return "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+}
@@ -0,0 +1,129 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.web.dto.media.MediaClaimRequest;
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.MediaSignRequest;
+import com.lumeneditor.www.web.dto.media.SignedMediaUrlResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface MediaService {
+
+    /**
+     * 현재 사용자의 작업공간에 미디어(영상, 음성, 이미지 등)를 업로드합니다.
+     * <p>
+     * 파일 내용의 SHA-256 을 계산하여 저장소에 같은 내용이 이미 있으면 다시 저장하지 않고 참조만 추가합니다.
+     * 다른 사용자가 올린 같은 파일도 하나의 원본을 공유합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param file 업로드한 파일.
+     * @return 추가된 미디어를 포함한 201 응답, 파일이 비어 있으면 400, 작업공간이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<MediaResponse> uploadMedia(HttpServletRequest request, MultipartFile file) throws IOException;
+
+    /**
+     * 파일을 업로드하지 않고 해시로 미디어를 추가합니다.
+     * <p>
+     * 같은 작업공간에 같은 내용(SHA-256 과 크기가 모두 같은)의 미디어가 이미 있을 때만 성공하며,
+     * 이 경우 클라이언트는 파일 전송을 생략할 수 있습니다. 실패하면 {@link #uploadMedia} 로 업로드합니다.
+     * 해시만 아는 사용자가 다른 작업공간의 미디어를 가져갈 수 없도록 작업공간 단위로 제한합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param claimRequest 파일의 SHA-256, 크기, 이름, 콘텐츠 타입.
+     * @return 추가된 미디어를 포함한 201 응답, 입력이 잘못되면 400, 같은 내용이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<MediaResponse> claimMedia(HttpServletRequest request, MediaClaimRequest claimRequest);
+
+    /**
+     * 현재 사용자의 작업공간 미디어 목록을 최근 업로드 순서로 조회합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param after 이전 페이지 마지막 항목의 mediaKey, 첫 페이지는 null.
+     * @param size 페이지 크기 (1~100).
+     * @return 미디어 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<MediaResponse>> getMediaList(HttpServletRequest request, Long after, int size);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 미디어의 내용을 내려받습니다. 미리보기 재생을 위해 Range 요청을 지원합니다.
+     * <p>
+     * 미디어의 내용은 바뀌지 않으므로 SHA-256 을 ETag 로 사용하며, If-None-Match 가 같으면 304 를 반환합니다.
+     * 단일/다중 구간과 If-Range 를 지원하고, 로컬 원본은 힙에 복사하지 않고 전송합니다 ({@link MediaRangeWriter}).
+     * 응답 본문이 크므로 ResponseEntity 대신 응답에 직접 기록합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보와 Range 헤더를 포함하고 있습니다.
+     * @param response 미디어 내용을 기록할 HttpServletResponse 객체. 미디어가 없으면 404 로 설정됩니다.
+     * @param mediaKey 내려받을 미디어의 키.
+     */
+
+    void downloadMedia(HttpServletRequest request, HttpServletResponse response, Long mediaKey) throws IOException;
+
+    /**
+     * 현재 사용자의 미디어에 대해 쿠키 없이 내려받을 수 있는 서명된 URL 을 발급합니다.
+     * <p>
+     * 타임라인의 썸네일처럼 많은 미디어를 한 화면에서 불러올 때, 한 번의 조회로 모든 URL 을 발급받은 뒤
+     * 각 이미지와 구간 요청은 {@link #downloadSignedMedia} 에서 DB, Redis 조회 없이 처리됩니다.
+     * rangeStart, rangeEnd 를 지정하면 URL 로 내려받을 수 있는 구간이 그 범위로 제한됩니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param signRequest URL 을 발급할 미디어 키 목록(최대 500개)과 허용할 구간.
+     * @return 발급된 URL 목록을 포함한 ResponseEntity 객체, 입력이 잘못되면 400. 현재 사용자의 미디어가 아닌 키는 제외됩니다.
+     */
+
+    ResponseEntity<List<SignedMediaUrlResponse>> signMediaUrls(HttpServletRequest request, MediaSignRequest signRequest);
+
+    /**
+     * 서명된 URL 로 미디어를 내려받습니다.
+     * <p>
+     * 서명과 만료 시각만 확인하고, 원본 정보는 URL 에 담긴 값을 사용하므로 JWT 파싱과 DB, Redis 조회가 없습니다.
+     * Range, If-Range, If-None-Match 는 {@link #downloadMedia} 와 같이 지원하며, URL 에 허용 구간이 있으면 그 안에서만 응답합니다.
+     *
+     * @param request 서명된 URL 로 들어온 HttpServletRequest 객체.
+     * @param response 미디어 내용을 기록할 HttpServletResponse 객체. 서명이 맞지 않거나 만료되면 403, 원본이 없으면 404 로 설정됩니다.
+     * @param mediaKey 경로의 미디어 키.
+     */
+
+    void downloadSignedMedia(HttpServletRequest request, HttpServletResponse response, Long mediaKey) throws IOException;
+
+    /**
+     * 현재 사용자의 작업공간에서 미디어를 삭제합니다. 원본을 참조하는 곳이 더 없으면 원본도 삭제됩니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param mediaKey 삭제할 미디어의 키.
+     * @return 삭제 성공 시 true, 미디어가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> deleteMedia(HttpServletRequest request, Long mediaKey);
+
+    /**
+     * 현재 사용자의 로고 이미지를 업로드합니다.
+     * <p>
+     * 미디어와 같은 원본 저장소를 사용하며, 사용자 정보의 logoImage 에는 원본의 SHA-256 이 저장됩니다.
+     * 이전 로고의 참조는 제거됩니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param file 업로드한 이미지 파일 (최대 2MB).
+     * @return 변경 성공 시 true, 이미지가 아니거나 너무 크면 400, 사용자가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> uploadLogo(HttpServletRequest request, MultipartFile file) throws IOException;
+
+    /**
+     * 현재 사용자의 로고 이미지를 내려받습니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @return 로고 이미지를 포함한 ResponseEntity 객체, 로고가 없으면 404.
+     */
+
+    ResponseEntity<Resource> downloadLogo(HttpServletRequest request) throws IOException;
+
+}
@@ -0,0 +1,256 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.comm.ETagUtil;
+import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.comm.RowVersion;
+import com.lumeneditor.www.domain.auth.WorkSpacesRepository;
+import com.lumeneditor.www.domain.auth.entity.User;
+import com.lumeneditor.www.domain.main.account.AccountRepository;
+import com.lumeneditor.www.domain.media.MediaBlobStore.StoredBlob;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.web.dto.media.MediaClaimRequest;
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.MediaSignRequest;
+import com.lumeneditor.www.web.dto.media.SignedMediaUrlResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.*;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MediaServiceImpl implements MediaService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final long MAX_LOGO_SIZE = 2L * 1024 * 1024;
+    private static final int MAX_SIGN_ITEMS = 500;
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkSpacesRepository workSpacesRepository;
+    private final WorkspaceMediaRepository workspaceMediaRepository;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final AccountRepository accountRepository;
+    private final MediaBlobStore mediaBlobStore;
+    private final MediaRangeWriter mediaRangeWriter;
+    private final MediaUrlSigner mediaUrlSigner;
+
+
+    // 미디어 업로드 (같은 내용은 원본 공유)
+    @Override
+    @Transactional
+    public ResponseEntity<MediaResponse> uploadMedia(HttpServletRequest request, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty() || !isValidFileName(file.getOriginalFilename())) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 파일 저장은 첫 쿼리 전에 수행 (업로드 동안 DB 연결을 잡지 않음)
+        try (StoredBlob stored = mediaBlobStore.store(file.getInputStream())) {
+            RowVersion workspace = findWorkspace(request);
+            if (workspace == null) {
+                return ResponseEntity.notFound().build();
+            }
+            WorkspaceMedia media = mediaBlobStore.attach(workspace.key(), stored, file.getOriginalFilename(), file.getContentType());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(new MediaResponse(media.getMediaKey(), media.getFileName(),
+                    media.getContentType(), stored.size(), stored.hash(), media.getCreatedDate()));
+        }
+    }
+
+    // 해시로 미디어 추가 (같은 작업공간에 같은 내용이 있을 때만)
+    @Override
+    @Transactional
+    public ResponseEntity<MediaResponse> claimMedia(HttpServletRequest request, MediaClaimRequest claimRequest) {
+        if (!MediaBlobStore.isHash(claimRequest.getSha256()) || claimRequest.getSize() == null
+                || !isValidFileName(claimRequest.getFileName())) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null
+                || mediaBlobRepository.addReferenceInWorkspace(claimRequest.getSha256(), claimRequest.getSize(), workspace.key()) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        WorkspaceMedia media = mediaBlobStore.saveMedia(workspace.key(), claimRequest.getSha256(), claimRequest.getFileName(), claimRequest.getContentType());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(new MediaResponse(media.getMediaKey(), media.getFileName(),
+                media.getContentType(), claimRequest.getSize(), claimRequest.getSha256(), media.getCreatedDate()));
+    }
+
+    // 미디어 목록 (최근 업로드 순)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<MediaResponse>> getMediaList(HttpServletRequest request, Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(workspaceMediaRepository.findPage(workspace.key(),
+                after == null ? Long.MAX_VALUE : after, Limit.of(size)));
+    }
+
+    // 미디어 내려받기 (Range 지원, 전송 중 DB 연결을 잡지 않도록 트랜잭션 없이 조회)
+    @Override
+    public void downloadMedia(HttpServletRequest request, HttpServletResponse response, Long mediaKey) throws IOException {
+        RowVersion workspace = findWorkspace(request);
+        WorkspaceMedia media = workspace == null ? null
+                : workspaceMediaRepository.findInWorkspace(mediaKey, workspace.key()).orElse(null);
+        if (media == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        mediaRangeWriter.write(request, response, new MediaRangeWriter.MediaFile(media.getBlob().getBlobHash(),
+                media.getBlob().getBlobSize(), media.getContentType(), media.getFileName()));
+    }
+
+    // 서명된 URL 발급 (한 번의 조회로 여러 미디어)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<SignedMediaUrlResponse>> signMediaUrls(HttpServletRequest request, MediaSignRequest signRequest) {
+        List<Long> mediaKeys = signRequest.getMediaKeys();
+        if (mediaKeys == null || mediaKeys.isEmpty() || mediaKeys.size() > MAX_SIGN_ITEMS || mediaKeys.contains(null)
+                || !isValidRange(signRequest.getRangeStart(), signRequest.getRangeEnd())) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<SignedMediaUrlResponse> urls = workspaceMediaRepository.findSignable(new LinkedHashSet<>(mediaKeys), getUserId(request))
+                .stream()
+                .map(media -> mediaUrlSigner.sign(media, signRequest.getRangeStart(), signRequest.getRangeEnd()))
+                .toList();
+        return ResponseEntity.ok(urls);
+    }
+
+    // 서명된 URL 로 내려받기 (서명과 만료만 확인)
+    @Override
+    public void downloadSignedMedia(HttpServletRequest request, HttpServletResponse response, Long mediaKey) throws IOException {
+        MediaUrlSigner.SignedMedia signed = mediaUrlSigner.verify(mediaKey, request);
+        if (signed == null) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        // URL 발급 후 마지막 참조가 삭제되어 원본이 수거된 경우
+        if (!mediaBlobStore.exists(signed.file().hash())) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        mediaRangeWriter.write(request, response, signed.file(), signed.range());
+    }
+
+    // 미디어 삭제 (마지막 참조이면 유예 시간 후 원본도 수거)
+    @Override
+    @Transactional
+    public ResponseEntity<Boolean> deleteMedia(HttpServletRequest request, Long mediaKey) {
+        RowVersion workspace = findWorkspace(request);
+        String hash = workspace == null ? null : workspaceMediaRepository.findBlobHashInWorkspace(mediaKey, workspace.key());
+        if (hash == null || workspaceMediaRepository.deleteInWorkspace(mediaKey, workspace.key()) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        mediaBlobStore.release(hash);
+        return ResponseEntity.ok(true);
+    }
+
+    // 로고 이미지 업로드 (logoImage 에 원본 해시 저장)
+    @Override
+    @Transactional
+    public ResponseEntity<Boolean> uploadLogo(HttpServletRequest request, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty() || file.getSize() > MAX_LOGO_SIZE
+                || file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+            return ResponseEntity.badRequest().body(false);
+        }
+        try (StoredBlob stored = mediaBlobStore.store(file.getInputStream())) {
+            User user = accountRepository.findByUserId(getUserId(request));
+            if (user == null) {
+                return ResponseEntity.notFound().build();
+            }
+            String previous = user.getLogoImage();
+            if (stored.hash().equals(previous)) {
+                return ResponseEntity.ok(true);
+            }
+            mediaBlobStore.addReference(stored);
+            user.setLogoImage(stored.hash());
+            if (MediaBlobStore.isHash(previous)) {
+                mediaBlobStore.release(previous);
+            }
+            return ResponseEntity.ok(true);
+        }
+    }
+
+    // 로고 이미지 내려받기
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> downloadLogo(HttpServletRequest request) throws IOException {
+        User user = accountRepository.findByUserId(getUserId(request));
+        if (user == null || !MediaBlobStore.isHash(user.getLogoImage())) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String hash = user.getLogoImage();
+        ResponseEntity.BodyBuilder builder = blobResponse(request, hash);
+        if (builder == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag(hash))
+                    .cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
+        // 로고는 콘텐츠 타입을 따로 저장하지 않으므로 내용의 시그니처로 판별 (래스터 이미지가 아니면 내려받기로만 전송)
+        InputStream content = new BufferedInputStream(mediaBlobStore.open(hash));
+        String contentType = URLConnection.guessContentTypeFromStream(content);
+        return builder
+                .contentType(MediaType.parseMediaType(contentType != null && contentType.startsWith("image/")
+                        && MediaRangeWriter.isInlineType(contentType) ? contentType : DEFAULT_CONTENT_TYPE))
+                .header("X-Content-Type-Options", "nosniff")
+                .header("Content-Security-Policy", "sandbox")
+                .body(new InputStreamResource(content));
+    }
+
+
+    // 원본의 해시를 ETag 로 사용, 변경되지 않았으면 null
+    // (로고는 바뀌어도 URL 이 같으므로 오래 캐시하지 않고 매번 ETag 로 재검증)
+    private ResponseEntity.BodyBuilder blobResponse(HttpServletRequest request, String hash) {
+        String etag = etag(hash);
+        if (ETagUtil.isNotModified(request, etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate());
+    }
+
+    private static String etag(String hash) {
+        return "\"" + hash + "\"";
+    }
+
+    // 쿠키의 토큰으로 현재 사용자의 작업공간 (회원가입 시 생성된 첫 작업공간)
+    private RowVersion findWorkspace(HttpServletRequest request) {
+        List<RowVersion> workspaces = workSpacesRepository.findRowVersionsByUserId(getUserId(request));
+        return workspaces.isEmpty() ? null : workspaces.get(0);
+    }
+
+    private String getUserId(HttpServletRequest request) {
+        String accessToken = JwtTokenUtil.extractTokenFromCookies(request);
+        return jwtTokenProvider.getAdminUserInfoFromToken(accessToken);
+    }
+
+    // 허용 구간은 생략하거나 0 이상의 시작과 시작 이상의 끝
+    private boolean isValidRange(Long rangeStart, Long rangeEnd) {
+        if (rangeStart == null) {
+            return rangeEnd == null;
+        }
+        return rangeStart >= 0 && (rangeEnd == null || rangeEnd >= rangeStart);
+    }
+
+    private boolean isValidFileName(String fileName) {
+        return fileName != null && !fileName.isBlank() && fileName.strip().length() <= MAX_FILE_NAME_LENGTH;
+    }
+}
@@ -0,0 +1,168 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.media.MediaRangeWriter.MediaFile;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.web.dto.media.SignedMediaUrlResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 쿠키 없이 미디어를 내려받을 수 있는 서명된 URL 을 만들고 검증합니다.
+ * <p>
+ * URL 에는 경로(미디어 키), 사용자 키, 원본 해시/크기/콘텐츠 타입, 만료 시각, 허용 구간이 담기고
+ * 이 값들을 JWT 시크릿에서 파생한 키로 HMAC-SHA256 서명합니다 ({@link JwtTokenProvider#deriveKey}).
+ * 검증은 서명 비교(상수 시간)와 만료 확인만 하므로 썸네일이나 구간 요청마다 JWT 파싱, DB, Redis 조회가 없습니다.
+ * <p>
+ * 만료 시각은 window 단위로 올림하여, 같은 미디어에 대해 window 안에 다시 발급한 URL 이 같아지고 브라우저 캐시가 재사용됩니다.
+ */
+@Component
+public class MediaUrlSigner {
+
+    public static final String PATH_PREFIX = "/media/signed/";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_PURPOSE = "lumen-media-url-v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final long expirySeconds;
+    private final long windowSeconds;
+    private final Clock clock;
+
+    /**
+     * 서명된 URL 로 확인된 미디어입니다.
+     *
+     * @param file    전송할 미디어입니다.
+     * @param userKey URL 을 발급받은 사용자의 키입니다.
+     * @param range   허용된 구간, 제한이 없으면 null 입니다.
+     */
+    public record SignedMedia(MediaFile file, long userKey, HttpRange range) {
+    }
+
+    @Autowired
+    public MediaUrlSigner(JwtTokenProvider jwtTokenProvider,
+                          @Value("${lumen.media.signed-url-expiry:1h}") Duration expiry,
+                          @Value("${lumen.media.signed-url-window:10m}") Duration window) {
+        this(jwtTokenProvider.deriveKey(KEY_PURPOSE), expiry, window, Clock.systemUTC());
+    }
+
+    MediaUrlSigner(byte[] key, Duration expiry, Duration window, Clock clock) {
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize media URL signer", e);
+        }
+        this.expirySeconds = expiry.toSeconds();
+        this.windowSeconds = Math.max(1, window.toSeconds());
+        this.clock = clock;
+    }
+
+    /**
+     * 미디어의 서명된 URL 을 만듭니다.
+     *
+     * @param media      URL 을 만들 미디어입니다.
+     * @param rangeStart 허용할 구간의 시작 바이트, 제한하지 않으면 null 입니다.
+     * @param rangeEnd   허용할 구간의 끝 바이트(포함), 끝까지 허용하면 null 입니다.
+     * @return 서명된 URL 과 만료 시각입니다.
+     */
+
+    public SignedMediaUrlResponse sign(SignableMedia media, Long rangeStart, Long rangeEnd) {
+        long now = clock.millis() / 1000;
+        long expiresAt = ceilToWindow(now + expirySeconds);
+        String range = rangeStart == null ? null : rangeStart + "-" + (rangeEnd == null ? "" : rangeEnd);
+
+        String signature = ENCODER.encodeToString(mac(canonical(media.mediaKey(), media.blobHash(),
+                String.valueOf(media.blobSize()), media.contentType(), String.valueOf(media.userKey()),
+                String.valueOf(expiresAt), range)));
+
+        StringBuilder url = new StringBuilder(PATH_PREFIX).append(media.mediaKey())
+                .append("?h=").append(media.blobHash())
+                .append("&l=").append(media.blobSize())
+                .append("&t=").append(URLEncoder.encode(media.contentType(), StandardCharsets.UTF_8))
+                .append("&u=").append(media.userKey())
+                .append("&e=").append(expiresAt);
+        if (range != null) {
+            url.append("&r=").append(range);
+        }
+        url.append("&s=").append(signature);
+        return new SignedMediaUrlResponse(media.mediaKey(), url.toString(), expiresAt);
+    }
+
+    /**
+     * 요청의 서명과 만료 시각을 확인합니다.
+     *
+     * @param mediaKey 경로의 미디어 키입니다.
+     * @param request  서명된 URL 로 들어온 요청입니다.
+     * @return 확인된 미디어, 서명이 맞지 않거나 만료되었거나 형식이 잘못되면 null 입니다.
+     */
+
+    public SignedMedia verify(Long mediaKey, HttpServletRequest request) {
+        String hash = request.getParameter("h");
+        String size = request.getParameter("l");
+        String contentType = request.getParameter("t");
+        String userKey = request.getParameter("u");
+        String expiresAt = request.getParameter("e");
+        String range = request.getParameter("r");
+        String signature = request.getParameter("s");
+        if (mediaKey == null || !MediaBlobStore.isHash(hash) || size == null || contentType == null
+                || userKey == null || expiresAt == null || signature == null) {
+            return null;
+        }
+
+        byte[] provided;
+        try {
+            provided = DECODER.decode(signature);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        byte[] expected = mac(canonical(mediaKey, hash, size, contentType, userKey, expiresAt, range));
+        if (!MessageDigest.isEqual(expected, provided)) {
+            return null;
+        }
+
+        // 서명이 맞으면 값은 발급 시 만든 그대로이므로 형식 오류는 없음
+        if (Long.parseLong(expiresAt) <= clock.millis() / 1000) {
+            return null;
+        }
+        HttpRange allowed = range == null ? null : HttpRange.parseRanges("bytes=" + range).get(0);
+        return new SignedMedia(new MediaFile(hash, Long.parseLong(size), contentType, null), Long.parseLong(userKey), allowed);
+    }
+
+
+    // 서명 대상 문자열 (필드 사이에 URL 에 나올 수 없는 줄바꿈을 넣어 경계가 모호하지 않게 함)
+    private static String canonical(Long mediaKey, String hash, String size, String contentType,
+                                    String userKey, String expiresAt, String range) {
+        return PATH_PREFIX + mediaKey + "\n" + hash + "\n" + size + "\n" + contentType + "\n"
+                + userKey + "\n" + expiresAt + "\n" + (range == null ? "" : range);
+    }
+
+    // Mac 은 스레드 안전하지 않으므로 초기화된 원본을 복제하여 사용
+    private byte[] mac(String message) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC provider does not support clone", e);
+        }
+        return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long ceilToWindow(long epochSeconds) {
+        return (epochSeconds + windowSeconds - 1) / windowSeconds * windowSeconds;
+    }
+}
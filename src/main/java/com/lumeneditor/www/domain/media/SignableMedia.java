@@ -0,0 +1,13 @@
+package com.lumeneditor.www.domain.media;
+
+/**
+ * 서명된 URL 을 만들 때 필요한 미디어 정보입니다. URL 에 담겨 내려받기 시 DB 조회 없이 사용됩니다.
+ *
+ * @param mediaKey    미디어의 키입니다.
+ * @param userKey     미디어가 속한 작업공간 소유자의 키입니다.
+ * @param blobHash    원본의 SHA-256 해시입니다.
+ * @param blobSize    원본의 크기입니다.
+ * @param contentType 응답의 콘텐츠 타입입니다.
+ */
+public record SignableMedia(Long mediaKey, Long userKey, String blobHash, long blobSize, String contentType) {
+}
@@ -0,0 +1,55 @@
+package com.lumeneditor.www.domain.media;
+
+
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.UploadPartResponse;
+import com.lumeneditor.www.web.dto.media.UploadSessionRequest;
+import com.lumeneditor.www.web.dto.media.UploadSessionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/media/")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    // 조각 업로드 세션 생성
+    @PostMapping("uploads")
+    public ResponseEntity<UploadSessionResponse> createUpload(HttpServletRequest request,
+                                                              @RequestBody UploadSessionRequest sessionRequest) throws IOException {
+        return uploadService.createUpload(request, sessionRequest);
+    }
+
+    // 업로드 상태 (빠진 조각 번호)
+    @GetMapping("uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUpload(HttpServletRequest request, @PathVariable String uploadId) throws IOException {
+        return uploadService.getUpload(request, uploadId);
+    }
+
+    // 조각 업로드 (본문은 조각 내용 그대로, 선택적으로 X-Chunk-Sha256 헤더)
+    @PutMapping("uploads/{uploadId}/parts/{partNumber}")
+    public ResponseEntity<UploadPartResponse> uploadPart(HttpServletRequest request, @PathVariable String uploadId,
+                                                         @PathVariable int partNumber) throws IOException {
+        return uploadService.uploadPart(request, uploadId, partNumber);
+    }
+
+    // 업로드 완료 (작업공간 미디어로 추가)
+    @PostMapping("uploads/{uploadId}/complete")
+    public ResponseEntity<MediaResponse> completeUpload(HttpServletRequest request, @PathVariable String uploadId) throws IOException {
+        return uploadService.completeUpload(request, uploadId);
+    }
+
+    // 업로드 취소
+    @DeleteMapping("uploads/{uploadId}")
+    public ResponseEntity<Boolean> abortUpload(HttpServletRequest request, @PathVariable String uploadId) throws IOException {
+        return uploadService.abortUpload(request, uploadId);
+    }
+
+
+}
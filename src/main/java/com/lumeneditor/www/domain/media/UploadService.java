@@ -0,0 +1,75 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.UploadPartResponse;
+import com.lumeneditor.www.web.dto.media.UploadSessionRequest;
+import com.lumeneditor.www.web.dto.media.UploadSessionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+public interface UploadService {
+
+    /**
+     * 큰 미디어 파일을 조각으로 나누어 올리기 위한 업로드 세션을 만듭니다.
+     * <p>
+     * 전체 크기의 파일을 업로드 디렉터리에 미리 만들어 두며 (sparse), 응답의 uploadId 와 조각 번호로 각 조각을 올립니다.
+     * 세션은 lumen.storage.upload-expiry 가 지나면 만료됩니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param sessionRequest 파일 이름, 콘텐츠 타입, 전체 크기, 조각 크기.
+     * @return 생성된 세션을 포함한 201 응답, 입력이 잘못되면 400, 작업공간이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<UploadSessionResponse> createUpload(HttpServletRequest request, UploadSessionRequest sessionRequest) throws IOException;
+
+    /**
+     * 업로드 세션의 상태와 아직 받지 못한 조각 번호를 조회합니다. 끊긴 업로드를 이어서 올릴 때 사용합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param uploadId 업로드 세션 ID.
+     * @return 세션 상태를 포함한 ResponseEntity 객체, 세션이 없거나 만료되었으면 404.
+     */
+
+    ResponseEntity<UploadSessionResponse> getUpload(HttpServletRequest request, String uploadId) throws IOException;
+
+    /**
+     * 조각 하나를 받아 파일의 해당 위치에 바로 기록합니다.
+     * <p>
+     * 요청 본문은 메모리에 모으지 않고 FileChannel 로 파일에 직접 기록하며, 기록하면서 SHA-256 을 계산합니다.
+     * X-Chunk-Sha256 헤더가 있으면 계산한 값과 비교하여 다르면 조각을 받지 않은 것으로 처리합니다.
+     * 서로 다른 조각은 동시에 올릴 수 있고, 같은 조각을 다시 올리면 덮어씁니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 본문이 조각 내용입니다.
+     * @param uploadId 업로드 세션 ID.
+     * @param partNumber 1부터 시작하는 조각 번호.
+     * @return 받은 조각의 체크섬, 크기나 체크섬이 맞지 않으면 400, 세션이 없으면 404, 완료 처리 중이면 409 ResponseEntity 객체.
+     */
+
+    ResponseEntity<UploadPartResponse> uploadPart(HttpServletRequest request, String uploadId, int partNumber) throws IOException;
+
+    /**
+     * 모든 조각을 받은 업로드를 완료하고 작업공간 미디어로 추가합니다.
+     * <p>
+     * 조각은 이미 최종 위치에 기록되어 있으므로 다시 합치지 않고, 전체 SHA-256 만 계산한 뒤 파일을 원본 저장소로 이동합니다.
+     * 같은 내용이 이미 저장되어 있으면 파일은 삭제되고 기존 원본을 참조합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param uploadId 업로드 세션 ID.
+     * @return 추가된 미디어를 포함한 201 응답, 세션이 없으면 404, 빠진 조각이 있거나 이미 완료 처리 중이면 409 ResponseEntity 객체.
+     */
+
+    ResponseEntity<MediaResponse> completeUpload(HttpServletRequest request, String uploadId) throws IOException;
+
+    /**
+     * 업로드를 취소하고 받은 조각을 삭제합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param uploadId 업로드 세션 ID.
+     * @return 취소 성공 시 true, 세션이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> abortUpload(HttpServletRequest request, String uploadId) throws IOException;
+
+}
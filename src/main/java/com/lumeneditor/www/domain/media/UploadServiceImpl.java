@@ -0,0 +1,330 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.comm.RowVersion;
+import com.lumeneditor.www.comm.eunm.UploadStatus;
+import com.lumeneditor.www.domain.auth.WorkSpacesRepository;
+import com.lumeneditor.www.domain.media.MediaBlobStore.StoredBlob;
+import com.lumeneditor.www.domain.media.entity.UploadSession;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import com.lumeneditor.www.web.dto.media.UploadPartResponse;
+import com.lumeneditor.www.web.dto.media.UploadSessionRequest;
+import com.lumeneditor.www.web.dto.media.UploadSessionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadServiceImpl implements UploadService {
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final String CHUNK_SHA256_HEADER = "X-Chunk-Sha256";
+    private static final String PART_FILE_SUFFIX = ".part";
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkSpacesRepository workSpacesRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final MediaBlobStore mediaBlobStore;
+
+    // 세션별 잠금: 조각 기록은 공유, 완료/삭제는 배타
+    // (조각 파일과 잠금이 모두 이 서버에만 있으므로, 여러 서버에서는 한 세션의 요청이 같은 서버로 가도록 uploadId 기준 고정 라우팅 필요)
+    private final Map<String, ReentrantReadWriteLock> sessionLocks = new ConcurrentHashMap<>();
+
+    @Value("${lumen.storage.upload-dir}")
+    private Path uploadDir;
+
+    @Value("${lumen.storage.max-upload-size:20GB}")
+    private DataSize maxUploadSize;
+
+    @Value("${lumen.storage.upload-expiry:24h}")
+    private Duration uploadExpiry;
+
+
+    // 업로드 세션 생성 (전체 크기의 파일을 미리 생성)
+    @Override
+    public ResponseEntity<UploadSessionResponse> createUpload(HttpServletRequest request, UploadSessionRequest sessionRequest) throws IOException {
+        Long size = sessionRequest.getSize();
+        int chunkSize = sessionRequest.getChunkSize() == null ? DEFAULT_CHUNK_SIZE : sessionRequest.getChunkSize();
+        if (!isValidFileName(sessionRequest.getFileName()) || size == null || size < 1 || size > maxUploadSize.toBytes()
+                || chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE || (size + chunkSize - 1) / chunkSize > MAX_PART_COUNT) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Files.createDirectories(uploadDir);
+        try (RandomAccessFile file = new RandomAccessFile(uploadFile(uploadId).toFile(), "rw")) {
+            file.setLength(size); // 조각마다 제 위치에 기록하므로 완료 시 다시 합치지 않음
+        }
+
+        UploadSession session = UploadSession.builder()
+                .uploadId(uploadId)
+                .workSpaces(workSpacesRepository.getReferenceById(workspace.key()))
+                .fileName(sessionRequest.getFileName().strip())
+                .contentType(sessionRequest.getContentType() == null ? "" : sessionRequest.getContentType())
+                .totalSize(size)
+                .chunkSize(chunkSize)
+                .partCount((int) ((size + chunkSize - 1) / chunkSize))
+                .build();
+        uploadSessionRepository.save(session);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(session, List.of()));
+    }
+
+    // 업로드 상태 (빠진 조각)
+    @Override
+    public ResponseEntity<UploadSessionResponse> getUpload(HttpServletRequest request, String uploadId) throws IOException {
+        UploadSession session = findSession(request, uploadId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(toResponse(session, uploadSessionRepository.findPartNumbers(uploadId)));
+    }
+
+    // 조각 업로드 (요청 본문을 파일의 해당 위치에 바로 기록)
+    @Override
+    public ResponseEntity<UploadPartResponse> uploadPart(HttpServletRequest request, String uploadId, int partNumber) throws IOException {
+        UploadSession session = findSession(request, uploadId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (session.getStatus() != UploadStatus.OPEN) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        if (partNumber < 1 || partNumber > session.getPartCount()) {
+            return ResponseEntity.badRequest().build();
+        }
+        long offset = session.offsetOf(partNumber);
+        long length = session.lengthOf(partNumber);
+        if (request.getContentLengthLong() != -1 && request.getContentLengthLong() != length) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 완료 처리가 파일을 옮기는 동안 기록하지 않도록 공유 잠금을 잡고 상태를 다시 확인
+        Lock lock = sessionLock(uploadId).readLock();
+        if (!lock.tryLock()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        try {
+            if (uploadSessionRepository.findStatus(uploadId).orElse(null) != UploadStatus.OPEN) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+
+            // 트랜잭션 밖에서 본문을 받으므로 조각을 받는 동안 DB 연결을 잡지 않음
+            MessageDigest digest = MediaBlobStore.sha256();
+            long written = 0;
+            boolean overflow;
+            try (FileChannel channel = FileChannel.open(uploadFile(uploadId), StandardOpenOption.WRITE);
+                 ReadableByteChannel body = Channels.newChannel(new DigestInputStream(request.getInputStream(), digest))) {
+                while (written < length) {
+                    long transferred = channel.transferFrom(body, offset + written, length - written);
+                    if (transferred <= 0) {
+                        break; // 본문이 예상보다 짧음
+                    }
+                    written += transferred;
+                }
+                overflow = written == length && body.read(ByteBuffer.allocate(1)) != -1;
+            }
+            String partHash = HexFormat.of().formatHex(digest.digest());
+            String expectedHash = request.getHeader(CHUNK_SHA256_HEADER);
+            if (written != length || overflow || (expectedHash != null && !expectedHash.equalsIgnoreCase(partHash))) {
+                log.debug("Rejected part {} of upload {}: {} of {} bytes, overflow={}", partNumber, uploadId, written, length, overflow);
+                return ResponseEntity.badRequest().build();
+            }
+
+            uploadSessionRepository.savePart(uploadId, partNumber, partHash);
+            return ResponseEntity.ok(new UploadPartResponse(partNumber, partHash));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 업로드 완료 (해시 계산 후 원본 저장소로 이동)
+    @Override
+    public ResponseEntity<MediaResponse> completeUpload(HttpServletRequest request, String uploadId) throws IOException {
+        UploadSession session = findSession(request, uploadId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // 기록 중인 조각이 있으면 충돌로 응답. 완료하는 동안 배타 잠금을 유지하여 조각 기록과 정리 작업이 파일을 건드리지 않게 함
+        Lock lock = sessionLock(uploadId).writeLock();
+        if (!lock.tryLock()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        StoredBlob stored;
+        WorkspaceMedia media;
+        try {
+            if (uploadSessionRepository.findPartNumbers(uploadId).size() != session.getPartCount()
+                    || uploadSessionRepository.updateStatus(uploadId, UploadStatus.OPEN, UploadStatus.COMPLETING) == 0) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+
+            Path file = uploadFile(uploadId);
+            try {
+                stored = mediaBlobStore.storeFile(file);
+            } catch (IOException e) {
+                // 저장한 내용의 해시가 맞지 않아 삭제된 경우에는 파일이 없으므로 세션도 정리
+                if (Files.exists(file)) {
+                    uploadSessionRepository.updateStatus(uploadId, UploadStatus.COMPLETING, UploadStatus.OPEN);
+                } else {
+                    discard(uploadId);
+                }
+                throw e;
+            }
+            try (stored) {
+                media = mediaBlobStore.attach(session.getWorkSpaces().getWorkspacesKey(), stored,
+                        session.getFileName(), session.getContentType());
+            }
+            uploadSessionRepository.deleteSession(uploadId);
+        } finally {
+            lock.unlock();
+        }
+        sessionLocks.remove(uploadId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(new MediaResponse(media.getMediaKey(), media.getFileName(),
+                media.getContentType(), stored.size(), stored.hash(), media.getCreatedDate()));
+    }
+
+    // 업로드 취소
+    @Override
+    public ResponseEntity<Boolean> abortUpload(HttpServletRequest request, String uploadId) throws IOException {
+        UploadSession session = findSession(request, uploadId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!discardIfIdle(uploadId)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(true);
+    }
+
+    // 완료나 취소 없이 떠난 업로드 정리 (만료된 세션, 세션 없이 남은 미리 만든 조각 파일)
+    @Scheduled(fixedDelayString = "${lumen.storage.upload-sweep:1h}")
+    public void sweepAbandonedUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(uploadExpiry);
+        try {
+            for (String uploadId : uploadSessionRepository.findExpired(cutoff, Limit.of(SWEEP_BATCH_SIZE))) {
+                discardIfIdle(uploadId);
+            }
+            if (!Files.isDirectory(uploadDir)) {
+                return;
+            }
+            // 세션 행은 파일을 만든 뒤 저장되므로, 만료 시간이 지나도록 수정되지 않은 파일만 확인
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(uploadDir, "*" + PART_FILE_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    String uploadId = name.substring(0, name.length() - PART_FILE_SUFFIX.length());
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff.atZone(ZoneId.systemDefault()).toInstant())
+                            && !uploadSessionRepository.existsById(uploadId)) {
+                        discardIfIdle(uploadId);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to sweep abandoned uploads: {}", e.getMessage());
+        }
+    }
+
+
+    // 현재 사용자의 작업공간에 속한 세션, 만료된 세션은 정리 후 null
+    private UploadSession findSession(HttpServletRequest request, String uploadId) throws IOException {
+        RowVersion workspace = findWorkspace(request);
+        UploadSession session = workspace == null ? null
+                : uploadSessionRepository.findInWorkspace(uploadId, workspace.key()).orElse(null);
+        if (session != null && session.getCreatedDate().plus(uploadExpiry).isBefore(LocalDateTime.now())) {
+            discardIfIdle(uploadId);
+            return null;
+        }
+        return session;
+    }
+
+    // 기록 중인 조각이 없으면 세션과 파일 삭제
+    private boolean discardIfIdle(String uploadId) throws IOException {
+        Lock lock = sessionLock(uploadId).writeLock();
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            discard(uploadId);
+        } finally {
+            lock.unlock();
+        }
+        sessionLocks.remove(uploadId);
+        return true;
+    }
+
+    private void discard(String uploadId) throws IOException {
+        uploadSessionRepository.deleteSession(uploadId);
+        Files.deleteIfExists(uploadFile(uploadId));
+    }
+
+    private ReentrantReadWriteLock sessionLock(String uploadId) {
+        return sessionLocks.computeIfAbsent(uploadId, id -> new ReentrantReadWriteLock());
+    }
+
+    private Path uploadFile(String uploadId) {
+        return uploadDir.resolve(uploadId + PART_FILE_SUFFIX);
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, List<Integer> receivedParts) {
+        Set<Integer> received = new HashSet<>(receivedParts);
+        List<Integer> missing = new ArrayList<>();
+        for (int partNumber = 1; partNumber <= session.getPartCount(); partNumber++) {
+            if (!received.contains(partNumber)) {
+                missing.add(partNumber);
+            }
+        }
+        return new UploadSessionResponse(session.getUploadId(), session.getChunkSize(), session.getPartCount(), missing);
+    }
+
+    // 쿠키의 토큰으로 현재 사용자의 작업공간 (회원가입 시 생성된 첫 작업공간)
+    private RowVersion findWorkspace(HttpServletRequest request) {
+        String accessToken = JwtTokenUtil.extractTokenFromCookies(request);
+        String userId = jwtTokenProvider.getAdminUserInfoFromToken(accessToken);
+        List<RowVersion> workspaces = workSpacesRepository.findRowVersionsByUserId(userId);
+        return workspaces.isEmpty() ? null : workspaces.get(0);
+    }
+
+    private boolean isValidFileName(String fileName) {
+        return fileName != null && !fileName.isBlank() && fileName.strip().length() <= MAX_FILE_NAME_LENGTH;
+    }
+}
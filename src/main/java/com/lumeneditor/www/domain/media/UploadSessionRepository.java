@@ -0,0 +1,97 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.comm.eunm.UploadStatus;
+import com.lumeneditor.www.domain.media.entity.UploadSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * 작업공간에 속한 업로드 세션을 조회합니다.
+     *
+     * @param uploadId      업로드 세션 ID.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 업로드 세션.
+     */
+    @Query("SELECT s FROM UploadSession s WHERE s.uploadId = :uploadId AND s.workSpaces.workspacesKey = :workspacesKey")
+    Optional<UploadSession> findInWorkspace(String uploadId, Long workspacesKey);
+
+    /**
+     * 업로드 세션의 현재 상태를 조회합니다. 조각을 기록하기 전에 세션 잠금을 잡은 상태에서 다시 확인할 때 사용합니다.
+     *
+     * @param uploadId 업로드 세션 ID.
+     * @return 현재 상태, 세션이 삭제되었으면 빈 값.
+     */
+    @Query("SELECT s.status FROM UploadSession s WHERE s.uploadId = :uploadId")
+    Optional<UploadStatus> findStatus(String uploadId);
+
+    /**
+     * 생성된 지 만료 시간이 지난 업로드 세션 ID 를 조회합니다.
+     *
+     * @param cutoff 이 시각 이전에 생성된 세션만 조회합니다.
+     * @param limit  최대 조회 수.
+     * @return 만료된 업로드 세션 ID 목록.
+     */
+    @Query("SELECT s.uploadId FROM UploadSession s WHERE s.createdDate < :cutoff")
+    List<String> findExpired(LocalDateTime cutoff, Limit limit);
+
+    /**
+     * 받은 조각을 기록합니다. 같은 조각을 다시 받으면 체크섬만 바꿉니다.
+     * <p>
+     * 조각 본문을 받는 동안에는 트랜잭션을 열지 않으므로, 기록은 이 메서드의 짧은 트랜잭션에서만 수행합니다.
+     *
+     * @param uploadId   업로드 세션 ID.
+     * @param partNumber 1부터 시작하는 조각 번호.
+     * @param partHash   조각 내용의 SHA-256.
+     * @return 영향받은 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO upload_parts (upload_id, part_number, part_hash) VALUES (:uploadId, :partNumber, :partHash) " +
+            "ON DUPLICATE KEY UPDATE part_hash = :partHash", nativeQuery = true)
+    int savePart(String uploadId, int partNumber, String partHash);
+
+    /**
+     * 받은 조각 번호 목록을 조회합니다.
+     *
+     * @param uploadId 업로드 세션 ID.
+     * @return 받은 조각 번호 목록 (오름차순).
+     */
+    @Query(value = "SELECT part_number FROM upload_parts WHERE upload_id = :uploadId ORDER BY part_number", nativeQuery = true)
+    List<Integer> findPartNumbers(String uploadId);
+
+    /**
+     * 업로드 세션의 상태를 바꿉니다. 현재 상태가 from 일 때만 바뀌므로, 완료 처리가 한 번만 시작되도록 할 때 사용합니다.
+     *
+     * @param uploadId 업로드 세션 ID.
+     * @param from     현재 상태.
+     * @param to       바꿀 상태.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = :to WHERE s.uploadId = :uploadId AND s.status = :from")
+    int updateStatus(String uploadId, UploadStatus from, UploadStatus to);
+
+    /**
+     * 업로드 세션과 받은 조각 기록을 삭제합니다 (조각 기록은 외래 키 ON DELETE CASCADE).
+     *
+     * @param uploadId 업로드 세션 ID.
+     * @return 삭제된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.uploadId = :uploadId")
+    int deleteSession(String uploadId);
+
+}
@@ -0,0 +1,75 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.web.dto.media.MediaResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkspaceMediaRepository extends JpaRepository<WorkspaceMedia, Long> {
+
+    /**
+     * 작업공간에 속한 미디어를 원본 정보와 함께 조회합니다.
+     *
+     * @param mediaKey      조회할 미디어의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 미디어.
+     */
+    @Query("SELECT m FROM WorkspaceMedia m JOIN FETCH m.blob " +
+            "WHERE m.mediaKey = :mediaKey AND m.workSpaces.workspacesKey = :workspacesKey")
+    Optional<WorkspaceMedia> findInWorkspace(Long mediaKey, Long workspacesKey);
+
+    /**
+     * 작업공간의 미디어 목록을 최근 업로드 순서로 조회합니다. afterKey 보다 작은 키만 조회합니다 (키셋 페이지네이션).
+     *
+     * @param workspacesKey 조회할 작업공간의 키.
+     * @param afterKey      이전 페이지 마지막 항목의 키, 첫 페이지는 Long.MAX_VALUE.
+     * @param limit         조회할 최대 개수.
+     * @return 미디어 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.media.MediaResponse(m.mediaKey, m.fileName, m.contentType, b.blobSize, b.blobHash, m.createdDate) " +
+            "FROM WorkspaceMedia m JOIN m.blob b " +
+            "WHERE m.workSpaces.workspacesKey = :workspacesKey AND m.mediaKey < :afterKey ORDER BY m.mediaKey DESC")
+    List<MediaResponse> findPage(Long workspacesKey, Long afterKey, Limit limit);
+
+    /**
+     * 사용자의 작업공간에 속한 미디어 중 서명된 URL 을 만들 미디어의 정보를 한 번에 조회합니다.
+     *
+     * @param mediaKeys 조회할 미디어의 키 목록.
+     * @param userId    요청한 사용자의 ID. 다른 사용자의 미디어는 조회되지 않습니다.
+     * @return 미디어 정보 목록, 없는 키는 제외됩니다.
+     */
+    @Query("SELECT new com.lumeneditor.www.domain.media.SignableMedia(m.mediaKey, u.userKey, b.blobHash, b.blobSize, m.contentType) " +
+            "FROM WorkspaceMedia m JOIN m.blob b JOIN m.workSpaces w JOIN w.user u " +
+            "WHERE m.mediaKey IN :mediaKeys AND u.userId = :userId")
+    List<SignableMedia> findSignable(Collection<Long> mediaKeys, String userId);
+
+    /**
+     * 작업공간에 속한 미디어가 참조하는 원본의 해시를 조회합니다.
+     *
+     * @param mediaKey      조회할 미디어의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 원본의 SHA-256 해시, 미디어가 없으면 null.
+     */
+    @Query("SELECT m.blob.blobHash FROM WorkspaceMedia m WHERE m.mediaKey = :mediaKey AND m.workSpaces.workspacesKey = :workspacesKey")
+    String findBlobHashInWorkspace(Long mediaKey, Long workspacesKey);
+
+    /**
+     * 작업공간에 속한 미디어를 삭제합니다.
+     *
+     * @param mediaKey      삭제할 미디어의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키. 다른 작업공간의 미디어는 삭제되지 않습니다.
+     * @return 삭제된 레코드의 수.
+     */
+    @Modifying
+    @Query("DELETE FROM WorkspaceMedia m WHERE m.mediaKey = :mediaKey AND m.workSpaces.workspacesKey = :workspacesKey")
+    int deleteInWorkspace(Long mediaKey, Long workspacesKey);
+
+}
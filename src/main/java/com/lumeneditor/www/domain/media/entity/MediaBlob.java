@@ -0,0 +1,39 @@
+package com.lumeneditor.www.domain.media.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 한 번만 저장되는 미디어 원본입니다. 내용의 SHA-256 해시가 키입니다.
+ * <p>
+ * refCount 는 이 원본을 참조하는 작업공간 미디어 행과 사용자 로고의 수입니다. 0 이 되면 unreferencedDate 를 기록하고,
+ * 유예 시간이 지나도록 다시 참조되지 않으면 수거 작업이 행과 저장소의 파일을 삭제합니다.
+ */
+@Entity
+@Table(name = "media_blobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaBlob {
+
+    @Id
+    @Column(length = 64)
+    private String blobHash; // SHA-256 (소문자 16진수)
+
+    @Column(nullable = false)
+    private Long blobSize;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    private LocalDateTime unreferencedDate; // 참조 수가 0 이 된 시각 (참조 중이면 null)
+}
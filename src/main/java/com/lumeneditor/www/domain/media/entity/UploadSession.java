@@ -0,0 +1,86 @@
+package com.lumeneditor.www.domain.media.entity;
+
+import com.lumeneditor.www.comm.eunm.UploadStatus;
+import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기 가능한 조각 업로드 세션입니다.
+ * <p>
+ * 세션을 만들 때 전체 크기의 파일을 미리 만들어 두고, 각 조각은 (partNumber - 1) * chunkSize 위치에 바로 기록합니다.
+ * 받은 조각은 upload_parts 에 기록되므로, 연결이 끊겨도 빠진 조각만 다시 보내면 됩니다.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String uploadId; // 추측할 수 없는 UUID
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "workspaces_key", nullable = false)
+    private WorkSpaces workSpaces;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long totalSize;
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Column(nullable = false)
+    private Integer partCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @PrePersist
+    protected void onCreate() {
+        if (status == null) {
+            status = UploadStatus.OPEN;
+        }
+        createdDate = LocalDateTime.now();
+    }
+
+    /**
+     * 조각이 기록될 파일 내 위치입니다.
+     *
+     * @param partNumber 1부터 시작하는 조각 번호입니다.
+     * @return 바이트 단위 위치입니다.
+     */
+
+    public long offsetOf(int partNumber) {
+        return (long) (partNumber - 1) * chunkSize;
+    }
+
+    /**
+     * 조각의 크기입니다. 마지막 조각만 chunkSize 보다 작을 수 있습니다.
+     *
+     * @param partNumber 1부터 시작하는 조각 번호입니다.
+     * @return 바이트 단위 크기입니다.
+     */
+
+    public long lengthOf(int partNumber) {
+        return Math.min(chunkSize, totalSize - offsetOf(partNumber));
+    }
+}
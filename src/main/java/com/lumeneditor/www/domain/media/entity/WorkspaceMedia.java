@@ -0,0 +1,51 @@
+package com.lumeneditor.www.domain.media.entity;
+
+import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업공간에 업로드된 미디어입니다. 같은 내용을 여러 번 올려도 원본({@link MediaBlob})은 하나만 저장되고 참조 행만 늘어납니다.
+ * 프로젝트의 타임라인은 mediaKey 로 미디어를 참조하므로, 복제된 프로젝트도 같은 미디어를 공유합니다.
+ */
+@Entity
+@Table(name = "workspace_media")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkspaceMedia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long mediaKey;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "workspaces_key", nullable = false)
+    private WorkSpaces workSpaces;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "blob_hash", nullable = false)
+    private MediaBlob blob;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdDate == null) {
+            createdDate = LocalDateTime.now();
+        }
+    }
+}
@@ -1,29 +1,95 @@
 package com.lumeneditor.www.domain.myproject;
 
 
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchResult;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentResponse;
+import com.lumeneditor.www.web.dto.myproject.ProjectPage;
+import com.lumeneditor.www.web.dto.myproject.ProjectRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectResponse;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsRequest;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/my-project/")
 public class MyProjectController {
 
+    private final MyProjectService myProjectService;
 
     // 프로젝트 생성
-/*    @PostMapping("project")
-    public void createProject(@RequestBody Projects projects){
-        System.out.println("호출");
-        System.out.println(projects);
+    @PostMapping("project")
+    public ResponseEntity<ProjectResponse> createProject(HttpServletRequest request, @RequestBody ProjectRequest projectRequest) {
+        return myProjectService.createProject(request, projectRequest);
+    }
 
-    }*/
+    // 프로젝트 목록 (최근 생성 순, cursor 는 이전 응답의 nextCursor, archived=true 이면 보관함)
+    @GetMapping("projects")
+    public ResponseEntity<ProjectPage> getProjects(HttpServletRequest request,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size,
+                                                   @RequestParam(defaultValue = "false") boolean archived) {
+        return myProjectService.getProjects(request, cursor, size, archived);
+    }
 
-    @PostMapping("project")
-    public void createProject(@RequestBody String projectName, @RequestBody int workspacesKey){
-        System.out.println("호출");
-        System.out.println(projectName);
-        System.out.println(workspacesKey);
+    // 프로젝트 이름 변경
+    @PatchMapping("project/{projectKey}")
+    public ResponseEntity<Boolean> renameProject(HttpServletRequest request, @PathVariable Long projectKey,
+                                                 @RequestBody ProjectRequest projectRequest) {
+        return myProjectService.renameProject(request, projectKey, projectRequest);
+    }
+
+    // 프로젝트 삭제
+    @DeleteMapping("project/{projectKey}")
+    public ResponseEntity<Boolean> deleteProject(HttpServletRequest request, @PathVariable Long projectKey) {
+        return myProjectService.deleteProject(request, projectKey);
+    }
+
+    // 프로젝트 복제 (타임라인은 수정될 때까지 원본과 공유)
+    @PostMapping("project/{projectKey}/duplicate")
+    public ResponseEntity<ProjectResponse> duplicateProject(HttpServletRequest request, @PathVariable Long projectKey) {
+        return myProjectService.duplicateProject(request, projectKey);
+    }
+
+    // 타임라인 조회
+    @GetMapping("project/{projectKey}/content")
+    public ResponseEntity<ProjectContentResponse> getContent(HttpServletRequest request, @PathVariable Long projectKey) {
+        return myProjectService.getContent(request, projectKey);
+    }
+
+    // 타임라인 저장
+    @PutMapping("project/{projectKey}/content")
+    public ResponseEntity<ProjectContentResponse> saveContent(HttpServletRequest request, @PathVariable Long projectKey,
+                                                              @RequestBody ProjectContentRequest contentRequest) {
+        return myProjectService.saveContent(request, projectKey, contentRequest);
+    }
+
+    // 타임라인 자동 저장 (마지막 저장 이후의 작업만)
+    @PostMapping("project/{projectKey}/operations")
+    public ResponseEntity<TimelineOperationsResponse> appendOperations(HttpServletRequest request, @PathVariable Long projectKey,
+                                                                       @RequestBody TimelineOperationsRequest operationsRequest) {
+        return myProjectService.appendOperations(request, projectKey, operationsRequest);
+    }
+
+    // 주어진 버전 이후의 작업 로그
+    @GetMapping("project/{projectKey}/operations")
+    public ResponseEntity<TimelineOperationsResponse> getOperations(HttpServletRequest request, @PathVariable Long projectKey,
+                                                                    @RequestParam long since) {
+        return myProjectService.getOperations(request, projectKey, since);
+    }
 
+    // 여러 프로젝트 일괄 보관 / 삭제 / 복제 / 공개 여부 변경
+    @PostMapping("projects/batch")
+    public ResponseEntity<List<ProjectBatchResult>> batchProjects(HttpServletRequest request,
+                                                                  @RequestBody ProjectBatchRequest batchRequest) {
+        return myProjectService.batchProjects(request, batchRequest);
     }
 
 
@@ -0,0 +1,156 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchResult;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentResponse;
+import com.lumeneditor.www.web.dto.myproject.ProjectPage;
+import com.lumeneditor.www.web.dto.myproject.ProjectRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectResponse;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsRequest;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public interface MyProjectService {
+
+    /**
+     * 현재 사용자의 작업공간에 프로젝트를 생성합니다.
+     * <p>
+     * 프로젝트 이름은 비어 있을 수 없으며 255자를 넘을 수 없습니다. 공개 여부를 생략하면 비공개(N)로 생성됩니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectRequest 생성할 프로젝트의 이름과 공개 여부.
+     * @return 생성된 프로젝트를 포함한 201 응답, 입력이 잘못되면 400, 작업공간이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<ProjectResponse> createProject(HttpServletRequest request, ProjectRequest projectRequest);
+
+    /**
+     * 현재 사용자의 작업공간 프로젝트 목록을 최근 생성 순서로 조회합니다.
+     * <p>
+     * 키셋 페이지네이션을 사용하며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어지는 페이지를 받습니다.
+     * 응답에는 작업공간의 변경 버전으로 만든 ETag 가 포함되며, If-None-Match 가 같으면 목록 조회 없이 304 를 반환합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null.
+     * @param size 페이지 크기 (1~100).
+     * @param archived true 이면 보관된 프로젝트, false 이면 보관되지 않은 프로젝트 목록.
+     * @return 프로젝트 목록 페이지를 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<ProjectPage> getProjects(HttpServletRequest request, String cursor, int size, boolean archived);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 프로젝트의 이름을 변경합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 변경할 프로젝트의 키.
+     * @param projectRequest 새 프로젝트 이름.
+     * @return 변경 성공 시 true, 입력이 잘못되면 400, 프로젝트가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> renameProject(HttpServletRequest request, Long projectKey, ProjectRequest projectRequest);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 프로젝트를 삭제합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 삭제할 프로젝트의 키.
+     * @return 삭제 성공 시 true, 프로젝트가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> deleteProject(HttpServletRequest request, Long projectKey);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 프로젝트를 복제합니다.
+     * <p>
+     * 타임라인 내용은 복사하지 않고 원본과 같은 행을 참조하며 참조 수만 늘립니다.
+     * 이후 어느 한쪽이 타임라인을 저장할 때 그 프로젝트만 새 행으로 분리되므로 (copy-on-write),
+     * 타임라인 크기와 관계없이 복제는 메타데이터 한 행을 추가하는 비용만 듭니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 복제할 프로젝트의 키.
+     * @return 생성된 복제본을 포함한 201 응답, 프로젝트가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<ProjectResponse> duplicateProject(HttpServletRequest request, Long projectKey);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 프로젝트의 타임라인을 조회합니다.
+     * <p>
+     * 스냅샷에 아직 합쳐지지 않은 작업 로그가 있으면 메모리에서 적용한 결과를 반환합니다 (저장하지 않음).
+     * 응답의 version 은 이후 자동 저장의 baseVersion 으로 사용합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 조회할 프로젝트의 키.
+     * @return 타임라인, 버전, 공유 여부를 포함한 응답, 프로젝트가 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<ProjectContentResponse> getContent(HttpServletRequest request, Long projectKey);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 프로젝트의 타임라인을 저장합니다.
+     * <p>
+     * 타임라인을 다른 프로젝트와 공유하고 있으면 기존 행은 그대로 두고 참조 수를 줄인 뒤 새 행에 저장하며,
+     * 혼자 참조하고 있으면 기존 행을 수정합니다.
+     * 문서 전체를 다시 쓰므로 가져오기나 되돌리기처럼 큰 변경에 사용하고, 편집 중 자동 저장은 {@link #appendOperations} 를 사용합니다.
+     * 저장하면 버전이 1 증가하고 작업 로그는 비워집니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 저장할 프로젝트의 키.
+     * @param contentRequest 저장할 타임라인 문서 (최대 5MB)와 선택적인 기준 버전.
+     * @return 저장된 타임라인을 포함한 응답, 입력이 잘못되면 400, 프로젝트가 없으면 404, 기준 버전이 다르면 409 ResponseEntity 객체.
+     */
+
+    ResponseEntity<ProjectContentResponse> saveContent(HttpServletRequest request, Long projectKey, ProjectContentRequest contentRequest);
+
+    /**
+     * 마지막으로 확인받은 버전 이후의 편집 작업만 저장합니다 (자동 저장).
+     * <p>
+     * 문서 전체를 다시 쓰지 않고 버전을 1 올린 뒤 작업 로그 한 행을 추가하므로, 저장 비용이 프로젝트 길이와 관계없이 작업 수에 비례합니다.
+     * 로그는 백그라운드에서 스냅샷에 합쳐집니다 ({@link TimelineCompactor}).
+     * 다른 탭이나 기기에서 먼저 저장하여 baseVersion 이 현재 버전과 다르면 409 와 함께 그 이후의 작업 로그를 반환하므로,
+     * 클라이언트는 그 작업을 적용한 뒤 자신의 작업을 다시 보낼 수 있습니다.
+     * 복제로 공유 중인 타임라인이면 이 프로젝트만 새 행으로 분리한 뒤 저장합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 저장할 프로젝트의 키.
+     * @param operationsRequest 기준 버전과 그 이후의 작업 목록 (최대 1000개, 256KB).
+     * @return 새 버전을 포함한 응답, 입력이 잘못되면 400, 프로젝트가 없으면 404, 기준 버전이 다르면 409 ResponseEntity 객체.
+     *         409 응답의 changes 가 null 이면 그 사이 로그가 합쳐진 것이므로 타임라인을 다시 조회해야 합니다.
+     */
+
+    ResponseEntity<TimelineOperationsResponse> appendOperations(HttpServletRequest request, Long projectKey,
+                                                                TimelineOperationsRequest operationsRequest);
+
+    /**
+     * 주어진 버전 이후의 작업 로그를 조회합니다. 다른 탭이나 기기에서 저장한 변경을 따라잡을 때 사용합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param projectKey 조회할 프로젝트의 키.
+     * @param since 클라이언트가 가진 문서 버전.
+     * @return 작업 로그를 포함한 응답, 프로젝트가 없으면 404, 해당 로그가 이미 스냅샷에 합쳐졌으면 410 ResponseEntity 객체.
+     */
+
+    ResponseEntity<TimelineOperationsResponse> getOperations(HttpServletRequest request, Long projectKey, long since);
+
+    /**
+     * 현재 사용자의 작업공간에 속한 여러 프로젝트에 보관, 보관 해제, 삭제, 복제, 공개 여부 변경을 한 번에 적용합니다.
+     * <p>
+     * 복제는 {@link #duplicateProject} 와 같이 타임라인을 공유합니다.
+     * 모든 작업은 하나의 트랜잭션에서 요청 순서대로 적용되며, 프로젝트마다 한 문장씩 실행하지 않고
+     * 최대 500개 단위로 나눈 IN 조건의 UPDATE / DELETE / INSERT ... SELECT 로 처리합니다.
+     * 작업공간에 없는 프로젝트(앞선 작업에서 삭제된 경우 포함)는 실패로 표시되고 나머지는 그대로 적용됩니다.
+     * 한 요청에 포함할 수 있는 프로젝트 키는 모든 작업을 합쳐 최대 1000개입니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param batchRequest 순서대로 적용할 작업 목록.
+     * @return 프로젝트별 적용 결과 목록, 입력이 잘못되면 400, 작업공간이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<ProjectBatchResult>> batchProjects(HttpServletRequest request, ProjectBatchRequest batchRequest);
+
+}
@@ -0,0 +1,438 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.lumeneditor.www.comm.ETagUtil;
+import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.comm.RowVersion;
+import com.lumeneditor.www.comm.eunm.ProjectBatchAction;
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.auth.WorkSpacesRepository;
+import com.lumeneditor.www.domain.collab.CollaborationPublisher;
+import com.lumeneditor.www.domain.myproject.entity.ProjectContent;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchOperation;
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectBatchResult;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectContentResponse;
+import com.lumeneditor.www.web.dto.myproject.ProjectPage;
+import com.lumeneditor.www.web.dto.myproject.ProjectRequest;
+import com.lumeneditor.www.web.dto.myproject.ProjectResponse;
+import com.lumeneditor.www.web.dto.myproject.TimelineChange;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsRequest;
+import com.lumeneditor.www.web.dto.myproject.TimelineOperationsResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class MyProjectServiceImpl implements MyProjectService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PROJECT_NAME_LENGTH = 255;
+    private static final int MAX_BATCH_ITEMS = 1000;
+    private static final int BATCH_CHUNK_SIZE = 500; // IN 목록 하나의 최대 크기
+    private static final int MAX_TIMELINE_LENGTH = 5 * 1024 * 1024;
+    private static final String COPY_SUFFIX = " (사본)"; // ProjectsRepository.duplicateAll 과 같은 값
+    private static final int MAX_OPERATIONS = 1000; // 자동 저장 한 번의 최대 작업 수
+    private static final int MAX_OPERATIONS_LENGTH = 256 * 1024;
+    private static final String EMPTY_TIMELINE = "{}";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkSpacesRepository workSpacesRepository;
+    private final ProjectsRepository projectsRepository;
+    private final ProjectContentRepository projectContentRepository;
+    private final TimelineOperationRepository timelineOperationRepository;
+    private final TimelinePatch timelinePatch;
+    private final TimelineCompactor timelineCompactor;
+    private final CollaborationPublisher collaborationPublisher;
+
+
+    // 프로젝트 생성
+    @Override
+    @Transactional
+    public ResponseEntity<ProjectResponse> createProject(HttpServletRequest request, ProjectRequest projectRequest) {
+        if (!isValidName(projectRequest.getProjectName())) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Projects projects = Projects.builder()
+                .projectName(projectRequest.getProjectName().strip())
+                .disclosureStatus(projectRequest.getDisclosureStatus())
+                .workSpaces(workSpacesRepository.getReferenceById(workspace.key()))
+                .build();
+        projectsRepository.save(projects);
+        workSpacesRepository.incrementRowVersion(workspace.key());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProjectResponse.from(projects));
+    }
+
+    // 프로젝트 목록 (키셋 페이지네이션)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<ProjectPage> getProjects(HttpServletRequest request, String cursor, int size, boolean archived) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        ProjectCursor after = cursor == null || cursor.isEmpty() ? null : ProjectCursor.decode(cursor);
+
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 작업공간의 프로젝트가 바뀌지 않았으면 목록 조회 없이 304 반환
+        String etag = workspace.etag();
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ETagUtil.isNotModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Limit limit = Limit.of(size + 1);
+        YesNo archivedStatus = archived ? YesNo.Y : YesNo.N;
+        List<ProjectResponse> rows = after == null
+                ? projectsRepository.findFirstPage(workspace.key(), archivedStatus, limit)
+                : projectsRepository.findPageAfter(workspace.key(), archivedStatus, after.projectDate(), after.projectKey(), limit);
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ProjectResponse last = rows.get(size - 1);
+            nextCursor = new ProjectCursor(last.projectDate(), last.projectKey()).encode();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(new ProjectPage(rows, nextCursor));
+    }
+
+    // 프로젝트 이름 변경
+    @Override
+    @Transactional
+    public ResponseEntity<Boolean> renameProject(HttpServletRequest request, Long projectKey, ProjectRequest projectRequest) {
+        if (!isValidName(projectRequest.getProjectName())) {
+            return ResponseEntity.badRequest().body(false);
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null || projectsRepository.rename(projectKey, workspace.key(), projectRequest.getProjectName().strip()) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        workSpacesRepository.incrementRowVersion(workspace.key());
+        return ResponseEntity.ok(true);
+    }
+
+    // 프로젝트 삭제
+    @Override
+    @Transactional
+    public ResponseEntity<Boolean> deleteProject(HttpServletRequest request, Long projectKey) {
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null || deleteAll(workspace.key(), List.of(projectKey)) == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        workSpacesRepository.incrementRowVersion(workspace.key());
+        return ResponseEntity.ok(true);
+    }
+
+    // 프로젝트 복제 (타임라인은 복사하지 않고 참조 수만 증가)
+    @Override
+    @Transactional
+    public ResponseEntity<ProjectResponse> duplicateProject(HttpServletRequest request, Long projectKey) {
+        RowVersion workspace = findWorkspace(request);
+        Projects source = workspace == null ? null
+                : projectsRepository.findInWorkspaceForUpdate(projectKey, workspace.key()).orElse(null);
+        if (source == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (source.getContent() != null) {
+            projectContentRepository.addReferences(workspace.key(), List.of(projectKey), 1);
+        }
+        String copyName = source.getProjectName() + COPY_SUFFIX;
+        Projects copy = Projects.builder()
+                .projectName(copyName.length() > MAX_PROJECT_NAME_LENGTH ? copyName.substring(0, MAX_PROJECT_NAME_LENGTH) : copyName)
+                .disclosureStatus(source.getDisclosureStatus())
+                .content(source.getContent())
+                .workSpaces(source.getWorkSpaces())
+                .build();
+        projectsRepository.save(copy);
+        workSpacesRepository.incrementRowVersion(workspace.key());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProjectResponse.from(copy));
+    }
+
+    // 타임라인 조회 (합쳐지지 않은 작업 로그는 메모리에서 적용)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<ProjectContentResponse> getContent(HttpServletRequest request, Long projectKey) {
+        RowVersion workspace = findWorkspace(request);
+        Projects projects = workspace == null ? null
+                : projectsRepository.findInWorkspace(projectKey, workspace.key()).orElse(null);
+        if (projects == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ProjectContent content = projects.getContent();
+        return ResponseEntity.ok(content == null
+                ? new ProjectContentResponse(projectKey, null, 0, false)
+                : new ProjectContentResponse(projectKey, timelineCompactor.materialize(content), content.getVersion(), content.getRefCount() > 1));
+    }
+
+    // 타임라인 전체 저장 (공유 중인 내용이면 새 행으로 분리 후 저장, 작업 로그는 비움)
+    @Override
+    @Transactional
+    public ResponseEntity<ProjectContentResponse> saveContent(HttpServletRequest request, Long projectKey,
+                                                              ProjectContentRequest contentRequest) {
+        String timeline = contentRequest.getTimeline();
+        if (timeline == null || timeline.length() > MAX_TIMELINE_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        String userId = getUserId(request);
+        RowVersion workspace = findWorkspace(userId);
+        Projects projects = workspace == null ? null
+                : projectsRepository.findInWorkspaceForUpdate(projectKey, workspace.key()).orElse(null);
+        if (projects == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 참조 수를 판단하는 동안 다른 복제/삭제가 끼어들지 않도록 내용 행도 잠금
+        ProjectContent content = projects.getContent() == null ? null
+                : projectContentRepository.findForUpdate(projects.getContent().getContentKey()).orElseThrow();
+        long current = content == null ? 0 : content.getVersion();
+        if (contentRequest.getBaseVersion() != null && contentRequest.getBaseVersion() != current) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        long version = current + 1;
+        if (content != null && content.getRefCount() == 1) {
+            content.setTimeline(timeline);
+            content.setVersion(version);
+            content.setSnapshotVersion(version);
+            timelineOperationRepository.deleteUpTo(content.getContentKey(), current);
+        } else {
+            if (content != null) {
+                content.setRefCount(content.getRefCount() - 1);
+            }
+            content = projectContentRepository.save(ProjectContent.builder().timeline(timeline).version(version).build());
+            projects.setContent(content);
+        }
+        collaborationPublisher.publishReload(projectKey, version, userId);
+        return ResponseEntity.ok(new ProjectContentResponse(projectKey, timeline, version, false));
+    }
+
+    // 타임라인 자동 저장 (버전 조건부 증가 + 작업 로그 한 행 추가)
+    @Override
+    @Transactional
+    public ResponseEntity<TimelineOperationsResponse> appendOperations(HttpServletRequest request, Long projectKey,
+                                                                       TimelineOperationsRequest operationsRequest) {
+        Long baseVersion = operationsRequest.getBaseVersion();
+        List<JsonNode> operations = operationsRequest.getOperations();
+        if (baseVersion == null || operations == null || operations.isEmpty() || operations.size() > MAX_OPERATIONS
+                || !timelinePatch.isValid(operations)) {
+            return ResponseEntity.badRequest().build();
+        }
+        String serialized = JsonNodeFactory.instance.arrayNode().addAll(operations).toString();
+        if (serialized.length() > MAX_OPERATIONS_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        String userId = getUserId(request);
+        RowVersion workspace = findWorkspace(userId);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 프로젝트 행을 먼저 잠가 그 사이 다른 내용으로 분리되지 않게 함 (잠금 순서는 항상 프로젝트 → 내용)
+        Projects projects = projectsRepository.findInWorkspaceForUpdate(projectKey, workspace.key()).orElse(null);
+        if (projects == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 공유되지 않은 내용이면 문서 본문을 읽거나 쓰지 않고 버전만 올림
+        TimelineState state = projects.getContent() == null ? null
+                : projectsRepository.findTimelineState(projectKey, workspace.key()).orElse(null);
+        if (state != null && projectContentRepository.advanceVersion(state.contentKey(), baseVersion) == 1) {
+            return appended(projectKey, userId, state.contentKey(), baseVersion + 1, state.snapshotVersion(), serialized);
+        }
+
+        // 버전이 다르거나, 복제로 공유 중이거나, 처음 저장하는 경우 내용을 잠근 뒤 다시 판단
+        ProjectContent content = projects.getContent() == null ? null
+                : projectContentRepository.findForUpdate(projects.getContent().getContentKey()).orElseThrow();
+        long current = content == null ? 0 : content.getVersion();
+        if (baseVersion != current) {
+            List<TimelineChange> changes = content == null || baseVersion < content.getSnapshotVersion() || baseVersion > current
+                    ? null : changesAfter(content.getContentKey(), baseVersion);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new TimelineOperationsResponse(projectKey, current, changes));
+        }
+
+        ProjectContent target;
+        if (content != null && content.getRefCount() == 1) {
+            content.setVersion(current + 1);
+            target = content;
+        } else {
+            // 공유 중인 문서는 현재 내용으로 이 프로젝트만 새 행에 분리 (복제 후 첫 저장에서 한 번)
+            String timeline = content == null ? EMPTY_TIMELINE : timelineCompactor.materialize(content);
+            if (content != null) {
+                content.setRefCount(content.getRefCount() - 1);
+            }
+            target = projectContentRepository.save(ProjectContent.builder()
+                    .timeline(timeline).version(current + 1).snapshotVersion(current).build());
+            projects.setContent(target);
+        }
+        return appended(projectKey, userId, target.getContentKey(), current + 1, target.getSnapshotVersion(), serialized);
+    }
+
+    // 작업 로그 조회 (다른 탭/기기의 변경 따라잡기)
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<TimelineOperationsResponse> getOperations(HttpServletRequest request, Long projectKey, long since) {
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+        TimelineState state = projectsRepository.findTimelineState(projectKey, workspace.key()).orElse(null);
+        if (state == null) {
+            // 타임라인을 아직 저장하지 않은 프로젝트
+            return projectsRepository.findInWorkspace(projectKey, workspace.key()).isEmpty()
+                    ? ResponseEntity.notFound().build()
+                    : ResponseEntity.ok(new TimelineOperationsResponse(projectKey, 0, List.of()));
+        }
+        if (since < state.snapshotVersion() || since > state.version()) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        return ResponseEntity.ok(new TimelineOperationsResponse(projectKey, state.version(),
+                since == state.version() ? List.of() : changesAfter(state.contentKey(), since)));
+    }
+
+    // 프로젝트 일괄 작업 (하나의 트랜잭션, 청크 단위 집합 연산)
+    @Override
+    @Transactional
+    public ResponseEntity<List<ProjectBatchResult>> batchProjects(HttpServletRequest request, ProjectBatchRequest batchRequest) {
+        if (!isValidBatch(batchRequest)) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<ProjectBatchOperation> operations = batchRequest.getOperations();
+        List<ProjectBatchResult> results = new ArrayList<>();
+        boolean changed = false;
+
+        for (int index = 0; index < operations.size(); index++) {
+            ProjectBatchOperation operation = operations.get(index);
+            List<Long> projectKeys = List.copyOf(new LinkedHashSet<>(operation.getProjectKeys()));
+
+            for (int from = 0; from < projectKeys.size(); from += BATCH_CHUNK_SIZE) {
+                List<Long> chunk = projectKeys.subList(from, Math.min(from + BATCH_CHUNK_SIZE, projectKeys.size()));
+                // 내 작업공간에 있는 프로젝트만 잠그고 골라서 적용
+                Set<Long> found = new HashSet<>(projectsRepository.findKeysInWorkspace(workspace.key(), chunk));
+                if (!found.isEmpty()) {
+                    applyBatch(workspace.key(), operation, found, now);
+                    changed = true;
+                }
+                for (Long projectKey : chunk) {
+                    results.add(new ProjectBatchResult(index, operation.getAction(), projectKey, found.contains(projectKey)));
+                }
+            }
+        }
+
+        // 목록 ETag 는 요청당 한 번만 변경
+        if (changed) {
+            workSpacesRepository.incrementRowVersion(workspace.key());
+        }
+        return ResponseEntity.ok(results);
+    }
+
+
+    private void applyBatch(Long workspacesKey, ProjectBatchOperation operation, Set<Long> projectKeys, LocalDateTime now) {
+        switch (operation.getAction()) {
+            case ARCHIVE -> projectsRepository.updateArchived(workspacesKey, projectKeys, YesNo.Y);
+            case UNARCHIVE -> projectsRepository.updateArchived(workspacesKey, projectKeys, YesNo.N);
+            case DELETE -> deleteAll(workspacesKey, projectKeys);
+            case DUPLICATE -> {
+                projectContentRepository.addReferences(workspacesKey, projectKeys, 1);
+                projectsRepository.duplicateAll(workspacesKey, projectKeys, now);
+            }
+            case SET_DISCLOSURE -> projectsRepository.updateDisclosureStatus(workspacesKey, projectKeys, operation.getDisclosureStatus());
+        }
+    }
+
+    // 작업 로그를 추가하고, 커밋 후 프로젝트를 구독 중인 편집기에 알림
+    private ResponseEntity<TimelineOperationsResponse> appended(Long projectKey, String userId, Long contentKey, long version,
+                                                                long snapshotVersion, String operations) {
+        timelineOperationRepository.append(contentKey, version, operations, LocalDateTime.now());
+        timelineCompactor.onAppended(contentKey, version - snapshotVersion);
+        collaborationPublisher.publishOperations(projectKey, version, userId, operations);
+        return ResponseEntity.ok(new TimelineOperationsResponse(projectKey, version, List.of()));
+    }
+
+    private List<TimelineChange> changesAfter(Long contentKey, long version) {
+        return timelineOperationRepository.findAfter(contentKey, version).stream()
+                .map(operation -> new TimelineChange(operation.getVersion(), operation.getOperations()))
+                .toList();
+    }
+
+    // 프로젝트가 참조하던 타임라인의 참조 수를 줄인 뒤 삭제하고, 참조가 없어진 타임라인도 삭제
+    private int deleteAll(Long workspacesKey, Collection<Long> projectKeys) {
+        List<Long> contentKeys = projectsRepository.findContentKeys(workspacesKey, projectKeys);
+        if (!contentKeys.isEmpty()) {
+            projectContentRepository.addReferences(workspacesKey, projectKeys, -1);
+        }
+        int deleted = projectsRepository.deleteAllInWorkspace(workspacesKey, projectKeys);
+        if (!contentKeys.isEmpty()) {
+            projectContentRepository.deleteUnreferenced(contentKeys);
+        }
+        return deleted;
+    }
+
+    // 작업 종류와 대상이 모두 있고, 전체 프로젝트 키가 MAX_BATCH_ITEMS 개 이하인지 확인
+    private boolean isValidBatch(ProjectBatchRequest batchRequest) {
+        if (batchRequest == null || batchRequest.getOperations() == null || batchRequest.getOperations().isEmpty()) {
+            return false;
+        }
+        int total = 0;
+        for (ProjectBatchOperation operation : batchRequest.getOperations()) {
+            if (operation == null || operation.getAction() == null
+                    || operation.getProjectKeys() == null || operation.getProjectKeys().isEmpty()
+                    || operation.getProjectKeys().contains(null)) {
+                return false;
+            }
+            if (operation.getAction() == ProjectBatchAction.SET_DISCLOSURE && operation.getDisclosureStatus() == null) {
+                return false;
+            }
+            total += operation.getProjectKeys().size();
+        }
+        return total <= MAX_BATCH_ITEMS;
+    }
+
+    // 쿠키의 토큰으로 현재 사용자의 작업공간 (회원가입 시 생성된 첫 작업공간)
+    private RowVersion findWorkspace(HttpServletRequest request) {
+        return findWorkspace(getUserId(request));
+    }
+
+    private RowVersion findWorkspace(String userId) {
+        List<RowVersion> workspaces = workSpacesRepository.findRowVersionsByUserId(userId);
+        return workspaces.isEmpty() ? null : workspaces.get(0);
+    }
+
+    private String getUserId(HttpServletRequest request) {
+        return jwtTokenProvider.getAdminUserInfoFromToken(JwtTokenUtil.extractTokenFromCookies(request));
+    }
+
+    private boolean isValidName(String projectName) {
+        return projectName != null && !projectName.isBlank() && projectName.strip().length() <= MAX_PROJECT_NAME_LENGTH;
+    }
+}
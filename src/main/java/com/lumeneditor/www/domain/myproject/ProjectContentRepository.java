@@ -0,0 +1,84 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.domain.myproject.entity.ProjectContent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectContentRepository extends JpaRepository<ProjectContent, Long> {
+
+    /**
+     * 내용을 쓰기 잠금과 함께 조회합니다. copy-on-write 판단 중에 다른 트랜잭션이 참조 수를 바꾸지 못하게 합니다.
+     *
+     * @param contentKey 조회할 내용의 키.
+     * @return 잠긴 내용.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ProjectContent c WHERE c.contentKey = :contentKey")
+    Optional<ProjectContent> findForUpdate(Long contentKey);
+
+    /**
+     * 공유되지 않은 내용의 버전을 기준 버전에서 1 증가시킵니다. 자동 저장의 작업 로그 추가 전에 호출합니다.
+     * <p>
+     * 기준 버전이 다르거나(다른 탭/기기에서 먼저 저장) 복제로 공유 중이면 0 을 반환하며,
+     * 갱신된 행은 트랜잭션이 끝날 때까지 잠기므로 같은 문서의 자동 저장은 순서대로 처리됩니다.
+     * 내용 키를 조회한 뒤 프로젝트가 다른 내용으로 분리되면 다른 문서의 버전을 올리게 되므로,
+     * 호출 전에 프로젝트 행을 쓰기 잠금으로 조회해 두어야 합니다.
+     *
+     * @param contentKey  내용 행의 키.
+     * @param baseVersion 클라이언트가 마지막으로 확인한 버전.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE ProjectContent c SET c.version = c.version + 1 " +
+            "WHERE c.contentKey = :contentKey AND c.version = :baseVersion AND c.refCount = 1")
+    int advanceVersion(Long contentKey, Long baseVersion);
+
+    /**
+     * 스냅샷에 합쳐지지 않은 작업 로그가 threshold 개 이상인 내용의 키를 조회합니다. 주기적인 압축 대상 확인에 사용합니다.
+     *
+     * @param threshold 합쳐지지 않은 로그 수의 기준.
+     * @param limit     조회할 최대 개수.
+     * @return 내용 키 목록.
+     */
+    @Query("SELECT c.contentKey FROM ProjectContent c WHERE c.version - c.snapshotVersion >= :threshold ORDER BY c.contentKey")
+    List<Long> findCompactionCandidates(long threshold, Limit limit);
+
+    /**
+     * 작업공간의 프로젝트들이 참조하는 내용의 참조 수를, 각 내용을 참조하는 대상 프로젝트 수만큼 늘리거나 줄입니다.
+     * <p>
+     * 복제 시에는 복제 전에 +1, 삭제 시에는 삭제 전에 -1 로 호출합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   대상 프로젝트 키 목록.
+     * @param delta         프로젝트 하나당 변경할 참조 수 (+1 또는 -1).
+     * @return 업데이트된 내용 행의 수.
+     */
+    @Modifying
+    @Query(value = "UPDATE project_contents c SET ref_count = ref_count + :delta * " +
+            "(SELECT COUNT(*) FROM projects p WHERE p.content_key = c.content_key " +
+            "AND p.workspaces_key = :workspacesKey AND p.project_key IN (:projectKeys)) " +
+            "WHERE c.content_key IN (SELECT p.content_key FROM projects p " +
+            "WHERE p.workspaces_key = :workspacesKey AND p.project_key IN (:projectKeys))", nativeQuery = true)
+    int addReferences(Long workspacesKey, Collection<Long> projectKeys, int delta);
+
+    /**
+     * 더 이상 참조하는 프로젝트가 없는 내용을 삭제합니다.
+     *
+     * @param contentKeys 확인할 내용 키 목록.
+     * @return 삭제된 레코드의 수.
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectContent c WHERE c.contentKey IN :contentKeys AND c.refCount <= 0")
+    int deleteUnreferenced(Collection<Long> contentKeys);
+
+}
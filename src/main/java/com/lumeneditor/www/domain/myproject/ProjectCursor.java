@@ -0,0 +1,52 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.exception.ExpectedCustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로젝트 목록 키셋 페이지네이션의 위치입니다.
+ * <p>
+ * 목록은 (project_date, project_key) 내림차순으로 정렬되며, 커서는 이전 페이지 마지막 항목의 두 값을 담습니다.
+ * 다음 페이지는 이 값보다 작은 행부터 읽으므로 OFFSET 처럼 앞 페이지의 행을 건너뛰며 읽지 않습니다.
+ * 클라이언트에는 URL 에 안전한 Base64 문자열로 전달합니다.
+ *
+ * @param projectDate 마지막 항목의 생성 시각입니다.
+ * @param projectKey  마지막 항목의 키입니다. 생성 시각이 같은 항목 사이의 순서를 정합니다.
+ */
+public record ProjectCursor(LocalDateTime projectDate, long projectKey) {
+
+    static final ExpectedCustomException INVALID_CURSOR = new ExpectedCustomException("Invalid cursor");
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = projectDate.toString() + SEPARATOR + projectKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서를 해석합니다.
+     *
+     * @param value encode 로 만든 커서 문자열입니다.
+     * @return 해석한 커서입니다.
+     * @throws ExpectedCustomException 형식이 잘못된 경우
+     */
+
+    public static ProjectCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw INVALID_CURSOR;
+            }
+            return new ProjectCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw INVALID_CURSOR;
+        }
+    }
+}
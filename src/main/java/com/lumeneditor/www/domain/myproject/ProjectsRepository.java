@@ -0,0 +1,192 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import com.lumeneditor.www.web.dto.myproject.ProjectResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectsRepository extends JpaRepository<Projects, Long> {
+
+    /**
+     * 작업공간의 프로젝트 목록 첫 페이지를 최근 생성 순서로 조회합니다.
+     * <p>
+     * (workspaces_key, project_date, project_key) 인덱스를 역순으로 읽어 limit 개에서 멈추며,
+     * 엔티티 대신 응답 레코드로 바로 조회합니다.
+     *
+     * @param workspacesKey 조회할 작업공간의 키.
+     * @param archived      Y 이면 보관된 프로젝트, N 이면 보관되지 않은 프로젝트.
+     * @param limit         조회할 최대 개수.
+     * @return 프로젝트 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.myproject.ProjectResponse(p.projectKey, p.projectName, p.disclosureStatus, p.projectDate) " +
+            "FROM Projects p WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.archived = :archived " +
+            "ORDER BY p.projectDate DESC, p.projectKey DESC")
+    List<ProjectResponse> findFirstPage(Long workspacesKey, YesNo archived, Limit limit);
+
+    /**
+     * 커서 이후의 프로젝트 목록을 최근 생성 순서로 조회합니다.
+     * <p>
+     * OFFSET 없이 (project_date, project_key) 가 커서보다 작은 행부터 인덱스 범위로 읽으므로
+     * 페이지 위치와 관계없이 읽는 행 수가 limit 개로 일정합니다.
+     *
+     * @param workspacesKey 조회할 작업공간의 키.
+     * @param archived      Y 이면 보관된 프로젝트, N 이면 보관되지 않은 프로젝트.
+     * @param projectDate   이전 페이지 마지막 항목의 생성 시각.
+     * @param projectKey    이전 페이지 마지막 항목의 키.
+     * @param limit         조회할 최대 개수.
+     * @return 프로젝트 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.myproject.ProjectResponse(p.projectKey, p.projectName, p.disclosureStatus, p.projectDate) " +
+            "FROM Projects p WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.archived = :archived " +
+            "AND (p.projectDate < :projectDate OR (p.projectDate = :projectDate AND p.projectKey < :projectKey)) " +
+            "ORDER BY p.projectDate DESC, p.projectKey DESC")
+    List<ProjectResponse> findPageAfter(Long workspacesKey, YesNo archived, LocalDateTime projectDate, Long projectKey, Limit limit);
+
+    /**
+     * 작업공간에 속한 프로젝트의 이름을 변경합니다.
+     *
+     * @param projectKey    변경할 프로젝트의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키. 다른 작업공간의 프로젝트는 변경되지 않습니다.
+     * @param projectName   새 프로젝트 이름.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE Projects p SET p.projectName = :projectName, p.rowVersion = p.rowVersion + 1 " +
+            "WHERE p.projectKey = :projectKey AND p.workSpaces.workspacesKey = :workspacesKey")
+    int rename(Long projectKey, Long workspacesKey, String projectName);
+
+    /**
+     * 작업공간에 속한 프로젝트를 조회합니다. 타임라인 내용을 함께 가져옵니다.
+     *
+     * @param projectKey    조회할 프로젝트의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 프로젝트.
+     */
+    @Query("SELECT p FROM Projects p LEFT JOIN FETCH p.content " +
+            "WHERE p.projectKey = :projectKey AND p.workSpaces.workspacesKey = :workspacesKey")
+    Optional<Projects> findInWorkspace(Long projectKey, Long workspacesKey);
+
+    /**
+     * 프로젝트가 사용자의 작업공간 중 하나에 속하는지 확인합니다. 공동 편집 채널 구독 시 사용합니다.
+     *
+     * @param projectKey 확인할 프로젝트의 키.
+     * @param userId     사용자의 ID.
+     * @return 사용자의 작업공간에 속하면 true.
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Projects p WHERE p.projectKey = :projectKey AND p.workSpaces.user.userId = :userId")
+    boolean existsForUser(Long projectKey, String userId);
+
+    /**
+     * 작업공간에 속한 프로젝트의 타임라인 버전 정보를 문서 본문 없이 조회합니다.
+     *
+     * @param projectKey    조회할 프로젝트의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 버전 정보, 프로젝트가 없거나 타임라인을 아직 저장하지 않았으면 빈 값.
+     */
+    @Query("SELECT new com.lumeneditor.www.domain.myproject.TimelineState(c.contentKey, c.version, c.snapshotVersion, c.refCount) " +
+            "FROM Projects p JOIN p.content c WHERE p.projectKey = :projectKey AND p.workSpaces.workspacesKey = :workspacesKey")
+    Optional<TimelineState> findTimelineState(Long projectKey, Long workspacesKey);
+
+    /**
+     * 작업공간에 속한 프로젝트를 쓰기 잠금과 함께 조회합니다. 복제, 타임라인 저장, 렌더링 작업 추가 시 사용합니다.
+     *
+     * @param projectKey    조회할 프로젝트의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 잠긴 프로젝트.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Projects p WHERE p.projectKey = :projectKey AND p.workSpaces.workspacesKey = :workspacesKey")
+    Optional<Projects> findInWorkspaceForUpdate(Long projectKey, Long workspacesKey);
+
+    /**
+     * 주어진 키 중 작업공간에 속한 프로젝트의 키만 조회합니다. 일괄 작업의 프로젝트별 결과를 만들 때 사용합니다.
+     * <p>
+     * 조회한 행에 쓰기 잠금을 걸어, 이어지는 일괄 변경이 끝날 때까지 결과와 실제 변경 대상이 달라지지 않게 합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   확인할 프로젝트 키 목록.
+     * @return 작업공간에 존재하는 프로젝트 키 목록.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.projectKey FROM Projects p WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.projectKey IN :projectKeys")
+    List<Long> findKeysInWorkspace(Long workspacesKey, Collection<Long> projectKeys);
+
+    /**
+     * 작업공간에 속한 프로젝트들의 보관 여부를 한 번에 변경합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   변경할 프로젝트 키 목록.
+     * @param archived      보관 여부.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE Projects p SET p.archived = :archived, p.rowVersion = p.rowVersion + 1 " +
+            "WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.projectKey IN :projectKeys")
+    int updateArchived(Long workspacesKey, Collection<Long> projectKeys, YesNo archived);
+
+    /**
+     * 작업공간에 속한 프로젝트들의 공개 여부를 한 번에 변경합니다.
+     *
+     * @param workspacesKey    요청한 사용자의 작업공간 키.
+     * @param projectKeys      변경할 프로젝트 키 목록.
+     * @param disclosureStatus 공개 여부.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Modifying
+    @Query("UPDATE Projects p SET p.disclosureStatus = :disclosureStatus, p.rowVersion = p.rowVersion + 1 " +
+            "WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.projectKey IN :projectKeys")
+    int updateDisclosureStatus(Long workspacesKey, Collection<Long> projectKeys, YesNo disclosureStatus);
+
+    /**
+     * 작업공간에 속한 프로젝트들을 한 번에 삭제합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   삭제할 프로젝트 키 목록.
+     * @return 삭제된 레코드의 수.
+     */
+    @Modifying
+    @Query("DELETE FROM Projects p WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.projectKey IN :projectKeys")
+    int deleteAllInWorkspace(Long workspacesKey, Collection<Long> projectKeys);
+
+    /**
+     * 작업공간의 프로젝트들이 참조하는 타임라인 내용의 키를 중복 없이 조회합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   대상 프로젝트 키 목록.
+     * @return 내용 키 목록.
+     */
+    @Query("SELECT DISTINCT p.content.contentKey FROM Projects p " +
+            "WHERE p.workSpaces.workspacesKey = :workspacesKey AND p.projectKey IN :projectKeys AND p.content IS NOT NULL")
+    List<Long> findContentKeys(Long workspacesKey, Collection<Long> projectKeys);
+
+    /**
+     * 작업공간에 속한 프로젝트들을 INSERT ... SELECT 한 문장으로 복제합니다.
+     * <p>
+     * 복제본은 이름 뒤에 " (사본)" 이 붙고, 보관되지 않은 상태로 projectDate 시각에 생성됩니다.
+     * 타임라인 내용은 복사하지 않고 원본과 같은 content_key 를 참조하므로,
+     * 호출 전에 {@link ProjectContentRepository#addReferences} 로 참조 수를 늘려야 합니다.
+     *
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param projectKeys   복제할 프로젝트 키 목록.
+     * @param projectDate   복제본의 생성 시각.
+     * @return 생성된 복제본의 수.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO projects (project_name, disclosure_status, project_date, archived, row_version, workspaces_key, content_key) " +
+            "SELECT LEFT(CONCAT(project_name, ' (사본)'), 255), disclosure_status, :projectDate, 'N', 0, workspaces_key, content_key " +
+            "FROM projects WHERE workspaces_key = :workspacesKey AND project_key IN (:projectKeys)", nativeQuery = true)
+    int duplicateAll(Long workspacesKey, Collection<Long> projectKeys, LocalDateTime projectDate);
+
+}
@@ -0,0 +1,126 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.domain.myproject.entity.ProjectContent;
+import com.lumeneditor.www.domain.myproject.entity.TimelineOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타임라인 작업 로그를 스냅샷에 합치는 백그라운드 작업입니다.
+ * <p>
+ * 자동 저장에서 합쳐지지 않은 로그가 threshold 개 이상이 되면 내용 키를 대기열에 넣고, 주기적으로 대기열을 처리합니다.
+ * 다른 서버에서 쌓인 로그나 재시작으로 잃어버린 대기열은 더 긴 주기의 전체 확인으로 처리합니다.
+ * 내용 행마다 별도 트랜잭션에서 행을 잠그고 합치므로 여러 서버가 동시에 실행해도 같은 로그를 두 번 합치지 않습니다.
+ * 압축은 문서의 내용을 바꾸지 않으므로 복제로 공유 중인 내용도 그대로 갱신합니다.
+ */
+@Slf4j
+@Component
+public class TimelineCompactor {
+
+    private final ProjectContentRepository projectContentRepository;
+    private final TimelineOperationRepository timelineOperationRepository;
+    private final TimelinePatch timelinePatch;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @Value("${lumen.timeline.compaction-threshold:100}")
+    private long threshold;
+
+    @Value("${lumen.timeline.compaction-batch-size:50}")
+    private int batchSize;
+
+    public TimelineCompactor(ProjectContentRepository projectContentRepository,
+                             TimelineOperationRepository timelineOperationRepository,
+                             TimelinePatch timelinePatch,
+                             PlatformTransactionManager transactionManager) {
+        this.projectContentRepository = projectContentRepository;
+        this.timelineOperationRepository = timelineOperationRepository;
+        this.timelinePatch = timelinePatch;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 작업 로그가 추가된 뒤 호출합니다. 합쳐지지 않은 로그가 기준 이상이면 압축 대기열에 넣습니다.
+     *
+     * @param contentKey 내용 행의 키입니다.
+     * @param pendingOperations 스냅샷에 합쳐지지 않은 로그 수입니다.
+     */
+
+    public void onAppended(Long contentKey, long pendingOperations) {
+        if (pendingOperations >= threshold) {
+            pending.add(contentKey);
+        }
+    }
+
+    // 대기열 처리
+    @Scheduled(fixedDelayString = "${lumen.timeline.compaction-interval:30s}")
+    public void compactPending() {
+        List<Long> contentKeys = new ArrayList<>(pending);
+        pending.removeAll(contentKeys);
+        contentKeys.forEach(this::compactSafely);
+    }
+
+    // 대기열에 없는 압축 대상 확인 (다른 서버에서 쌓인 로그, 재시작 전 대기열)
+    @Scheduled(fixedDelayString = "${lumen.timeline.compaction-sweep:10m}")
+    public void sweep() {
+        projectContentRepository.findCompactionCandidates(threshold, Limit.of(batchSize)).forEach(this::compactSafely);
+    }
+
+    /**
+     * 내용 행의 작업 로그를 모두 스냅샷에 합치고 합친 로그를 삭제합니다.
+     *
+     * @param contentKey 내용 행의 키입니다.
+     * @return 합친 로그 수, 내용이 없거나 합칠 로그가 없으면 0 입니다.
+     */
+
+    public int compact(Long contentKey) {
+        Integer compacted = transactionTemplate.execute(status -> {
+            ProjectContent content = projectContentRepository.findForUpdate(contentKey).orElse(null);
+            if (content == null || content.getVersion().equals(content.getSnapshotVersion())) {
+                return 0;
+            }
+            List<String> batches = timelineOperationRepository.findAfter(contentKey, content.getSnapshotVersion())
+                    .stream().map(TimelineOperation::getOperations).toList();
+            content.setTimeline(timelinePatch.apply(content.getTimeline(), batches));
+            content.setSnapshotVersion(content.getVersion());
+            timelineOperationRepository.deleteUpTo(contentKey, content.getVersion());
+            return batches.size();
+        });
+        return compacted == null ? 0 : compacted;
+    }
+
+    /**
+     * 스냅샷에 합쳐지지 않은 작업 로그를 적용한 최신 문서를 반환합니다. 내용 행은 바꾸지 않습니다.
+     *
+     * @param content 내용 행입니다.
+     * @return 최신 타임라인 문서입니다.
+     */
+
+    public String materialize(ProjectContent content) {
+        if (content.getVersion().equals(content.getSnapshotVersion())) {
+            return content.getTimeline();
+        }
+        return timelinePatch.apply(content.getTimeline(),
+                timelineOperationRepository.findAfter(content.getContentKey(), content.getSnapshotVersion())
+                        .stream().map(TimelineOperation::getOperations).toList());
+    }
+
+
+    private void compactSafely(Long contentKey) {
+        try {
+            compact(contentKey);
+        } catch (RuntimeException e) {
+            log.warn("Timeline compaction failed for content {}: {}", contentKey, e.getMessage());
+        }
+    }
+}
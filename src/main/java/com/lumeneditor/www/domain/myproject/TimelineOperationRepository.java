@@ -0,0 +1,52 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.domain.myproject.entity.TimelineOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TimelineOperationRepository extends JpaRepository<TimelineOperation, TimelineOperation.Key> {
+
+    /**
+     * 주어진 버전 이후의 작업 로그를 버전 순서로 조회합니다.
+     *
+     * @param contentKey 내용 행의 키.
+     * @param version    이 버전보다 큰 로그만 조회합니다.
+     * @return 작업 로그 목록.
+     */
+    @Query("SELECT o FROM TimelineOperation o WHERE o.contentKey = :contentKey AND o.version > :version ORDER BY o.version")
+    List<TimelineOperation> findAfter(Long contentKey, Long version);
+
+    /**
+     * 작업 로그를 추가합니다.
+     * <p>
+     * 키를 직접 지정하는 엔티티는 save() 가 먼저 SELECT 하므로, 자동 저장마다 INSERT 한 문장만 실행되도록 직접 추가합니다.
+     *
+     * @param contentKey  내용 행의 키.
+     * @param version     이 작업을 적용한 뒤의 문서 버전.
+     * @param operations  JSON 배열로 직렬화한 작업 목록.
+     * @param createdDate 추가 시각.
+     * @return 추가된 레코드의 수.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO timeline_operations (content_key, version, operations, created_date) " +
+            "VALUES (:contentKey, :version, :operations, :createdDate)", nativeQuery = true)
+    int append(Long contentKey, Long version, String operations, LocalDateTime createdDate);
+
+    /**
+     * 스냅샷에 합쳐진 작업 로그를 삭제합니다.
+     *
+     * @param contentKey 내용 행의 키.
+     * @param version    이 버전 이하의 로그를 삭제합니다.
+     * @return 삭제된 레코드의 수.
+     */
+    @Modifying
+    @Query("DELETE FROM TimelineOperation o WHERE o.contentKey = :contentKey AND o.version <= :version")
+    int deleteUpTo(Long contentKey, Long version);
+
+}
@@ -0,0 +1,177 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 타임라인 문서에 작업 로그를 적용합니다.
+ * <p>
+ * 작업은 JSON Patch(RFC 6902)의 add, remove, replace, move 를 사용합니다.
+ * 예: {"op":"replace","path":"/tracks/0/clips/3/start","value":1200}
+ * 편집기는 같은 작업을 화면의 문서에 먼저 적용했으므로, 서버에서 적용할 수 없는 작업(없는 경로 등)은 건너뛰고 경고만 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelinePatch {
+
+    private static final Set<String> OPERATIONS = Set.of("add", "remove", "replace", "move");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 작업 목록의 형식이 올바른지 확인합니다. 문서를 읽지 않고 확인할 수 있는 것만 확인합니다.
+     *
+     * @param operations 확인할 작업 목록입니다.
+     * @return 모든 작업이 지원하는 종류이고 필요한 필드가 있으면 true 입니다.
+     */
+
+    public boolean isValid(List<JsonNode> operations) {
+        for (JsonNode operation : operations) {
+            if (operation == null || !operation.isObject() || !OPERATIONS.contains(operation.path("op").asText())
+                    || !isPointer(operation.get("path"))) {
+                return false;
+            }
+            String op = operation.get("op").asText();
+            if ((op.equals("add") || op.equals("replace")) && !operation.has("value")) {
+                return false;
+            }
+            if (op.equals("move") && !isPointer(operation.get("from"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문서에 작업 로그를 순서대로 적용한 결과를 반환합니다.
+     *
+     * @param timeline 스냅샷 문서입니다. null 이면 빈 객체에서 시작합니다.
+     * @param batches  작업 로그 목록입니다. 각 항목은 작업 JSON 배열입니다.
+     * @return 적용된 문서입니다.
+     */
+
+    public String apply(String timeline, List<String> batches) {
+        if (batches.isEmpty()) {
+            return timeline;
+        }
+        try {
+            JsonNode root = timeline == null ? objectMapper.createObjectNode() : objectMapper.readTree(timeline);
+            int skipped = 0;
+            for (String batch : batches) {
+                for (JsonNode operation : objectMapper.readTree(batch)) {
+                    try {
+                        root = applyOne(root, operation);
+                    } catch (IllegalArgumentException e) {
+                        skipped++;
+                    }
+                }
+            }
+            if (skipped > 0) {
+                log.warn("Skipped {} timeline operations that could not be applied", skipped);
+            }
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored timeline is not valid JSON", e);
+        }
+    }
+
+
+    // 작업 하나를 적용하고 (루트를 바꾸는 작업이 있으므로) 새 루트를 반환
+    private JsonNode applyOne(JsonNode root, JsonNode operation) {
+        JsonPointer path = JsonPointer.compile(operation.get("path").asText());
+        return switch (operation.get("op").asText()) {
+            case "add" -> add(root, path, operation.get("value"));
+            case "remove" -> {
+                remove(root, path);
+                yield root;
+            }
+            case "replace" -> {
+                if (root.at(path).isMissingNode()) {
+                    throw new IllegalArgumentException("No value at " + path);
+                }
+                if (path.matches()) {
+                    yield operation.get("value");
+                }
+                remove(root, path);
+                yield add(root, path, operation.get("value"));
+            }
+            case "move" -> {
+                JsonPointer from = JsonPointer.compile(operation.get("from").asText());
+                JsonNode value = remove(root, from);
+                yield add(root, path, value);
+            }
+            default -> throw new IllegalArgumentException("Unsupported operation");
+        };
+    }
+
+    private static JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+        if (path.matches()) {
+            return value;
+        }
+        JsonNode parent = root.at(path.head());
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object) {
+            object.set(name, value);
+        } else if (parent instanceof ArrayNode array) {
+            int index = name.equals("-") ? array.size() : arrayIndex(name);
+            if (index > array.size()) {
+                throw new IllegalArgumentException("Index out of range at " + path);
+            }
+            array.insert(index, value);
+        } else {
+            throw new IllegalArgumentException("No container at " + path);
+        }
+        return root;
+    }
+
+    private static JsonNode remove(JsonNode root, JsonPointer path) {
+        JsonNode parent = path.matches() ? null : root.at(path.head());
+        String name = path.matches() ? null : path.last().getMatchingProperty();
+        JsonNode removed = null;
+        if (parent instanceof ObjectNode object) {
+            removed = object.remove(name);
+        } else if (parent instanceof ArrayNode array) {
+            int index = arrayIndex(name);
+            removed = index < array.size() ? array.remove(index) : null;
+        }
+        if (removed == null) {
+            throw new IllegalArgumentException("No value at " + path);
+        }
+        return removed;
+    }
+
+    private static int arrayIndex(String name) {
+        try {
+            int index = Integer.parseInt(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Negative index " + name);
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not an array index: " + name);
+        }
+    }
+
+    private static boolean isPointer(JsonNode node) {
+        if (node == null || !node.isTextual()) {
+            return false;
+        }
+        try {
+            JsonPointer.compile(node.asText());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
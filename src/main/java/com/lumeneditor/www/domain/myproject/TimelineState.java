@@ -0,0 +1,12 @@
+package com.lumeneditor.www.domain.myproject;
+
+/**
+ * 타임라인 문서 본문을 읽지 않고 조회하는 버전 정보입니다. 자동 저장과 작업 로그 조회에 사용합니다.
+ *
+ * @param contentKey      내용 행의 키입니다.
+ * @param version         문서의 최신 버전입니다.
+ * @param snapshotVersion 스냅샷에 반영된 버전입니다.
+ * @param refCount        내용을 공유하는 프로젝트 수입니다.
+ */
+public record TimelineState(Long contentKey, long version, long snapshotVersion, int refCount) {
+}
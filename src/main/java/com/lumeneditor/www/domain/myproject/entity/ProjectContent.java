@@ -0,0 +1,67 @@
+package com.lumeneditor.www.domain.myproject.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트의 타임라인 문서입니다.
+ * <p>
+ * 복제된 프로젝트들은 같은 행을 참조하며 refCount 로 참조 수를 셉니다.
+ * 참조가 둘 이상인 동안에는 내용을 직접 수정하지 않고, 수정하는 쪽이 새 행을 만들어 옮겨 갑니다 (copy-on-write).
+ * <p>
+ * timeline 은 snapshotVersion 시점의 문서이며, 이후 변경은 작업 로그(timeline_operations)에 version 까지 쌓입니다.
+ * 자동 저장은 로그만 추가하고, 로그는 백그라운드에서 스냅샷에 합쳐집니다 ({@link com.lumeneditor.www.domain.myproject.TimelineCompactor}).
+ * 버전만 바뀌는 갱신에서 큰 timeline 컬럼을 다시 쓰지 않도록 변경된 컬럼만 UPDATE 합니다.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "project_contents")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long contentKey;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String timeline;
+
+    // 문서의 최신 버전 (작업 로그가 추가될 때마다 1 증가)
+    @Column(nullable = false)
+    private Long version;
+
+    // timeline 에 반영된 버전 (이후 버전은 작업 로그에 있음)
+    @Column(nullable = false)
+    private Long snapshotVersion;
+
+    // 이 내용을 참조하는 프로젝트 수 (0 이 되면 삭제)
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @PrePersist
+    protected void onCreate() {
+        if (refCount == null) {
+            refCount = 1;
+        }
+        if (version == null) {
+            version = 0L;
+        }
+        if (snapshotVersion == null) {
+            snapshotVersion = version;
+        }
+        createdDate = LocalDateTime.now();
+    }
+}
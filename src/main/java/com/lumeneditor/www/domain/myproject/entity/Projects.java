@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "projects")
@@ -32,17 +33,42 @@ public class Projects {
     @Column(nullable = false)
     private LocalDateTime projectDate;
 
+    // 보관된 프로젝트는 기본 목록에서 제외
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private YesNo archived;
+
+    // 행이 변경될 때마다 1 증가 (ETag 계산용, 낙관적 잠금에는 사용하지 않음)
+    @Column(nullable = false)
+    private Long rowVersion;
 
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "workspaces_key", nullable = false)
     private WorkSpaces workSpaces;
 
+    // 타임라인 문서 (복제된 프로젝트끼리 공유, 아직 저장하지 않았으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_key")
+    private ProjectContent content;
+
     @PrePersist
     protected void onCreate() {
         if (disclosureStatus == null) {
             disclosureStatus = YesNo.N;
         }
+        if (archived == null) {
+            archived = YesNo.N;
+        }
+        if (projectDate == null) {
+            projectDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS); // DATETIME 컬럼 정밀도 (목록 커서와 같은 값)
+        }
+        rowVersion = 0L;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        rowVersion = rowVersion == null ? 1L : rowVersion + 1;
     }
 
 
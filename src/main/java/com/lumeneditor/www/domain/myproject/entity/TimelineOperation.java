@@ -0,0 +1,49 @@
+package com.lumeneditor.www.domain.myproject.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 문서의 작업 로그입니다. 자동 저장 한 번이 한 행이며, 그 사이의 작업들을 JSON 배열로 담습니다.
+ * <p>
+ * 행은 추가만 되고 수정되지 않으며, 스냅샷에 합쳐진 뒤 삭제됩니다.
+ * 복제된 프로젝트끼리는 내용 행과 함께 로그도 공유합니다.
+ */
+@Entity
+@Table(name = "timeline_operations")
+@IdClass(TimelineOperation.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineOperation {
+
+    @Id
+    private Long contentKey;
+
+    // 이 작업을 적용한 뒤의 문서 버전
+    @Id
+    private Long version;
+
+    // JSON Patch 형식 작업 배열 (TimelinePatch)
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String operations;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long contentKey;
+        private Long version;
+    }
+}
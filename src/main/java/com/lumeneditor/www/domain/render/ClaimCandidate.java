@@ -0,0 +1,10 @@
+package com.lumeneditor.www.domain.render;
+
+/**
+ * 워커가 가져갈 수 있는 대기 작업과 그 작업공간입니다. 작업공간을 정해진 순서로 잠그기 위해 사용합니다.
+ *
+ * @param jobKey        작업의 키입니다.
+ * @param workspacesKey 작업이 속한 작업공간의 키입니다.
+ */
+public record ClaimCandidate(Long jobKey, Long workspacesKey) {
+}
@@ -0,0 +1,259 @@
+package com.lumeneditor.www.domain.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lumeneditor.www.domain.media.BlobStorage;
+import com.lumeneditor.www.domain.media.WorkspaceMediaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * ffmpeg 프로세스로 타임라인을 렌더링합니다.
+ * <p>
+ * 첫 번째 트랙의 클립({"mediaKey":1,"in":0,"out":5000}, 밀리초)을 순서대로 이어 붙이는 concat 목록을 만들고,
+ * 작업 형식의 인코딩 옵션으로 ffmpeg 를 실행합니다. 원본은 로컬 저장소의 파일을 그대로 읽고, 원격 저장소면 작업 디렉터리에 받아 둡니다.
+ * 진행률은 ffmpeg 의 -progress 출력(out_time_us)을 클립 길이의 합과 비교하여 계산합니다.
+ * 렌더링은 별도 프로세스에서 실행되므로 API 요청을 처리하는 JVM 의 CPU 와 힙을 쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lumen.render.renderer", havingValue = "ffmpeg", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FfmpegRenderer implements Renderer {
+
+    private static final int MAX_CLIPS = 10_000;
+    private static final int MAX_ERROR_LENGTH = 400;
+
+    private final ObjectMapper objectMapper;
+    private final WorkspaceMediaRepository workspaceMediaRepository;
+    private final BlobStorage blobStorage;
+
+    @Value("${lumen.render.ffmpeg-path:ffmpeg}")
+    private String ffmpegPath;
+
+    @Value("${lumen.render.timeout:2h}")
+    private Duration timeout;
+
+    /**
+     * 원본 미디어의 [in, out) 구간입니다 (밀리초).
+     */
+    record Clip(long mediaKey, long in, long out) {
+
+        long duration() {
+            return out - in;
+        }
+    }
+
+    @Override
+    public void render(RenderInput input, Path output, Progress progress) throws IOException, InterruptedException {
+        List<Clip> clips = clipsOf(readTimeline(input.timeline()));
+        long totalMillis = clips.stream().mapToLong(Clip::duration).sum();
+
+        Path workDir = Files.createTempDirectory(output.toAbsolutePath().getParent(), "render-" + input.jobKey() + "-");
+        try {
+            Map<Long, Path> sources = resolveSources(clips, input.workspacesKey(), workDir);
+            Path list = Files.writeString(workDir.resolve("clips.ffconcat"), concatList(clips, sources), StandardCharsets.UTF_8);
+            Path errorLog = workDir.resolve("ffmpeg.log");
+
+            List<String> command = new ArrayList<>(List.of(ffmpegPath, "-nostdin", "-y", "-loglevel", "error",
+                    "-progress", "pipe:1", "-nostats", "-f", "concat", "-safe", "0", "-i", list.toString()));
+            command.addAll(input.format().getFfmpegArgs());
+            command.add(output.toAbsolutePath().toString());
+
+            Process process = new ProcessBuilder(command).redirectError(errorLog.toFile()).start();
+            AtomicBoolean canceled = new AtomicBoolean();
+            AtomicReference<RuntimeException> reportFailure = new AtomicReference<>();
+            // 진행률 출력은 별도 스레드에서 읽고, 이 스레드는 제한 시간 동안 종료를 기다림
+            Thread reader = Thread.ofVirtual().name("ffmpeg-progress-" + input.jobKey())
+                    .start(() -> readProgress(process, totalMillis, progress, canceled, reportFailure));
+            try {
+                if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new IOException("ffmpeg did not finish within " + timeout);
+                }
+                reader.join();
+            } finally {
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+            if (canceled.get()) {
+                throw new CancellationException("Render job " + input.jobKey() + " was canceled");
+            }
+            if (reportFailure.get() != null) {
+                throw new IOException("Failed to report render progress: " + reportFailure.get().getMessage(), reportFailure.get());
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("ffmpeg exited with " + process.exitValue() + ": " + tail(errorLog));
+            }
+        } finally {
+            deleteRecursively(workDir);
+        }
+    }
+
+    /**
+     * 타임라인의 첫 번째 트랙에서 클립 목록을 읽습니다.
+     *
+     * @param timeline 타임라인 문서입니다.
+     * @return 트랙 순서대로의 클립 목록입니다.
+     * @throws IllegalArgumentException 클립이 없거나 구간이 올바르지 않은 경우 발생합니다 (다시 시도해도 실패하는 입력).
+     */
+
+    static List<Clip> clipsOf(JsonNode timeline) {
+        JsonNode nodes = timeline.path("tracks").path(0).path("clips");
+        if (!nodes.isArray() || nodes.isEmpty()) {
+            throw new IllegalArgumentException("Timeline has no clips on the first track");
+        }
+        if (nodes.size() > MAX_CLIPS) {
+            throw new IllegalArgumentException("Timeline has more than " + MAX_CLIPS + " clips");
+        }
+        List<Clip> clips = new ArrayList<>(nodes.size());
+        for (JsonNode node : nodes) {
+            JsonNode mediaKey = node.path("mediaKey");
+            long in = node.path("in").asLong(0);
+            long out = node.path("out").asLong(-1);
+            if (!mediaKey.canConvertToLong() || in < 0 || out <= in) {
+                throw new IllegalArgumentException("Invalid clip at index " + clips.size());
+            }
+            clips.add(new Clip(mediaKey.asLong(), in, out));
+        }
+        return clips;
+    }
+
+    /**
+     * ffmpeg concat demuxer 의 입력 목록을 만듭니다.
+     *
+     * @param clips   클립 목록입니다.
+     * @param sources 미디어 키별 원본 파일 경로입니다.
+     * @return ffconcat 형식의 목록입니다.
+     */
+
+    static String concatList(List<Clip> clips, Map<Long, Path> sources) {
+        StringBuilder list = new StringBuilder("ffconcat version 1.0\n");
+        for (Clip clip : clips) {
+            // 작은따옴표 안에서는 작은따옴표만 '\'' 로 이스케이프
+            String path = sources.get(clip.mediaKey()).toAbsolutePath().toString().replace("'", "'\\''");
+            list.append("file '").append(path).append("'\n")
+                    .append("inpoint ").append(seconds(clip.in())).append('\n')
+                    .append("outpoint ").append(seconds(clip.out())).append('\n');
+        }
+        return list.toString();
+    }
+
+    /**
+     * ffmpeg -progress 출력 한 줄에서 진행률을 계산합니다.
+     *
+     * @param line        출력 한 줄입니다 (예: out_time_us=1500000, progress=end).
+     * @param totalMillis 결과 영상의 길이입니다.
+     * @return 진행률 (0~100), 진행률 줄이 아니면 -1 입니다. 끝나기 전에는 99 를 넘지 않습니다.
+     */
+
+    static int percentOf(String line, long totalMillis) {
+        if (line.equals("progress=end")) {
+            return 100;
+        }
+        if (!line.startsWith("out_time_us=") || totalMillis <= 0) {
+            return -1;
+        }
+        try {
+            long micros = Long.parseLong(line.substring("out_time_us=".length()).strip());
+            return (int) Math.max(0, Math.min(99, micros / 10 / totalMillis));
+        } catch (NumberFormatException e) {
+            // 시작 직후에는 N/A 가 출력됨
+            return -1;
+        }
+    }
+
+
+    private JsonNode readTimeline(String timeline) {
+        try {
+            return objectMapper.readTree(timeline);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Timeline is not valid JSON", e);
+        }
+    }
+
+    // 미디어 키별 원본 파일 (작업의 작업공간에 없는 미디어는 렌더링하지 않음)
+    private Map<Long, Path> resolveSources(List<Clip> clips, Long workspacesKey, Path workDir) throws IOException {
+        Map<Long, Path> sources = new HashMap<>();
+        for (Clip clip : clips) {
+            if (sources.containsKey(clip.mediaKey())) {
+                continue;
+            }
+            String hash = workspaceMediaRepository.findBlobHashInWorkspace(clip.mediaKey(), workspacesKey);
+            if (hash == null) {
+                throw new IllegalArgumentException("Media " + clip.mediaKey() + " is not in the workspace");
+            }
+            Path source = blobStorage.localPath(hash);
+            if (source == null) {
+                source = workDir.resolve(hash);
+                try (InputStream in = blobStorage.get(hash)) {
+                    Files.copy(in, source);
+                }
+            }
+            sources.put(clip.mediaKey(), source);
+        }
+        return sources;
+    }
+
+    // ffmpeg 는 약 0.5초마다 progress= 로 끝나는 블록을 출력하므로, 블록마다 보고하여 취소 여부도 확인
+    // (보고가 실패하면 출력을 읽을 스레드가 없어 ffmpeg 가 파이프에서 멈추므로, 프로세스를 종료하고 실패로 처리)
+    private static void readProgress(Process process, long totalMillis, Progress progress, AtomicBoolean canceled,
+                                     AtomicReference<RuntimeException> reportFailure) {
+        int percent = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                percent = Math.max(percent, percentOf(line, totalMillis));
+                if (line.startsWith("progress=") && !progress.report(percent)) {
+                    canceled.set(true);
+                    process.destroyForcibly();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 프로세스가 종료되어 출력이 닫힌 경우, 결과는 종료 코드로 판단
+        } catch (RuntimeException e) {
+            reportFailure.set(e);
+            process.destroyForcibly();
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%d.%03d", millis / 1000, millis % 1000);
+    }
+
+    private static String tail(Path errorLog) {
+        try {
+            String text = Files.readString(errorLog, StandardCharsets.UTF_8).strip();
+            return text.length() <= MAX_ERROR_LENGTH ? text : text.substring(text.length() - MAX_ERROR_LENGTH);
+        } catch (IOException e) {
+            return "(no log)";
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Failed to delete render work directory {}: {}", dir, e.getMessage());
+        }
+    }
+}
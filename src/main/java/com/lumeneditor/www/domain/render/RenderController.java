@@ -0,0 +1,53 @@
+package com.lumeneditor.www.domain.render;
+
+
+import com.lumeneditor.www.web.dto.render.RenderJobRequest;
+import com.lumeneditor.www.web.dto.render.RenderJobResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/render/")
+public class RenderController {
+
+    private final RenderService renderService;
+
+    // 프로젝트 내보내기 요청 (렌더링 대기열에 추가)
+    @PostMapping("jobs")
+    public ResponseEntity<RenderJobResponse> createJob(HttpServletRequest request, @RequestBody RenderJobRequest jobRequest) {
+        return renderService.createJob(request, jobRequest);
+    }
+
+    // 렌더링 작업 목록 (최근 요청 순, after 는 이전 페이지 마지막 jobKey)
+    @GetMapping("jobs")
+    public ResponseEntity<List<RenderJobResponse>> getJobs(HttpServletRequest request,
+                                                           @RequestParam(required = false) Long after,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return renderService.getJobs(request, after, size);
+    }
+
+    // 렌더링 작업 조회
+    @GetMapping("jobs/{jobKey}")
+    public ResponseEntity<RenderJobResponse> getJob(HttpServletRequest request, @PathVariable Long jobKey) {
+        return renderService.getJob(request, jobKey);
+    }
+
+    // 렌더링 작업 취소
+    @DeleteMapping("jobs/{jobKey}")
+    public ResponseEntity<Boolean> cancelJob(HttpServletRequest request, @PathVariable Long jobKey) {
+        return renderService.cancelJob(request, jobKey);
+    }
+
+    // 렌더링 진행 상황 (SSE)
+    @GetMapping(value = "jobs/{jobKey}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProgress(HttpServletRequest request, @PathVariable Long jobKey) {
+        return renderService.streamProgress(request, jobKey);
+    }
+}
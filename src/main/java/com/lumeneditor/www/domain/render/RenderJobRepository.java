@@ -0,0 +1,233 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.domain.render.entity.RenderJob;
+import com.lumeneditor.www.web.dto.render.RenderJobEvent;
+import com.lumeneditor.www.web.dto.render.RenderJobResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RenderJobRepository extends JpaRepository<RenderJob, Long> {
+
+    /**
+     * 작업공간에 속한 렌더링 작업을 타임라인 본문 없이 조회합니다.
+     *
+     * @param jobKey        조회할 작업의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @return 렌더링 작업.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.render.RenderJobResponse(j.jobKey, j.projects.projectKey, j.format, j.status, " +
+            "j.progress, j.attempts, m.mediaKey, j.errorMessage, j.createdDate, j.startedDate, j.finishedDate) " +
+            "FROM RenderJob j LEFT JOIN j.media m WHERE j.jobKey = :jobKey AND j.workSpaces.workspacesKey = :workspacesKey")
+    Optional<RenderJobResponse> findInWorkspace(Long jobKey, Long workspacesKey);
+
+    /**
+     * 작업공간의 렌더링 작업 목록을 최근 요청 순서로 조회합니다. afterKey 보다 작은 키만 조회합니다 (키셋 페이지네이션).
+     *
+     * @param workspacesKey 조회할 작업공간의 키.
+     * @param afterKey      이전 페이지 마지막 항목의 키, 첫 페이지는 Long.MAX_VALUE.
+     * @param limit         조회할 최대 개수.
+     * @return 렌더링 작업 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.render.RenderJobResponse(j.jobKey, j.projects.projectKey, j.format, j.status, " +
+            "j.progress, j.attempts, m.mediaKey, j.errorMessage, j.createdDate, j.startedDate, j.finishedDate) " +
+            "FROM RenderJob j LEFT JOIN j.media m " +
+            "WHERE j.workSpaces.workspacesKey = :workspacesKey AND j.jobKey < :afterKey ORDER BY j.jobKey DESC")
+    List<RenderJobResponse> findPage(Long workspacesKey, Long afterKey, Limit limit);
+
+    /**
+     * 작업의 진행 상황을 타임라인 본문 없이 조회합니다. 상태가 바뀐 뒤 발행할 이벤트를 만들 때 사용합니다.
+     *
+     * @param jobKey 조회할 작업의 키.
+     * @return 진행 상황.
+     */
+    @Query("SELECT new com.lumeneditor.www.web.dto.render.RenderJobEvent(j.jobKey, j.status, j.progress, m.mediaKey, j.errorMessage) " +
+            "FROM RenderJob j LEFT JOIN j.media m WHERE j.jobKey = :jobKey")
+    Optional<RenderJobEvent> findEvent(Long jobKey);
+
+    /**
+     * 작업공간의 끝나지 않은(대기 또는 렌더링 중) 작업 수를 조회합니다. 요청할 수 있는 작업 수 제한에 사용합니다.
+     *
+     * @param workspacesKey 확인할 작업공간의 키.
+     * @return 끝나지 않은 작업 수.
+     */
+    @Query("SELECT COUNT(j) FROM RenderJob j WHERE j.workSpaces.workspacesKey = :workspacesKey " +
+            "AND j.status IN (com.lumeneditor.www.comm.eunm.RenderStatus.QUEUED, com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING)")
+    long countPending(Long workspacesKey);
+
+    /**
+     * 가져갈 수 있는 대기 작업의 키를 요청 순서로 조회하고 잠급니다.
+     * <p>
+     * 다른 워커가 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED) 여러 워커가 동시에 호출해도 서로 다른 작업을 받습니다.
+     * 동시 렌더링 수가 이미 perUserLimit 인 작업공간의 작업은 제외합니다. 하위 쿼리의 행은 잠그지 않으므로,
+     * 정확한 제한은 가져가기 전에 작업공간을 잠그고 {@link #countRunning} 으로 다시 확인합니다.
+     * 잠금을 기다리는 동안 커밋된 작업도 세도록 READ COMMITTED 트랜잭션에서 호출해야 합니다.
+     *
+     * @param now          현재 시각. runAfter 가 지나지 않은 재시도 대기 작업은 제외합니다.
+     * @param perUserLimit 작업공간당 동시 렌더링 수.
+     * @param limit        조회할 최대 개수.
+     * @return 잠긴 작업의 키 목록 (컬럼 타입에 따라 Long 또는 BigInteger).
+     */
+    @Query(value = "SELECT j.job_key FROM render_jobs j WHERE j.status = 'QUEUED' AND j.run_after <= :now " +
+            "AND (SELECT COUNT(*) FROM render_jobs r WHERE r.workspaces_key = j.workspaces_key AND r.status = 'RUNNING') < :perUserLimit " +
+            "ORDER BY j.job_key LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Number> findClaimable(LocalDateTime now, int perUserLimit, int limit);
+
+    /**
+     * 가져갈 후보 작업의 작업공간을 조회합니다.
+     * <p>
+     * 한 트랜잭션에서 여러 작업공간을 잠글 수 있으므로, 워커끼리 교착되지 않도록 작업공간 키 순서로 정렬하여 그 순서대로 잠급니다.
+     *
+     * @param jobKeys {@link #findClaimable} 로 잠근 작업의 키 목록.
+     * @return 작업공간 키, 작업 키 순서의 후보 목록.
+     */
+    @Query("SELECT new com.lumeneditor.www.domain.render.ClaimCandidate(j.jobKey, j.workSpaces.workspacesKey) " +
+            "FROM RenderJob j WHERE j.jobKey IN :jobKeys ORDER BY j.workSpaces.workspacesKey, j.jobKey")
+    List<ClaimCandidate> findCandidates(Collection<Long> jobKeys);
+
+    /**
+     * 작업공간 행을 잠급니다. 같은 작업공간의 작업을 가져가는 워커들과 작업을 추가하는 요청을 한 줄로 세워
+     * 동시 렌더링 수와 대기 작업 수 제한을 정확히 지키게 합니다.
+     *
+     * @param workspacesKey 잠글 작업공간의 키.
+     * @return 작업공간의 키, 없으면 null.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.workspacesKey FROM WorkSpaces w WHERE w.workspacesKey = :workspacesKey")
+    Long lockWorkspace(Long workspacesKey);
+
+    /**
+     * 작업공간에서 렌더링 중인 작업 수를 조회합니다.
+     *
+     * @param workspacesKey 확인할 작업공간의 키.
+     * @return 렌더링 중인 작업 수.
+     */
+    @Query("SELECT COUNT(j) FROM RenderJob j WHERE j.workSpaces.workspacesKey = :workspacesKey " +
+            "AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING")
+    long countRunning(Long workspacesKey);
+
+    /**
+     * 렌더링 중인 작업의 진행률과 heartbeat 를 갱신합니다.
+     * <p>
+     * 취소되었거나, 프로젝트가 삭제되었거나, heartbeat 가 끊겨 다른 워커에게 넘어간 작업은 0 을 반환하며 워커는 렌더링을 멈춥니다.
+     *
+     * @param jobKey   작업의 키.
+     * @param workerId 렌더링 중인 워커의 ID.
+     * @param progress 진행률 (0~100).
+     * @param now      현재 시각.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.progress = :progress, j.heartbeatDate = :now " +
+            "WHERE j.jobKey = :jobKey AND j.workerId = :workerId AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING")
+    int updateProgress(Long jobKey, String workerId, int progress, LocalDateTime now);
+
+    /**
+     * 렌더링한 작업을 완료 상태로 바꿉니다. 결과 미디어를 추가하는 트랜잭션에서 호출합니다.
+     *
+     * @param jobKey   작업의 키.
+     * @param workerId 렌더링한 워커의 ID.
+     * @param media    결과 미디어.
+     * @param now      현재 시각.
+     * @return 업데이트된 레코드의 수, 그 사이 취소되었거나 다른 워커에게 넘어갔으면 0.
+     */
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.status = com.lumeneditor.www.comm.eunm.RenderStatus.SUCCEEDED, j.progress = 100, " +
+            "j.media = :media, j.workerId = NULL, j.finishedDate = :now " +
+            "WHERE j.jobKey = :jobKey AND j.workerId = :workerId AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING")
+    int markSucceeded(Long jobKey, String workerId, WorkspaceMedia media, LocalDateTime now);
+
+    /**
+     * 렌더링 중인 작업을 대기열로 돌려보내거나(status = QUEUED) 실패로 끝냅니다(status = FAILED).
+     *
+     * @param jobKey       작업의 키.
+     * @param workerId     렌더링한 워커의 ID.
+     * @param status       바꿀 상태 (QUEUED 또는 FAILED).
+     * @param progress     기록할 진행률 (다시 시도하면 0).
+     * @param errorMessage 실패 사유.
+     * @param runAfter     다시 가져갈 수 있는 시각 (QUEUED 일 때).
+     * @param finishedDate 끝난 시각 (FAILED 일 때, 그 외에는 null).
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.status = :status, j.progress = :progress, j.errorMessage = :errorMessage, j.runAfter = :runAfter, " +
+            "j.finishedDate = :finishedDate, j.workerId = NULL " +
+            "WHERE j.jobKey = :jobKey AND j.workerId = :workerId AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING")
+    int markFailed(Long jobKey, String workerId, RenderStatus status, int progress, String errorMessage,
+                   LocalDateTime runAfter, LocalDateTime finishedDate);
+
+    /**
+     * 렌더링 중인 작업을 시작하지 않은 것으로 되돌립니다. 서버 종료로 렌더링을 멈출 때 재시도 횟수를 쓰지 않도록 사용합니다.
+     *
+     * @param jobKey   작업의 키.
+     * @param workerId 렌더링 중인 워커의 ID.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.status = com.lumeneditor.www.comm.eunm.RenderStatus.QUEUED, j.attempts = j.attempts - 1, " +
+            "j.progress = 0, j.workerId = NULL " +
+            "WHERE j.jobKey = :jobKey AND j.workerId = :workerId AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING")
+    int release(Long jobKey, String workerId);
+
+    /**
+     * heartbeat 가 cutoff 이전에 끊긴 렌더링 중인 작업의 키를 조회합니다. 워커가 있던 서버가 종료된 작업입니다.
+     *
+     * @param cutoff 이 시각 이전의 heartbeat 는 끊긴 것으로 봅니다.
+     * @param limit  조회할 최대 개수.
+     * @return 작업의 키 목록.
+     */
+    @Query("SELECT j.jobKey FROM RenderJob j WHERE j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING " +
+            "AND j.heartbeatDate < :cutoff ORDER BY j.jobKey")
+    List<Long> findExpired(LocalDateTime cutoff, Limit limit);
+
+    /**
+     * heartbeat 가 끊긴 작업을 재시도 횟수가 남았으면 대기열로, 아니면 실패로 바꿉니다.
+     *
+     * @param jobKey      작업의 키.
+     * @param cutoff      이 시각 이전의 heartbeat 는 끊긴 것으로 봅니다 (그 사이 갱신되었으면 바꾸지 않음).
+     * @param maxAttempts 최대 시도 횟수.
+     * @param now         현재 시각.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.status = CASE WHEN j.attempts < :maxAttempts " +
+            "THEN com.lumeneditor.www.comm.eunm.RenderStatus.QUEUED ELSE com.lumeneditor.www.comm.eunm.RenderStatus.FAILED END, " +
+            "j.progress = CASE WHEN j.attempts < :maxAttempts THEN 0 ELSE j.progress END, " +
+            "j.finishedDate = CASE WHEN j.attempts < :maxAttempts THEN NULL ELSE :now END, " +
+            "j.errorMessage = 'Render worker stopped responding', j.runAfter = :now, j.workerId = NULL " +
+            "WHERE j.jobKey = :jobKey AND j.status = com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING AND j.heartbeatDate < :cutoff")
+    int expire(Long jobKey, LocalDateTime cutoff, int maxAttempts, LocalDateTime now);
+
+    /**
+     * 끝나지 않은 작업을 취소합니다. 렌더링 중이면 워커가 다음 진행률 갱신에서 멈춥니다.
+     *
+     * @param jobKey        작업의 키.
+     * @param workspacesKey 요청한 사용자의 작업공간 키.
+     * @param now           현재 시각.
+     * @return 업데이트된 레코드의 수.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RenderJob j SET j.status = com.lumeneditor.www.comm.eunm.RenderStatus.CANCELED, j.workerId = NULL, j.finishedDate = :now " +
+            "WHERE j.jobKey = :jobKey AND j.workSpaces.workspacesKey = :workspacesKey " +
+            "AND j.status IN (com.lumeneditor.www.comm.eunm.RenderStatus.QUEUED, com.lumeneditor.www.comm.eunm.RenderStatus.RUNNING)")
+    int cancel(Long jobKey, Long workspacesKey, LocalDateTime now);
+
+}
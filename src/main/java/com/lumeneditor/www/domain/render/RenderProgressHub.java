@@ -0,0 +1,121 @@
+package com.lumeneditor.www.domain.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lumeneditor.www.comm.RedisKeys;
+import com.lumeneditor.www.web.dto.render.RenderJobEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 렌더링 진행 상황을 SSE 로 구독 중인 클라이언트에 전달합니다.
+ * <p>
+ * 워커와 SSE 연결은 서로 다른 서버에 있을 수 있으므로, 워커는 Redis 채널 render:job:{jobKey} 로 발행하고
+ * 각 서버는 자신에게 연결된 구독자에게만 전달합니다. 구독자가 없는 작업의 메시지는 바로 버립니다.
+ * 진행률은 DB 에도 기록되므로, 발행에 실패해도 다시 연결하거나 작업을 조회하면 현재 상태를 받을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RenderProgressHub implements MessageListener {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public RenderProgressHub(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                             RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener(this, new PatternTopic(RedisKeys.renderChannelPattern()));
+    }
+
+    /**
+     * 작업의 진행 상황을 모든 서버의 구독자에게 발행합니다.
+     *
+     * @param event 발행할 진행 상황입니다.
+     */
+
+    public void publish(RenderJobEvent event) {
+        try {
+            redisTemplate.convertAndSend(RedisKeys.renderChannel(event.jobKey()), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to publish render progress for job {}: {}", event.jobKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작업의 진행 상황을 받을 SSE 연결을 등록합니다. 연결이 끝나면(완료, 시간 초과, 오류) 자동으로 제거됩니다.
+     *
+     * @param jobKey  구독할 작업의 키입니다.
+     * @param timeout SSE 연결을 유지할 최대 시간입니다.
+     * @return 등록된 SseEmitter 입니다.
+     */
+
+    public SseEmitter subscribe(Long jobKey, Duration timeout) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // 추가와 제거를 각각 한 번에 처리하여 빈 집합 제거와 겹쳐도 연결을 잃지 않음
+        emitters.compute(jobKey, (key, set) -> {
+            Set<SseEmitter> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(emitter);
+            return target;
+        });
+        Runnable remove = () -> emitters.computeIfPresent(jobKey, (key, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * 하나의 SSE 연결에 진행 상황을 보냅니다. 작업이 끝났으면 연결을 닫습니다.
+     *
+     * @param emitter 보낼 SSE 연결입니다.
+     * @param event   진행 상황입니다.
+     */
+
+    public void send(SseEmitter emitter, RenderJobEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+            if (event.status().isFinished()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 닫힌 연결
+            emitter.completeWithError(e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long jobKey = RedisKeys.jobKeyOfChannel(new String(message.getChannel(), StandardCharsets.UTF_8));
+        Set<SseEmitter> subscribers = jobKey == null ? null : emitters.get(jobKey);
+        if (subscribers == null) {
+            return;
+        }
+        try {
+            RenderJobEvent event = objectMapper.readValue(message.getBody(), RenderJobEvent.class);
+            subscribers.forEach(emitter -> send(emitter, event));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed render progress for job {}: {}", jobKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.web.dto.render.RenderJobRequest;
+import com.lumeneditor.www.web.dto.render.RenderJobResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface RenderService {
+
+    /**
+     * 현재 사용자의 프로젝트를 영상 파일로 내보내는 렌더링 작업을 대기열에 추가합니다.
+     * <p>
+     * 요청 시점의 타임라인을 작업에 복사하므로, 렌더링이 끝나기 전에 편집을 계속해도 결과는 바뀌지 않습니다.
+     * 렌더링은 워커 서버에서 실행되며, 진행 상황은 {@link #streamProgress} 로 받고 결과는 미디어 API 로 내려받습니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param jobRequest 내보낼 프로젝트의 키와 형식.
+     * @return 추가된 작업을 포함한 202 응답, 타임라인이 없으면 400, 프로젝트가 없으면 404,
+     *         끝나지 않은 작업이 lumen.render.max-pending 개 이상이면 429 ResponseEntity 객체.
+     */
+
+    ResponseEntity<RenderJobResponse> createJob(HttpServletRequest request, RenderJobRequest jobRequest);
+
+    /**
+     * 현재 사용자의 렌더링 작업 목록을 최근 요청 순서로 조회합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param after 이전 페이지 마지막 항목의 jobKey, 첫 페이지는 null.
+     * @param size 페이지 크기 (1~100).
+     * @return 렌더링 작업 목록을 포함한 ResponseEntity 객체.
+     */
+
+    ResponseEntity<List<RenderJobResponse>> getJobs(HttpServletRequest request, Long after, int size);
+
+    /**
+     * 현재 사용자의 렌더링 작업을 조회합니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param jobKey 조회할 작업의 키.
+     * @return 렌더링 작업, 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<RenderJobResponse> getJob(HttpServletRequest request, Long jobKey);
+
+    /**
+     * 끝나지 않은 렌더링 작업을 취소합니다. 렌더링 중이면 워커가 다음 진행률 기록에서 멈춥니다.
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param jobKey 취소할 작업의 키.
+     * @return 취소되면 true, 이미 끝난 작업이면 409, 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<Boolean> cancelJob(HttpServletRequest request, Long jobKey);
+
+    /**
+     * 렌더링 작업의 진행 상황을 SSE(text/event-stream)로 받습니다.
+     * <p>
+     * 연결하면 현재 상태를 먼저 보내고, 이후 상태나 진행률이 바뀔 때마다 progress 이벤트를 보냅니다.
+     * 작업이 끝나면(완료, 실패, 취소) 마지막 이벤트를 보낸 뒤 연결을 닫습니다.
+     * 연결 중에는 DB 연결을 잡지 않으며, 워커가 다른 서버에 있어도 Redis 를 통해 전달받습니다 ({@link RenderProgressHub}).
+     *
+     * @param request 클라이언트로부터 받은 HttpServletRequest 객체. 현재 사용자의 식별 정보를 포함하고 있습니다.
+     * @param jobKey 진행 상황을 받을 작업의 키.
+     * @return SSE 연결, 작업이 없으면 404 ResponseEntity 객체.
+     */
+
+    ResponseEntity<SseEmitter> streamProgress(HttpServletRequest request, Long jobKey);
+}
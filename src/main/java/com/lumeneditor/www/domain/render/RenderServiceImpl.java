@@ -0,0 +1,148 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.comm.JwtTokenUtil;
+import com.lumeneditor.www.comm.RowVersion;
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.domain.auth.WorkSpacesRepository;
+import com.lumeneditor.www.domain.myproject.ProjectsRepository;
+import com.lumeneditor.www.domain.myproject.TimelineCompactor;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import com.lumeneditor.www.domain.render.entity.RenderJob;
+import com.lumeneditor.www.security.JwtTokenProvider;
+import com.lumeneditor.www.web.dto.render.RenderJobRequest;
+import com.lumeneditor.www.web.dto.render.RenderJobResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class RenderServiceImpl implements RenderService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkSpacesRepository workSpacesRepository;
+    private final ProjectsRepository projectsRepository;
+    private final RenderJobRepository renderJobRepository;
+    private final TimelineCompactor timelineCompactor;
+    private final RenderProgressHub renderProgressHub;
+
+    @Value("${lumen.render.max-pending:10}")
+    private long maxPending;
+
+    @Value("${lumen.render.sse-timeout:30m}")
+    private Duration sseTimeout;
+
+
+    // 렌더링 작업 추가 (요청 시점의 타임라인 복사)
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ResponseEntity<RenderJobResponse> createJob(HttpServletRequest request, RenderJobRequest jobRequest) {
+        if (jobRequest == null || jobRequest.getProjectKey() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        // 이름 변경/삭제와 같은 순서(프로젝트 → 작업공간)로 잠금 (작업 추가 시 외래 키가 프로젝트 행을 잠그므로 먼저 잠가 교착 방지)
+        Projects projects = workspace == null ? null
+                : projectsRepository.findInWorkspaceForUpdate(jobRequest.getProjectKey(), workspace.key()).orElse(null);
+        if (projects == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (projects.getContent() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 동시에 추가하는 요청이 함께 제한을 넘지 않도록 작업공간을 잠근 뒤 셈 (잠금 이후 커밋된 작업도 보도록 READ COMMITTED)
+        renderJobRepository.lockWorkspace(workspace.key());
+        if (renderJobRepository.countPending(workspace.key()) >= maxPending) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        RenderJob job = renderJobRepository.save(RenderJob.builder()
+                .projects(projects)
+                .workSpaces(projects.getWorkSpaces())
+                .format(jobRequest.getFormat() == null ? RenderFormat.MP4 : jobRequest.getFormat())
+                .timeline(timelineCompactor.materialize(projects.getContent()))
+                .build());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new RenderJobResponse(job.getJobKey(), projects.getProjectKey(),
+                job.getFormat(), job.getStatus(), job.getProgress(), job.getAttempts(), null, null, job.getCreatedDate(),
+                null, null));
+    }
+
+    // 렌더링 작업 목록
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<RenderJobResponse>> getJobs(HttpServletRequest request, Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(renderJobRepository.findPage(workspace.key(), after == null ? Long.MAX_VALUE : after,
+                Limit.of(size)));
+    }
+
+    // 렌더링 작업 조회
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<RenderJobResponse> getJob(HttpServletRequest request, Long jobKey) {
+        RowVersion workspace = findWorkspace(request);
+        return ResponseEntity.of(workspace == null ? Optional.empty()
+                : renderJobRepository.findInWorkspace(jobKey, workspace.key()));
+    }
+
+    // 렌더링 작업 취소 (렌더링 중이면 워커가 진행률 기록에서 멈춤)
+    @Override
+    public ResponseEntity<Boolean> cancelJob(HttpServletRequest request, Long jobKey) {
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (renderJobRepository.cancel(jobKey, workspace.key(), LocalDateTime.now()) == 0) {
+            return renderJobRepository.findInWorkspace(jobKey, workspace.key()).isPresent()
+                    ? ResponseEntity.status(HttpStatus.CONFLICT).build()
+                    : ResponseEntity.notFound().build();
+        }
+        renderJobRepository.findEvent(jobKey).ifPresent(renderProgressHub::publish);
+        return ResponseEntity.ok(true);
+    }
+
+    // 렌더링 진행 상황 (SSE, 연결 중에는 트랜잭션 없음)
+    @Override
+    public ResponseEntity<SseEmitter> streamProgress(HttpServletRequest request, Long jobKey) {
+        RowVersion workspace = findWorkspace(request);
+        if (workspace == null || renderJobRepository.findInWorkspace(jobKey, workspace.key()).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // 구독을 먼저 등록한 뒤 현재 상태를 읽어, 그 사이의 변경(완료 등)을 놓치지 않음
+        SseEmitter emitter = renderProgressHub.subscribe(jobKey, sseTimeout);
+        renderJobRepository.findEvent(jobKey).ifPresentOrElse(
+                event -> renderProgressHub.send(emitter, event), emitter::complete);
+        return ResponseEntity.ok(emitter);
+    }
+
+
+    private RowVersion findWorkspace(HttpServletRequest request) {
+        List<RowVersion> workspaces = workSpacesRepository.findRowVersionsByUserId(getUserId(request));
+        return workspaces.isEmpty() ? null : workspaces.get(0);
+    }
+
+    private String getUserId(HttpServletRequest request) {
+        String accessToken = JwtTokenUtil.extractTokenFromCookies(request);
+        return jwtTokenProvider.getAdminUserInfoFromToken(accessToken);
+    }
+}
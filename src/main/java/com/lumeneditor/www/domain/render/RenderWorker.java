@@ -0,0 +1,324 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+import com.lumeneditor.www.domain.media.MediaBlobStore;
+import com.lumeneditor.www.domain.media.MediaBlobStore.StoredBlob;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.domain.render.Renderer.RenderInput;
+import com.lumeneditor.www.domain.render.entity.RenderJob;
+import com.lumeneditor.www.web.dto.render.RenderJobEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * render_jobs 대기열에서 작업을 가져와 렌더링하는 워커 풀입니다.
+ * <p>
+ * lumen.render.workers 개의 전용 플랫폼 스레드에서 렌더링하며, 빈 스레드가 있을 때만 poll-interval 마다 작업을 가져갑니다.
+ * 렌더링 처리량은 워커를 켠 서버를 추가하여 늘리고, API 서버는 workers 를 0 으로 두어 렌더링하지 않게 합니다.
+ * <p>
+ * 작업공간당 동시 렌더링 수는 per-user-limit 로 제한합니다. 렌더링에 실패하면 retry-delay 부터 두 배씩 늘어나는 간격으로
+ * max-attempts 번까지 다시 시도하며, heartbeat 가 lease 동안 끊긴 작업(서버 종료 등)도 다시 대기열로 돌려보냅니다.
+ * 결과 파일은 미디어 저장소에 추가되어 기존 미디어 API 로 내려받습니다.
+ */
+@Slf4j
+@Component
+public class RenderWorker {
+
+    private static final int CLAIM_SCAN_SIZE = 20;
+    private static final int EXPIRE_BATCH_SIZE = 50;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final Duration SHUTDOWN_WAIT = Duration.ofSeconds(10);
+
+    private final RenderJobRepository renderJobRepository;
+    private final Renderer renderer;
+    private final MediaBlobStore mediaBlobStore;
+    private final RenderProgressHub renderProgressHub;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate claimTemplate;
+    private final String workerId = UUID.randomUUID().toString();
+    private final Semaphore idleWorkers;
+    private final ExecutorService executor;
+
+    @Value("${lumen.render.per-user-limit:1}")
+    private int perUserLimit;
+
+    @Value("${lumen.render.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${lumen.render.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${lumen.render.heartbeat-interval:10s}")
+    private Duration heartbeatInterval;
+
+    @Value("${lumen.render.lease:1m}")
+    private Duration lease;
+
+    @Value("${lumen.render.work-dir:./data/render}")
+    private Path workDir;
+
+    // 가져간 작업 (attempts 는 이번 시도를 포함한 횟수)
+    private record ClaimedJob(RenderInput input, int attempts, String fileName) {
+    }
+
+    public RenderWorker(RenderJobRepository renderJobRepository, Renderer renderer, MediaBlobStore mediaBlobStore,
+                        RenderProgressHub renderProgressHub, PlatformTransactionManager transactionManager,
+                        @Value("${lumen.render.workers:2}") int workers) {
+        this.renderJobRepository = renderJobRepository;
+        this.renderer = renderer;
+        this.mediaBlobStore = mediaBlobStore;
+        this.renderProgressHub = renderProgressHub;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 작업공간 잠금을 기다린 뒤의 렌더링 수 확인이 그 사이 커밋된 작업을 보도록 READ COMMITTED
+        // (REPEATABLE READ 에서는 트랜잭션의 첫 조회 시점 스냅샷을 읽어 제한을 넘길 수 있음)
+        this.claimTemplate = new TransactionTemplate(transactionManager);
+        this.claimTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.idleWorkers = new Semaphore(Math.max(0, workers));
+        if (workers > 0) {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+                Thread thread = new Thread(runnable, "render-worker-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    // 빈 워커 수만큼 대기열에서 작업을 가져가 실행
+    @Scheduled(fixedDelayString = "${lumen.render.poll-interval:1s}")
+    public void poll() {
+        while (executor != null && idleWorkers.tryAcquire()) {
+            ClaimedJob job;
+            try {
+                job = claim();
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                log.warn("Failed to claim render job: {}", e.getMessage());
+                return;
+            }
+            if (job == null) {
+                idleWorkers.release();
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(job);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중, lease 가 지나면 다른 서버가 가져감
+                idleWorkers.release();
+                return;
+            }
+        }
+    }
+
+    // heartbeat 가 끊긴 작업을 대기열로 돌려보내거나 실패 처리
+    @Scheduled(fixedDelayString = "${lumen.render.heartbeat-interval:10s}")
+    public void recoverExpired() {
+        if (executor == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(lease);
+        try {
+            for (Long jobKey : renderJobRepository.findExpired(cutoff, Limit.of(EXPIRE_BATCH_SIZE))) {
+                if (renderJobRepository.expire(jobKey, cutoff, maxAttempts, now) == 1) {
+                    log.warn("Render job {} lost its worker", jobKey);
+                    renderJobRepository.findEvent(jobKey).ifPresent(renderProgressHub::publish);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to recover expired render jobs: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor != null) {
+            // 렌더링 중인 작업은 중단되어 대기열로 돌아감
+            executor.shutdownNow();
+            executor.awaitTermination(SHUTDOWN_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    // 대기 작업 하나를 RUNNING 으로 바꾸고 반환, 가져갈 작업이 없으면 null
+    private ClaimedJob claim() {
+        LocalDateTime now = LocalDateTime.now();
+        return claimTemplate.execute(status -> {
+            List<Long> jobKeys = renderJobRepository.findClaimable(now, perUserLimit, CLAIM_SCAN_SIZE).stream()
+                    .map(Number::longValue)
+                    .toList();
+            if (jobKeys.isEmpty()) {
+                return null;
+            }
+            // 같은 작업공간의 작업을 동시에 가져가는 다른 워커와 순서를 맞춘 뒤 다시 확인 (작업공간 키 순서로 잠가 교착 방지)
+            for (ClaimCandidate candidate : renderJobRepository.findCandidates(jobKeys)) {
+                Long workspacesKey = candidate.workspacesKey();
+                renderJobRepository.lockWorkspace(workspacesKey);
+                if (renderJobRepository.countRunning(workspacesKey) >= perUserLimit) {
+                    continue;
+                }
+                RenderJob job = renderJobRepository.findById(candidate.jobKey()).orElseThrow();
+                job.setStatus(RenderStatus.RUNNING);
+                job.setWorkerId(workerId);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setProgress(0);
+                job.setStartedDate(now);
+                job.setHeartbeatDate(now);
+                return new ClaimedJob(new RenderInput(job.getJobKey(), workspacesKey, job.getTimeline(), job.getFormat()),
+                        job.getAttempts(), fileName(job.getProjects().getProjectName(), job.getFormat()));
+            }
+            return null;
+        });
+    }
+
+    private void run(ClaimedJob job) {
+        Long jobKey = job.input().jobKey();
+        RenderFormat format = job.input().format();
+        renderProgressHub.publish(new RenderJobEvent(jobKey, RenderStatus.RUNNING, 0, null, null));
+        JobProgress progress = new JobProgress(jobKey);
+        Path output = workDir.resolve("job-" + jobKey + "-" + job.attempts() + "." + format.getExtension());
+        try {
+            Files.createDirectories(workDir);
+            renderer.render(job.input(), output, progress);
+            complete(jobKey, mediaBlobStore.storeFile(output), job.fileName(), format);
+        } catch (CancellationException e) {
+            log.info("Render job {} stopped: canceled or taken over", jobKey);
+        } catch (InterruptedException e) {
+            // 인터럽트 상태에서는 연결 풀 대기가 실패하므로 되돌린 뒤 인터럽트 복원
+            if (renderJobRepository.release(jobKey, workerId) == 1) {
+                renderProgressHub.publish(new RenderJobEvent(jobKey, RenderStatus.QUEUED, 0, null, null));
+            }
+            Thread.currentThread().interrupt();
+        } catch (IllegalArgumentException e) {
+            fail(jobKey, job.attempts(), progress.reported, e, false);
+        } catch (IOException | RuntimeException e) {
+            fail(jobKey, job.attempts(), progress.reported, e, true);
+        } finally {
+            try {
+                Files.deleteIfExists(output);
+            } catch (IOException e) {
+                log.warn("Failed to delete render output {}: {}", output, e.getMessage());
+            }
+        }
+    }
+
+    // 결과를 작업공간 미디어로 추가하고 완료 처리 (그 사이 취소되었으면 추가하지 않음)
+    private void complete(Long jobKey, StoredBlob blob, String fileName, RenderFormat format) {
+        Long mediaKey = transactionTemplate.execute(status -> {
+            RenderJob job = renderJobRepository.findById(jobKey).orElse(null);
+            if (job == null || job.getStatus() != RenderStatus.RUNNING || !workerId.equals(job.getWorkerId())) {
+                return null;
+            }
+            WorkspaceMedia media = mediaBlobStore.attach(job.getWorkSpaces().getWorkspacesKey(), blob, fileName,
+                    format.getContentType());
+            if (renderJobRepository.markSucceeded(jobKey, workerId, media, LocalDateTime.now()) == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+            return media.getMediaKey();
+        });
+        if (mediaKey == null) {
+            log.info("Render job {} finished after it was canceled", jobKey);
+            return;
+        }
+        renderProgressHub.publish(new RenderJobEvent(jobKey, RenderStatus.SUCCEEDED, 100, mediaKey, null));
+    }
+
+    private void fail(Long jobKey, int attempts, int progress, Exception cause, boolean retryable) {
+        boolean retry = retryable && attempts < maxAttempts;
+        String message = errorMessage(cause);
+        LocalDateTime now = LocalDateTime.now();
+        RenderStatus status = retry ? RenderStatus.QUEUED : RenderStatus.FAILED;
+        int recorded = retry ? 0 : Math.max(progress, 0);
+        LocalDateTime runAfter = retry ? now.plus(retryDelay.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT))) : now;
+        log.warn("Render job {} failed on attempt {}{}: {}", jobKey, attempts, retry ? " (will retry)" : "", message);
+        try {
+            if (renderJobRepository.markFailed(jobKey, workerId, status, recorded, message, runAfter, retry ? null : now) == 1) {
+                renderProgressHub.publish(new RenderJobEvent(jobKey, status, recorded, null, message));
+            }
+        } catch (RuntimeException e) {
+            // 기록하지 못한 작업은 lease 가 지나면 다시 대기열로 돌아감
+            log.warn("Failed to record render job {} failure: {}", jobKey, e.getMessage());
+        }
+    }
+
+    // 결과 미디어 파일 이름 (프로젝트 이름 + 확장자, 255자 이내)
+    private static String fileName(String projectName, RenderFormat format) {
+        String extension = "." + format.getExtension();
+        String name = projectName.strip();
+        if (name.length() + extension.length() > MAX_FILE_NAME_LENGTH) {
+            name = name.substring(0, MAX_FILE_NAME_LENGTH - extension.length());
+        }
+        return name + extension;
+    }
+
+    private static String errorMessage(Exception cause) {
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 렌더러의 진행률을 기록하고 발행합니다.
+     * 진행률이 바뀌었거나 heartbeat-interval 이 지났을 때만 DB 에 기록하며, 기록이 0 건이면(취소, 다른 워커로 넘어감) 렌더링을 멈춥니다.
+     */
+    private class JobProgress implements Renderer.Progress {
+
+        private final Long jobKey;
+        private int reported = -1;
+        private long recordedAt;
+
+        JobProgress(Long jobKey) {
+            this.jobKey = jobKey;
+        }
+
+        @Override
+        public boolean report(int percent) {
+            long now = System.nanoTime();
+            if (percent == reported && now - recordedAt < heartbeatInterval.toNanos()) {
+                return true;
+            }
+            if (renderJobRepository.updateProgress(jobKey, workerId, percent, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            recordedAt = now;
+            if (percent != reported) {
+                reported = percent;
+                renderProgressHub.publish(new RenderJobEvent(jobKey, RenderStatus.RUNNING, percent, null, null));
+            }
+            return true;
+        }
+    }
+}
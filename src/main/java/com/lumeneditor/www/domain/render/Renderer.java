@@ -0,0 +1,50 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 타임라인 문서를 영상 파일로 렌더링합니다.
+ * <p>
+ * 구현은 lumen.render.renderer 로 선택합니다: ffmpeg({@link FfmpegRenderer}) 또는 stub({@link StubRenderer}, 부하 테스트/개발용).
+ * 렌더링은 워커 스레드에서 실행되며 오래 걸릴 수 있으므로, 진행률을 보고할 때마다 계속할지 확인해야 합니다.
+ */
+public interface Renderer {
+
+    /**
+     * 렌더링할 작업입니다.
+     *
+     * @param workspacesKey 작업의 작업공간 키입니다. 타임라인이 참조하는 미디어는 이 작업공간에서만 찾습니다.
+     * @param timeline      요청 시점의 타임라인 문서입니다.
+     */
+    record RenderInput(Long jobKey, Long workspacesKey, String timeline, RenderFormat format) {
+    }
+
+    /**
+     * 진행률을 받는 콜백입니다. 진행률이 그대로여도 주기적으로 호출하여 취소 여부를 확인합니다.
+     */
+    @FunctionalInterface
+    interface Progress {
+
+        /**
+         * @param percent 진행률 (0~100) 입니다.
+         * @return 계속 렌더링하면 true, 작업이 취소되었으면 false 입니다.
+         */
+        boolean report(int percent);
+    }
+
+    /**
+     * 작업을 렌더링하여 output 에 씁니다.
+     *
+     * @param input    렌더링할 작업입니다.
+     * @param output   결과를 쓸 파일입니다.
+     * @param progress 진행률 콜백입니다. false 를 반환하면 렌더링을 멈추고 {@link java.util.concurrent.CancellationException} 을 던집니다.
+     * @throws IllegalArgumentException 타임라인이 올바르지 않은 경우 (다시 시도하지 않음) 발생합니다.
+     * @throws IOException               렌더링에 실패한 경우 (다시 시도할 수 있음) 발생합니다.
+     * @throws InterruptedException      서버 종료로 워커가 중단된 경우 발생합니다.
+     */
+
+    void render(RenderInput input, Path output, Progress progress) throws IOException, InterruptedException;
+}
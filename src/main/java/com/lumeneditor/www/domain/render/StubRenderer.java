@@ -0,0 +1,38 @@
+package com.lumeneditor.www.domain.render;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+
+/**
+ * ffmpeg 없이 렌더링 흐름(대기열, 진행률, 취소, 결과 미디어)을 확인하기 위한 렌더러입니다.
+ * <p>
+ * 단계마다 step 만큼 기다리며 진행률을 보고하고, 작업 키와 타임라인을 결과 파일로 씁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "lumen.render.renderer", havingValue = "stub")
+public class StubRenderer implements Renderer {
+
+    private static final int STEPS = 10;
+
+    @Value("${lumen.render.stub-step:200ms}")
+    private Duration step;
+
+    @Override
+    public void render(RenderInput input, Path output, Progress progress) throws IOException, InterruptedException {
+        for (int i = 0; i < STEPS; i++) {
+            if (!progress.report(i * 100 / STEPS)) {
+                throw new CancellationException("Render job " + input.jobKey() + " was canceled");
+            }
+            Thread.sleep(step);
+        }
+        Files.writeString(output, input.jobKey() + "\n" + input.timeline(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package com.lumeneditor.www.domain.render.entity;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+import com.lumeneditor.www.domain.auth.entity.WorkSpaces;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 내보내기(렌더링) 작업입니다. render_jobs 테이블이 작업 대기열을 겸합니다.
+ * <p>
+ * 워커는 QUEUED 이고 runAfter 가 지난 행을 FOR UPDATE SKIP LOCKED 로 가져가 RUNNING 으로 바꾸므로,
+ * 여러 서버의 워커가 같은 작업을 두 번 가져가지 않습니다.
+ * 렌더링 중에는 진행률과 함께 heartbeatDate 를 갱신하며, 갱신이 끊긴 작업(서버 종료 등)은 다시 대기열로 돌아갑니다.
+ * 렌더링할 문서는 요청 시점의 타임라인을 복사해 두므로, 렌더링 중에 편집해도 결과가 바뀌지 않습니다.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "render_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobKey;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_key", nullable = false)
+    private Projects projects;
+
+    // 동시 렌더링 수 제한 단위 (프로젝트의 작업공간)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "workspaces_key", nullable = false)
+    private WorkSpaces workSpaces;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RenderFormat format;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String timeline;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RenderStatus status;
+
+    // 0~100
+    @Column(nullable = false)
+    private Integer progress;
+
+    // 시작한 횟수 (재시도 포함)
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도 대기)
+    @Column(nullable = false)
+    private LocalDateTime runAfter;
+
+    // 렌더링 중인 워커 (서버 실행마다 새로 만드는 UUID)
+    @Column(length = 36)
+    private String workerId;
+
+    private LocalDateTime heartbeatDate;
+
+    // 결과 미디어 (완료 시 작업공간 미디어로 추가)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "media_key")
+    private WorkspaceMedia media;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    private LocalDateTime startedDate;
+
+    private LocalDateTime finishedDate;
+
+    @PrePersist
+    protected void onCreate() {
+        if (status == null) {
+            status = RenderStatus.QUEUED;
+        }
+        if (progress == null) {
+            progress = 0;
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+        createdDate = LocalDateTime.now();
+        if (runAfter == null) {
+            runAfter = createdDate;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.lumeneditor.www.exception;
 import io.jsonwebtoken.JwtException;
 
 public class CustomExpiredJwtException extends JwtException {
+
     public CustomExpiredJwtException(String message) {
         super(message);
     }
@@ -10,4 +11,23 @@ public class CustomExpiredJwtException extends JwtException {
     public CustomExpiredJwtException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    // 만료는 정상적인 흐름이므로 스택 트레이스 없이 생성
+    // (JwtException 에는 suppressed 기록을 끄는 생성자가 없어, 공유하면 addSuppressed 로 인스턴스가 변경되므로 매번 새로 생성)
+    public static CustomExpiredJwtException expired() {
+        return new Stackless("Expired JWT Token");
+    }
+
+    // 스택 트레이스를 수집하지 않는 인스턴스
+    private static final class Stackless extends CustomExpiredJwtException {
+
+        private Stackless(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.lumeneditor.www.exception;
+
+import java.io.Serial;
+
+/**
+ * 정상적인 요청 흐름에서 자주 발생하는(예상된) 실패를 나타내는 CustomException 입니다.
+ * <p>
+ * 스택 트레이스를 만들지 않고 suppressed 예외도 기록하지 않으므로, 미리 만들어 둔 인스턴스를 여러 요청에서 공유할 수 있습니다.
+ * GlobalExceptionHandler 는 이 예외를 오류 로그 대신 빈도가 제한된 INFO 로그로 기록합니다.
+ */
+public class ExpectedCustomException extends CustomException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // 토큰 파싱/검증 실패 (위조, 형식 오류 등)
+    public static final ExpectedCustomException TOKEN_VALIDATION_FAILED = new ExpectedCustomException("Token validation failed");
+
+    public ExpectedCustomException(String message) {
+        super(message, null, false, false);
+    }
+}
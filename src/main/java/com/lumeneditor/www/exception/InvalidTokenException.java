@@ -5,7 +5,6 @@ import org.springframework.security.core.AuthenticationException;
 
 public class InvalidTokenException extends AuthenticationException {
 
-
     /**
      * InvalidTokenException을 생성하는 기본 생성자입니다.
      * 이 생성자는 유효하지 않은 토큰에 대한 예외를 표현할 때 사용됩니다.
@@ -30,4 +29,23 @@ public class InvalidTokenException extends AuthenticationException {
     public InvalidTokenException(String msg, Throwable cause) {
         super(msg, cause);
     }
+
+    // 위조, 형식 오류 등 유효하지 않은 토큰 (스택 트레이스 없이 생성)
+    // (AuthenticationException 에는 suppressed 기록을 끄는 생성자가 없어, 공유하면 addSuppressed 로 인스턴스가 변경되므로 매번 새로 생성)
+    public static InvalidTokenException invalidToken() {
+        return new Stackless("Invalid JWT Token");
+    }
+
+    // 스택 트레이스를 수집하지 않는 인스턴스
+    private static final class Stackless extends InvalidTokenException {
+
+        private Stackless(String msg) {
+            super(msg);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.lumeneditor.www.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+public class MdcTaskDecorator implements TaskDecorator {
+
+    /**
+     * {@code @Async} 작업(이메일 발송 등)에 호출한 요청의 MDC(requestId, traceId)를 전달합니다.
+     *
+     * @param runnable 실행할 작업입니다.
+     * @return MDC 를 복사하여 실행하는 작업입니다.
+     */
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.lumeneditor.www.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String TRACE_ID = "traceId";
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    // W3C Trace Context: 00-{trace-id 32}-{parent-id 16}-{flags 2}
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final Pattern TRACEPARENT = Pattern.compile("^[0-9a-f]{2}-([0-9a-f]{32})-[0-9a-f]{16}-[0-9a-f]{2}$");
+    private static final Pattern SAFE_REQUEST_ID = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
+    /**
+     * 요청마다 requestId 와 traceId 를 MDC 에 설정하여 모든 로그(JSON 의 mdc 필드)에 포함되도록 합니다.
+     * <p>
+     * requestId 는 유효한 X-Request-Id 헤더가 있으면 그대로 사용하고, 없으면 새로 생성하여 응답 헤더로 돌려줍니다.
+     * traceId 는 traceparent 헤더의 trace-id 를 사용하며, 없으면 requestId 를 사용합니다.
+     * 보안 필터보다 먼저 실행되어 인증 실패 로그에도 식별자가 남습니다.
+     */
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !SAFE_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = newRequestId();
+        }
+        String traceId = traceId(request.getHeader(TRACEPARENT_HEADER), requestId);
+
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(TRACE_ID, traceId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(TRACE_ID);
+        }
+    }
+
+    private static String traceId(String traceparent, String fallback) {
+        if (traceparent != null) {
+            var matcher = TRACEPARENT.matcher(traceparent);
+            if (matcher.matches()) {
+                return matcher.group(1);
+            }
+        }
+        return fallback;
+    }
+
+    // UUID 보다 가벼운 64비트 난수 16진수 식별자
+    private static String newRequestId() {
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,253 @@
+package com.lumeneditor.www.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드에서 로그 이벤트를 고정 크기 큐에 넣기만 하고, 별도 스레드가 모아서 기록하는 Logback 어펜더입니다.
+ * <p>
+ * 큐가 가득 차면 dropPolicy 에 따라 새 이벤트 또는 가장 오래된 이벤트를 버리거나, blockTimeoutMillis 동안만 기다립니다.
+ * 남은 공간이 discardingThreshold 보다 적으면 WARN 미만 이벤트를 먼저 버려 오류 로그가 남을 공간을 확보합니다.
+ * 연결된 OutputStreamAppender 는 immediateFlush=false 로 두고, 한 배치를 기록한 뒤 큐가 비었을 때 한 번만 flush 합니다.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    public enum DropPolicy {DROP_NEWEST, DROP_OLDEST, BLOCK}
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder droppedBelowWarn = new LongAdder();
+
+    private ArrayBlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    // logback-spring.xml 에서 설정
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    private int discardingThreshold = -1; // -1: queueSize 의 1/5
+    private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+    private long blockTimeoutMillis = 5;
+    private int maxFlushTimeMillis = 1000;
+    private boolean includeCallerData = false;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize and batchSize must be positive");
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+
+        worker = new Thread(this::drainLoop, "log-ring-buffer-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTimeMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Log worker did not finish in " + maxFlushTimeMillis + "ms, " + queue.size() + " events lost");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (queue.remainingCapacity() < discardingThreshold && event.getLevel().toInt() < Level.WARN_INT) {
+            droppedBelowWarn.increment();
+            droppedEvents.increment();
+            return;
+        }
+
+        // MDC, 메시지 포맷팅 등을 요청 스레드에서 확정
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (queue.offer(event)) {
+            return;
+        }
+        switch (dropPolicy) {
+            case DROP_NEWEST -> droppedEvents.increment();
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) {
+                    droppedEvents.increment();
+                }
+                if (!queue.offer(event)) {
+                    droppedEvents.increment();
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        droppedEvents.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedEvents.increment();
+                }
+            }
+        }
+    }
+
+    // 큐에서 배치 단위로 꺼내 연결된 어펜더에 기록
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (isStarted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            if (queue.isEmpty()) {
+                flush();
+            }
+        }
+
+        // 종료 시 남은 이벤트 기록
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+        flush();
+    }
+
+    private void write(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+    }
+
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> appender) {
+                OutputStream stream = appender.getOutputStream();
+                if (stream == null) {
+                    continue;
+                }
+                try {
+                    stream.flush();
+                } catch (IOException e) {
+                    addError("Failed to flush appender " + appender.getName(), e);
+                }
+            }
+        }
+    }
+
+    // 시작 이후 버려진 이벤트 수 (용량 부족으로 버려진 WARN 미만 이벤트 포함)
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    // 남은 공간이 discardingThreshold 미만이라 버려진 WARN 미만 이벤트 수
+    public long getDroppedBelowWarn() {
+        return droppedBelowWarn.sum();
+    }
+
+    // 현재 큐에 쌓여 있는 이벤트 수
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    public void setBlockTimeoutMillis(long blockTimeoutMillis) {
+        this.blockTimeoutMillis = blockTimeoutMillis;
+    }
+
+    public void setMaxFlushTimeMillis(int maxFlushTimeMillis) {
+        this.maxFlushTimeMillis = maxFlushTimeMillis;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,101 @@
+package com.lumeneditor.www.monitoring;
+
+import com.lumeneditor.www.web.dto.admin.EndpointLatency;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class EndpointLatencyRecorder {
+
+    // 유효 숫자 2자리 (오차 1% 이내)로 엔드포인트당 메모리를 수 KB 로 유지
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Map<String, EndpointHistogram> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${lumen.web.timing.highest-trackable:60s}")
+    private Duration highestTrackable;
+
+    /**
+     * 엔드포인트 한 번의 처리 시간을 기록합니다.
+     * HdrHistogram Recorder 에 마이크로초 단위로 기록하므로 요청 스레드 간 잠금 없이 동작합니다.
+     *
+     * @param endpoint     HTTP 메서드와 매핑 패턴으로 구성된 엔드포인트 이름입니다.
+     * @param elapsedNanos 처리 시간(나노초)입니다.
+     */
+
+    public void record(String endpoint, long elapsedNanos) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointHistogram(highestTrackableMicros()))
+                .record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    /**
+     * 애플리케이션 시작(또는 마지막 초기화) 이후 엔드포인트별 지연 시간 분포를 p99 가 큰 순서로 반환합니다.
+     *
+     * @return 엔드포인트별 지연 시간 요약 목록입니다.
+     */
+
+    public List<EndpointLatency> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toLatency(entry.getKey()))
+                .sorted(Comparator.comparingLong(EndpointLatency::getP99Micros).reversed())
+                .toList();
+    }
+
+    // 누적된 지연 시간 분포 초기화
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private long highestTrackableMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(highestTrackable.toNanos());
+    }
+
+
+    // 요청 스레드는 Recorder 에 기록하고, 조회 시에만 누적 히스토그램으로 합산
+    private static final class EndpointHistogram {
+
+        private final long highestTrackableMicros;
+        private final Recorder recorder;
+        private final Histogram accumulated;
+        private final ReentrantLock lock = new ReentrantLock(); // 가상 스레드 고정 방지를 위해 synchronized 대신 사용
+        private Histogram interval;
+
+        private EndpointHistogram(long highestTrackableMicros) {
+            this.highestTrackableMicros = highestTrackableMicros;
+            this.recorder = new Recorder(highestTrackableMicros, SIGNIFICANT_DIGITS);
+            this.accumulated = new Histogram(highestTrackableMicros, SIGNIFICANT_DIGITS);
+        }
+
+        private void record(long micros) {
+            recorder.recordValue(Math.min(micros, highestTrackableMicros));
+        }
+
+        private EndpointLatency toLatency(String endpoint) {
+            lock.lock();
+            try {
+                interval = recorder.getIntervalHistogram(interval);
+                accumulated.add(interval);
+                return EndpointLatency.builder()
+                        .endpoint(endpoint)
+                        .count(accumulated.getTotalCount())
+                        .p50Micros(accumulated.getValueAtPercentile(50))
+                        .p99Micros(accumulated.getValueAtPercentile(99))
+                        .maxMicros(accumulated.getMaxValue())
+                        .meanMicros(accumulated.getMean())
+                        .build();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.lumeneditor.www.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 컨트롤러 처리 시간을 {@link EndpointLatencyRecorder} 에 기록하는 인터셉터입니다.
+ * <p>
+ * 빈으로 등록하지 않고 WebMvcConfig 에서 생성합니다. 인터셉터 빈은 @WebMvcTest 슬라이스에도 포함되므로,
+ * 기록기가 없는 슬라이스 컨텍스트에서는 인터셉터를 등록하지 않기 위해서입니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EndpointTimingInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = EndpointTimingInterceptor.class.getName() + ".START";
+
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+    private final double debugSampleRate;
+
+    /**
+     * 컨트롤러 실행 전 시작 시각을 요청 속성에 기록합니다.
+     */
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    /**
+     * 요청 처리가 끝나면(예외 포함) 처리 시간을 엔드포인트별 히스토그램에 기록합니다.
+     * <p>
+     * 엔드포인트는 경로 변수가 치환되기 전의 매핑 패턴(예: GET /main/user)으로 구분합니다.
+     * 요청 본문과 응답 값은 기록하지 않으며, DEBUG 레벨에서도 debugSampleRate 비율의 요청만
+     * 핸들러 이름과 쿼리 파라미터 이름을 지연 포맷팅하여 기록합니다.
+     */
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+        endpointLatencyRecorder.record(endpoint, elapsedNanos);
+
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < debugSampleRate) {
+            log.atDebug()
+                    .setMessage("{} -> {} {} in {} us (params {})")
+                    .addArgument(endpoint)
+                    .addArgument(() -> handler instanceof HandlerMethod method ? method.getShortLogMessage() : handler)
+                    .addArgument(response.getStatus())
+                    .addArgument(() -> elapsedNanos / 1_000)
+                    .addArgument(() -> request.getParameterMap().keySet())
+                    .log();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.lumeneditor.www.monitoring;
+
+import com.lumeneditor.www.web.dto.admin.SqlStatementStat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SqlStatementStats {
+
+    // logback-spring.xml 에서 비동기 JSON 파일(logs/slow-sql.json)로 출력
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("lumen.sql.slow");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Aggregate> statements = new ConcurrentHashMap<>();
+    private final LongAdder untrackedExecutions = new LongAdder();
+
+    @Value("${lumen.sql.slow-threshold:200ms}")
+    private Duration slowThreshold;
+
+    @Value("${lumen.sql.max-tracked-statements:500}")
+    private int maxTrackedStatements;
+
+    /**
+     * SQL 실행 한 건을 집계하고, 실행 시간이 임계값 이상이면 느린 쿼리 로그를 남깁니다.
+     * <p>
+     * 통계는 SQL 문장별로 메모리에 누적되며, 서로 다른 문장이 maxTrackedStatements 개를 넘으면
+     * 새 문장은 집계하지 않고 건수만 셉니다. (리터럴이 포함된 동적 SQL 로 메모리가 늘어나는 것을 방지)
+     *
+     * @param sql          실행한 SQL 입니다.
+     * @param bindCount    바인딩 파라미터 개수입니다.
+     * @param batchSize    배치 실행 건수입니다. 배치가 아니면 1 입니다.
+     * @param elapsedNanos 실행 시간(나노초)입니다.
+     */
+
+    public void record(String sql, int bindCount, int batchSize, long elapsedNanos) {
+        if (sql == null) {
+            return;
+        }
+
+        Aggregate aggregate = statements.get(sql);
+        if (aggregate == null) {
+            if (statements.size() >= maxTrackedStatements) {
+                untrackedExecutions.increment();
+            } else {
+                aggregate = statements.computeIfAbsent(sql, key -> new Aggregate(bindCount));
+            }
+        }
+
+        boolean slow = elapsedNanos >= slowThreshold.toNanos();
+        if (aggregate != null) {
+            aggregate.add(batchSize, elapsedNanos, slow);
+        }
+
+        if (slow) {
+            SLOW_QUERY_LOG.atWarn()
+                    .addKeyValue("sql", sql)
+                    .addKeyValue("binds", bindCount)
+                    .addKeyValue("batch", batchSize)
+                    .addKeyValue("durationMs", elapsedNanos / NANOS_PER_MILLI)
+                    .log("slow query");
+        }
+    }
+
+    /**
+     * 누적 실행 시간이 큰 순서로 SQL 문장별 통계를 반환합니다.
+     *
+     * @param limit 반환할 최대 문장 수입니다.
+     * @return SQL 문장별 통계 목록입니다.
+     */
+
+    public List<SqlStatementStat> snapshot(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().toStat(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlStatementStat::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // 집계 한도를 넘어 통계에 포함되지 않은 실행 건수
+    public long getUntrackedExecutions() {
+        return untrackedExecutions.sum();
+    }
+
+    // 누적된 통계 초기화
+    public void reset() {
+        statements.clear();
+        untrackedExecutions.reset();
+    }
+
+
+    // SQL 문장 하나의 누적 통계 (요청 스레드에서 경합 없이 갱신)
+    private static final class Aggregate {
+
+        private final int bindCount;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slowExecutions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private Aggregate(int bindCount) {
+            this.bindCount = bindCount;
+        }
+
+        private void add(int batchSize, long elapsedNanos, boolean slow) {
+            executions.increment();
+            rows.add(batchSize);
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (slow) {
+                slowExecutions.increment();
+            }
+        }
+
+        private SqlStatementStat toStat(String sql) {
+            long count = executions.sum();
+            double total = totalNanos.sum() / NANOS_PER_MILLI;
+            return SqlStatementStat.builder()
+                    .sql(sql)
+                    .bindCount(bindCount)
+                    .executions(count)
+                    .rows(rows.sum())
+                    .slowExecutions(slowExecutions.sum())
+                    .totalMillis(total)
+                    .avgMillis(count == 0 ? 0 : total / count)
+                    .maxMillis(maxNanos.get() / NANOS_PER_MILLI)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.lumeneditor.www.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class SqlTimingDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader PROXY_CLASS_LOADER = SqlTimingDataSource.class.getClassLoader();
+
+    private final SqlStatementStats stats;
+
+    /**
+     * 실행되는 모든 SQL 의 실행 시간과 바인딩 파라미터 개수를 기록하는 DataSource 를 생성합니다.
+     * <p>
+     * jpa.show-sql 처럼 요청 스레드에서 모든 문장을 출력하지 않고, 실행 시간만 측정하여
+     * SqlStatementStats 에 집계합니다. 느린 쿼리만 비동기 로그로 남습니다.
+     *
+     * @param targetDataSource 실제 연결을 제공하는 DataSource 입니다.
+     * @param stats            실행 통계를 집계할 SqlStatementStats 입니다.
+     */
+
+    public SqlTimingDataSource(DataSource targetDataSource, SqlStatementStats stats) {
+        super(targetDataSource);
+        this.stats = stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(PROXY_CLASS_LOADER,
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    // 쿼리 문자열 밖의 '?' 개수 (작은따옴표 리터럴 내부는 제외)
+    static int countBindMarkers(String sql) {
+        if (sql == null) {
+            return 0;
+        }
+        int count = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+
+    // 생성되는 Statement 를 측정용 프록시로 감싸는 연결 프록시
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+
+            String name = method.getName();
+            String sql = name.equals("prepareStatement") || name.equals("prepareCall") ? (String) args[0] : null;
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+
+            return Proxy.newProxyInstance(PROXY_CLASS_LOADER, new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    // execute* 호출의 실행 시간을 측정하는 Statement 프록시
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final int preparedBindCount;
+
+        private String batchSql;
+        private int batchSize;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.preparedBindCount = countBindMarkers(preparedSql);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.equals("addBatch")) {
+                batchSize++;
+                if (args != null && args.length == 1) {
+                    batchSql = (String) args[0]; // Statement.addBatch(String)
+                }
+                return invokeTarget(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            boolean batch = name.startsWith("executeBatch") || name.startsWith("executeLargeBatch");
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                    : preparedSql != null ? preparedSql : batchSql;
+            int bindCount = sql == preparedSql ? preparedBindCount : countBindMarkers(sql);
+            int executions = batch ? Math.max(batchSize, 1) : 1;
+
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                stats.record(sql, bindCount, executions, System.nanoTime() - start);
+                if (batch) {
+                    batchSize = 0;
+                    batchSql = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.lumeneditor.www.monitoring;
+
+import com.lumeneditor.www.web.dto.admin.StartupStepTiming;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Slf4j
+@Component
+public class StartupTimingReporter {
+
+    @Value("${lumen.startup.report-size:15}")
+    private int reportSize;
+
+    private volatile List<StartupStepTiming> slowestSteps = List.of();
+
+    /**
+     * 기동이 끝나면 기록된 기동 단계 중 가장 오래 걸린 단계들을 로그로 남기고 보관합니다.
+     * <p>
+     * 애플리케이션이 BufferingApplicationStartup 으로 실행된 경우에만 기록이 있습니다.
+     * 빈 생성 단계(spring.beans.instantiate)의 시간은 그 빈이 의존하는 빈의 생성 시간을 포함합니다.
+     *
+     * @param event 기동 완료 이벤트입니다.
+     */
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupTimeline timeline = startup.getBufferedTimeline();
+
+        slowestSteps = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(reportSize)
+                .map(StartupTimingReporter::toTiming)
+                .toList();
+
+        log.info("Application ready in {} ms ({} startup steps recorded)",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1, timeline.getEvents().size());
+        for (StartupStepTiming step : slowestSteps) {
+            log.info("  {} ms  {} {}", String.format("%8.1f", step.getDurationMillis()), step.getName(), step.getTags());
+        }
+    }
+
+    /**
+     * 기동 시 가장 오래 걸린 단계 목록을 반환합니다.
+     *
+     * @return 소요 시간이 긴 순서의 기동 단계 목록입니다.
+     */
+
+    public List<StartupStepTiming> getSlowestSteps() {
+        return slowestSteps;
+    }
+
+    private static StartupStepTiming toTiming(StartupTimeline.TimelineEvent event) {
+        StartupStep step = event.getStartupStep();
+        String tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        Duration duration = event.getDuration();
+        return StartupStepTiming.builder()
+                .name(step.getName())
+                .tags(tags)
+                .durationMillis(duration.toNanos() / 1_000_000.0)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.lumeneditor.www.security;
 
+import com.lumeneditor.www.domain.media.MediaUrlSigner;
 import com.lumeneditor.www.exception.CustomExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletRequest;
@@ -42,7 +43,9 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
             if ("/auth/access-token".equals(requestURI) ||
                     "/auth/signup".equals(requestURI) ||
                     "/auth/send-auth-code".equals(requestURI) ||
-                    "/auth/verify".equals(requestURI)) {
+                    "/auth/verify".equals(requestURI) ||
+                    // 서명된 미디어 URL 은 쿠키의 토큰을 파싱하지 않음
+                    requestURI.startsWith(MediaUrlSigner.PATH_PREFIX)) {
                 // 지정된 경로에 대한 요청 처리를 계속 진행
                 chain.doFilter(request, response);
                 return;
@@ -50,10 +53,13 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
             // Request Header 또는 Cookie에서 JWT 토큰 추출
             String token = extractJwtFromRequest(httpRequest);
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // 토큰이 유효할 경우, 토큰에서 Authentication 객체를 가져와서 SecurityContext에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (token != null) {
+                // 토큰을 한 번만 파싱하고, 유효할 경우 그 클레임으로 Authentication 객체를 만들어 SecurityContext에 저장
+                TokenParseResult result = jwtTokenProvider.parse(token);
+                if (result.isValid()) {
+                    Authentication authentication = jwtTokenProvider.getAuthentication(result.claims());
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
 
             // 요청을 다음 필터 또는 대상 서블릿으로 전달
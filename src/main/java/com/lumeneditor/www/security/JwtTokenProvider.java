@@ -1,12 +1,16 @@
 package com.lumeneditor.www.security;
 
+import com.lumeneditor.www.comm.RateLimitedLogger;
+import com.lumeneditor.www.comm.RedisKeys;
 import com.lumeneditor.www.exception.CustomException;
 import com.lumeneditor.www.exception.CustomExpiredJwtException;
+import com.lumeneditor.www.exception.ExpectedCustomException;
 import com.lumeneditor.www.exception.InvalidTokenException;
 import com.lumeneditor.www.web.dto.auth.JwtToken;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,22 +21,32 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class JwtTokenProvider {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final Key key;
+    private final JwtParser parser;
+    private final RateLimitedLogger rateLimitedLog = new RateLimitedLogger(log, Duration.ofMinutes(1));
     private static final long ACCESS_TOKEN_EXPIRE_COUNT = 30 * 60 * 1000L; // 30분
     private static final long REFRESH_TOKEN_EXPIRE_COUNT = 8 * 60 * 60 * 1000L; // 8시간
     private static final String TOKEN_TYPE = "JWT";
     private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
     private static final String CLAIM_ADMIN_USER_ID = "sub";
     private static final String CLAIM_IS_ADMIN = "roles";
+    // 만료는 parse() 에서 직접 확인하므로, 파서가 ExpiredJwtException 을 만들지 않도록 허용 오차를 충분히 크게 설정 (100년)
+    // 이 허용 오차는 nbf(사용 시작 시각) 검사에도 적용되므로 nbf 도 parse() 에서 직접 확인합니다.
+    private static final long EXPIRATION_CHECKED_MANUALLY_SKEW_SECONDS = 100L * 365 * 24 * 60 * 60;
 
     // application.yml에서 secret 값 가져와서 key에 저장
     public JwtTokenProvider(RedisTemplate<String, String> redisTemplate, @Value("${jwt.secret}") String secretKey) {
@@ -49,6 +63,11 @@ public class JwtTokenProvider {
         // 변환된 바이트 배열을 사용하여 HmacSHA 키를 생성합니다.
         this.key = Keys.hmacShaKeyFor(keyBytes);
 
+        // 파서는 스레드 안전하므로 한 번만 생성하여 재사용합니다.
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(EXPIRATION_CHECKED_MANUALLY_SKEW_SECONDS)
+                .build();
     }
 
 
@@ -88,7 +107,7 @@ public class JwtTokenProvider {
 
         // Redis에 리프레시 토큰 저장
         redisTemplate.opsForValue().set(
-                authentication.getName(),
+                RedisKeys.refreshToken(authentication.getName()),
                 refreshToken,
                 REFRESH_TOKEN_EXPIRE_COUNT,
                 TimeUnit.MILLISECONDS
@@ -128,6 +147,27 @@ public class JwtTokenProvider {
     }
 
 
+    /**
+     * JWT 서명 키에서 용도별 HMAC 키를 파생합니다.
+     * <p>
+     * 서명 키를 다른 용도에 그대로 사용하지 않도록 HMAC-SHA256(서명 키, purpose) 결과를 새 키로 사용합니다.
+     * 같은 시크릿과 용도에서는 항상 같은 키가 나오므로 여러 서버가 별도 설정 없이 같은 키를 공유합니다.
+     *
+     * @param purpose 키의 용도를 나타내는 문자열입니다 (예: "lumen-media-url-v1").
+     * @return 파생된 32바이트 키입니다.
+     */
+
+    public byte[] deriveKey(String purpose) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM.getJcaName());
+            mac.init(key);
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot derive key for " + purpose, e);
+        }
+    }
+
+
     /**
      * JWT 토큰에서 관리자 사용자 정보를 추출합니다.
      * <p>
@@ -161,8 +201,19 @@ public class JwtTokenProvider {
 
     public Authentication getAuthentication(String accessToken) {
         // JWT 토큰을 해석하여 클레임(Claims) 객체를 추출합니다.
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
+
+    /**
+     * 이미 검증된 클레임으로 인증 정보를 생성합니다.
+     * 필터에서 parse() 결과를 그대로 사용하여 토큰을 한 번만 파싱하기 위해 사용합니다.
+     *
+     * @param claims parse() 로 검증된 토큰의 클레임입니다.
+     * @return 생성된 사용자 인증 정보를 나타내는 Authentication 객체입니다.
+     * @throws InvalidTokenException 권한 정보가 없는 경우 예외를 발생시킵니다.
+     */
 
+    public Authentication getAuthentication(Claims claims) {
         // 권한 정보가 없는 경우 예외를 발생시킵니다.
         if (Objects.requireNonNull(claims).get(CLAIM_IS_ADMIN) == null) {
             throw new InvalidTokenException("권한 정보가 없는 토큰입니다.");
@@ -205,12 +256,48 @@ public class JwtTokenProvider {
         return authorities;
     }
 
+    /**
+     * JWT 토큰을 파싱하여 상태와 클레임을 반환합니다.
+     * <p>
+     * 만료되거나 유효하지 않은 토큰은 정상적인 요청 흐름에서도 자주 발생하므로 예외를 던지지 않고 결과 객체로 구분합니다.
+     * 만료 여부는 파서가 아닌 이 메서드에서 직접 확인하므로 만료 토큰에 대해 예외와 스택 트레이스가 생성되지 않습니다.
+     * 파서의 허용 오차가 nbf 검사도 무력화하므로, nbf 이전에 사용된 토큰도 이 메서드에서 유효하지 않은 토큰으로 처리합니다.
+     * 유효하지 않은 토큰은 미리 만들어 둔 TokenParseResult.INVALID 를 반환하며, 빈도가 제한된 로그만 남깁니다.
+     *
+     * @param token 파싱할 JWT 토큰 문자열입니다.
+     * @return 토큰 상태와 클레임을 담은 TokenParseResult 입니다.
+     */
+
+    public TokenParseResult parse(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenParseResult.INVALID;
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            long now = System.currentTimeMillis();
+            Date notBefore = claims.getNotBefore();
+            if (notBefore != null && notBefore.getTime() > now) {
+                rateLimitedLog.info("PrematureJwtException", "Invalid JWT Token: used before its nbf {}", notBefore.toInstant());
+                return TokenParseResult.INVALID;
+            }
+            Date expiration = claims.getExpiration();
+            if (expiration != null && expiration.getTime() <= now) {
+                return TokenParseResult.expired(claims);
+            }
+            return TokenParseResult.valid(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            rateLimitedLog.info(e.getClass().getSimpleName(), "Invalid JWT Token: {}", e.getMessage());
+            return TokenParseResult.INVALID;
+        }
+    }
+
     /**
      * 주어진 JWT 토큰을 파싱하고 유효성을 검사합니다.
      * <p>
      * 이 메서드는 JWT 토큰을 파싱하여 클레임을 추출합니다. allowExpired 매개변수에 따라 만료된 토큰의 처리 방식을 결정합니다.
      * 만료된 토큰을 허용하는 경우, 해당 토큰의 클레임을 반환합니다. 그렇지 않으면 CustomExpiredJwtException 예외를 발생시킵니다.
      * 유효하지 않은 토큰 형식이나 지원되지 않는 토큰인 경우, InvalidTokenException 예외를 발생시킵니다.
+     * 두 예외 모두 스택 트레이스를 수집하지 않습니다.
      *
      * @param token 파싱하고 유효성을 검사할 JWT 토큰 문자열입니다.
      * @param allowExpired 만료된 토큰을 허용할지 여부입니다.
@@ -220,25 +307,18 @@ public class JwtTokenProvider {
      */
 
     public Claims parseAndValidateToken(String token, boolean allowExpired) throws InvalidTokenException, CustomExpiredJwtException {
-        try {
-            JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
-            Jws<Claims> jws = parser.parseClaimsJws(token);
-            return jws.getBody();
-        } catch (ExpiredJwtException e) {
-            if (allowExpired) {
-                // 만료된 토큰의 클레임을 반환할 수 있도록 허용
-                return e.getClaims();
-            } else {
-                // 만료된 토큰에 대해 예외 처리
-                throw new CustomExpiredJwtException("Expired JWT Token", e);
+        TokenParseResult result = parse(token);
+        return switch (result.status()) {
+            case VALID -> result.claims();
+            case EXPIRED -> {
+                if (allowExpired) {
+                    // 만료된 토큰의 클레임을 반환할 수 있도록 허용
+                    yield result.claims();
+                }
+                throw CustomExpiredJwtException.expired();
             }
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new InvalidTokenException("Invalid JWT Token", e);
-        } catch (UnsupportedJwtException e) {
-            throw new InvalidTokenException("Unsupported JWT Token", e);
-        } catch (IllegalArgumentException e) {
-            throw new InvalidTokenException("JWT claims string is empty.", e);
-        }
+            case INVALID -> throw InvalidTokenException.invalidToken();
+        };
     }
 
     /**
@@ -252,12 +332,7 @@ public class JwtTokenProvider {
      */
 
     public boolean validateToken(String token) {
-        try {
-            parseAndValidateToken(token, false);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parse(token).isValid();
     }
 
     /**
@@ -265,7 +340,7 @@ public class JwtTokenProvider {
      * <p>
      * 이 메서드는 주어진 액세스 토큰을 파싱하여 클레임을 추출합니다. 만료된 토큰도 허용되며,
      * 만료된 토큰의 경우, 해당 토큰의 클레임을 반환합니다. 파싱 중 문제가 발생한 경우,
-     * CustomException 예외를 발생시킵니다.
+     * 스택 트레이스가 없는 ExpectedCustomException 공유 인스턴스를 발생시킵니다.
      *
      * @param accessToken 클레임을 추출하고자 하는 JWT 액세스 토큰입니다.
      * @return 추출된 클레임 객체입니다. 토큰 파싱 중 문제가 발생한 경우, CustomException 예외가 발생합니다.
@@ -273,11 +348,11 @@ public class JwtTokenProvider {
      */
 
     private Claims parseClaims(String accessToken) {
-        try {
-            return parseAndValidateToken(accessToken, true);
-        } catch (InvalidTokenException | CustomExpiredJwtException e) {
-            throw new CustomException("Token validation failed", e);
+        TokenParseResult result = parse(accessToken);
+        if (!result.hasClaims()) {
+            throw ExpectedCustomException.TOKEN_VALIDATION_FAILED;
         }
+        return result.claims();
     }
 
 
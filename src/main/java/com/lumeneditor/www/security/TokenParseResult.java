@@ -0,0 +1,32 @@
+package com.lumeneditor.www.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 토큰 파싱 결과입니다.
+ * 유효하지 않은 토큰은 클레임이 없으므로 미리 만들어 둔 INVALID 인스턴스를 공유합니다.
+ *
+ * @param status 토큰 상태입니다.
+ * @param claims 토큰의 클레임입니다. INVALID 인 경우 null 입니다.
+ */
+public record TokenParseResult(TokenStatus status, Claims claims) {
+
+    public static final TokenParseResult INVALID = new TokenParseResult(TokenStatus.INVALID, null);
+
+    public static TokenParseResult valid(Claims claims) {
+        return new TokenParseResult(TokenStatus.VALID, claims);
+    }
+
+    public static TokenParseResult expired(Claims claims) {
+        return new TokenParseResult(TokenStatus.EXPIRED, claims);
+    }
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+
+    // 만료 여부와 관계없이 서명이 확인되어 클레임을 사용할 수 있는지 여부
+    public boolean hasClaims() {
+        return claims != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.lumeneditor.www.security;
+
+/**
+ * JWT 토큰 검사 결과 상태입니다.
+ * 만료와 위조/형식 오류는 정상적인 요청 흐름에서도 자주 발생하므로 예외 대신 상태 값으로 구분합니다.
+ */
+public enum TokenStatus {
+
+    VALID,
+    EXPIRED, // 서명은 유효하지만 만료된 토큰 (클레임 사용 가능)
+    INVALID  // 서명 불일치, 형식 오류, 빈 토큰 등
+}
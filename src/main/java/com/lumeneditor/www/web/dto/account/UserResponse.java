@@ -0,0 +1,65 @@
+package com.lumeneditor.www.web.dto.account;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lumeneditor.www.comm.eunm.Gender;
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.auth.entity.User;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 내 정보 조회 응답입니다.
+ * <p>
+ * 엔티티를 그대로 직렬화하면 비밀번호, 내부 키, 탈퇴/상태 컬럼과 UserDetails 속성(authorities, accountNonExpired 등)까지
+ * 응답에 포함되므로 화면에 필요한 필드만 담습니다. 값이 없는 필드는 응답에서 생략합니다.
+ * 프로필 캐시({@link com.lumeneditor.www.domain.main.account.ProfileCache})에도 그대로 저장됩니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserResponse(
+        String userId,
+        String userName,
+        String phoneNumber,
+        LocalDate accessionDate,
+        Integer birthYear,
+        String occupation,
+        String country,
+        Gender gender,
+        YesNo emailAccept,
+        YesNo promoAccept,
+        String company,
+        String logoImage,
+        Long planKey,
+        String role) implements Serializable {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+                user.getUserId(),
+                user.getUserName(),
+                user.getPhoneNumber(),
+                toLocalDate(user.getAccessionDate()),
+                user.getBirthYear(),
+                user.getOccupation(),
+                user.getCountry(),
+                user.getGender(),
+                user.getEmailAccept(),
+                user.getPromoAccept(),
+                user.getCompany(),
+                user.getLogoImage(),
+                user.getPlanKey(),
+                user.getRole());
+    }
+
+    // DATE 컬럼은 java.sql.Date 로 조회되어 toInstant 를 지원하지 않으므로 날짜만 변환
+    private static LocalDate toLocalDate(Date date) {
+        if (date == null) {
+            return null;
+        }
+        if (date instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -0,0 +1,22 @@
+package com.lumeneditor.www.web.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EndpointLatency {
+
+    private String endpoint; // 예: GET /main/user
+    private long count;
+    private long p50Micros;
+    private long p99Micros;
+    private long maxMicros;
+    private double meanMicros;
+
+
+}
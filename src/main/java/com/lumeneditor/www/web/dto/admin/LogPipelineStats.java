@@ -0,0 +1,21 @@
+package com.lumeneditor.www.web.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LogPipelineStats {
+
+    private String appender;
+    private int queueSize;
+    private int queueDepth;
+    private long droppedEvents;
+    private long droppedBelowWarn;
+
+
+}
@@ -0,0 +1,24 @@
+package com.lumeneditor.www.web.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SqlStatementStat {
+
+    private String sql;
+    private int bindCount;
+    private long executions;
+    private long rows; // 배치 실행 시 배치 건수 합계
+    private long slowExecutions;
+    private double totalMillis;
+    private double avgMillis;
+    private double maxMillis;
+
+
+}
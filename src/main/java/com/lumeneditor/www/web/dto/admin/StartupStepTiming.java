@@ -0,0 +1,19 @@
+package com.lumeneditor.www.web.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StartupStepTiming {
+
+    private String name; // 예: spring.beans.instantiate
+    private String tags; // 예: beanName=entityManagerFactory
+    private double durationMillis; // 하위 단계 포함
+
+
+}
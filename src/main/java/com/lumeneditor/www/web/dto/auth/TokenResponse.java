@@ -0,0 +1,18 @@
+package com.lumeneditor.www.web.dto.auth;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 로그인, 액세스 토큰 재발급 응답입니다.
+ * 값이 없는 필드는 응답에서 생략합니다 (성공 시 errorMessage, 실패 시 토큰 필드).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenResponse(String grantType, String accessToken, String errorMessage) {
+
+    public static TokenResponse from(JwtToken jwtToken) {
+        if (jwtToken == null) {
+            return null;
+        }
+        return new TokenResponse(jwtToken.getGrantType(), jwtToken.getAccessToken(), jwtToken.getErrorMessage());
+    }
+}
@@ -0,0 +1,20 @@
+package com.lumeneditor.www.web.dto.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaClaimRequest {
+
+    private String sha256; // 클라이언트에서 계산한 파일 내용의 SHA-256 (소문자 16진수)
+    private Long size;
+    private String fileName;
+    private String contentType;
+
+
+}
@@ -0,0 +1,19 @@
+package com.lumeneditor.www.web.dto.media;
+
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업공간 미디어 업로드, 목록 조회 응답의 미디어 항목입니다.
+ *
+ * @param sha256 내용의 SHA-256 해시입니다. 같은 파일을 다시 올리기 전에 {@code POST /media/claim} 으로 업로드를 생략할 수 있습니다.
+ */
+public record MediaResponse(Long mediaKey, String fileName, String contentType, Long size, String sha256,
+                            LocalDateTime createdDate) {
+
+    public static MediaResponse from(WorkspaceMedia media) {
+        return new MediaResponse(media.getMediaKey(), media.getFileName(), media.getContentType(),
+                media.getBlob().getBlobSize(), media.getBlob().getBlobHash(), media.getCreatedDate());
+    }
+}
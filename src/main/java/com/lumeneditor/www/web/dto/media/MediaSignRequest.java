@@ -0,0 +1,21 @@
+package com.lumeneditor.www.web.dto.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaSignRequest {
+
+    private List<Long> mediaKeys;
+    private Long rangeStart; // 허용할 구간의 시작 바이트 (생략 시 전체 허용)
+    private Long rangeEnd; // 허용할 구간의 끝 바이트 (포함, 생략 시 끝까지)
+
+
+}
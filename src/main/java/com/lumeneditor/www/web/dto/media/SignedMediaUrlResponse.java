@@ -0,0 +1,7 @@
+package com.lumeneditor.www.web.dto.media;
+
+/**
+ * 서명된 미디어 URL 과 만료 시각(epoch 초)입니다. URL 은 API 기준 경로이며 쿠키 없이 요청할 수 있습니다.
+ */
+public record SignedMediaUrlResponse(Long mediaKey, String url, long expiresAt) {
+}
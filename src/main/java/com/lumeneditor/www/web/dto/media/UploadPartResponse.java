@@ -0,0 +1,7 @@
+package com.lumeneditor.www.web.dto.media;
+
+/**
+ * 받은 조각의 번호와 서버에서 계산한 SHA-256 입니다.
+ */
+public record UploadPartResponse(int partNumber, String sha256) {
+}
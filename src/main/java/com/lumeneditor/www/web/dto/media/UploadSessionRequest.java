@@ -0,0 +1,20 @@
+package com.lumeneditor.www.web.dto.media;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionRequest {
+
+    private String fileName;
+    private String contentType;
+    private Long size; // 전체 파일 크기 (바이트)
+    private Integer chunkSize; // 생략 시 8MB (1MB ~ 64MB)
+
+
+}
@@ -0,0 +1,14 @@
+package com.lumeneditor.www.web.dto.media;
+
+import java.util.List;
+
+/**
+ * 조각 업로드 세션의 상태입니다.
+ *
+ * @param uploadId     조각 업로드와 완료 요청에 사용할 세션 ID 입니다.
+ * @param chunkSize    마지막 조각을 제외한 조각의 크기입니다.
+ * @param partCount    전체 조각 수입니다. 조각 번호는 1부터 partCount 까지입니다.
+ * @param missingParts 아직 받지 못한 조각 번호입니다. 비어 있으면 완료 요청을 보낼 수 있습니다.
+ */
+public record UploadSessionResponse(String uploadId, int chunkSize, int partCount, List<Integer> missingParts) {
+}
@@ -0,0 +1,23 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.lumeneditor.www.comm.eunm.ProjectBatchAction;
+import com.lumeneditor.www.comm.eunm.YesNo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectBatchOperation {
+
+    private ProjectBatchAction action;
+    private List<Long> projectKeys;
+    private YesNo disclosureStatus; // SET_DISCLOSURE 에서만 사용
+
+
+}
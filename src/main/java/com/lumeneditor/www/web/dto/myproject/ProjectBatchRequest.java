@@ -0,0 +1,19 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectBatchRequest {
+
+    private List<ProjectBatchOperation> operations; // 순서대로 적용
+
+
+}
@@ -0,0 +1,14 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.lumeneditor.www.comm.eunm.ProjectBatchAction;
+
+/**
+ * 일괄 작업의 프로젝트별 결과입니다.
+ *
+ * @param operation  요청의 operations 에서 몇 번째(0부터) 작업인지 나타냅니다.
+ * @param action     적용한 작업입니다.
+ * @param projectKey 대상 프로젝트의 키입니다.
+ * @param applied    적용되었으면 true, 내 작업공간에 없는 프로젝트(이전 작업에서 삭제된 경우 포함)이면 false 입니다.
+ */
+public record ProjectBatchResult(int operation, ProjectBatchAction action, Long projectKey, boolean applied) {
+}
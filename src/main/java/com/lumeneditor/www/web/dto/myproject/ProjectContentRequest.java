@@ -0,0 +1,18 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectContentRequest {
+
+    private String timeline; // 타임라인 문서 (JSON)
+    private Long baseVersion; // 마지막으로 확인한 문서 버전 (생략 시 확인하지 않고 덮어씀)
+
+
+}
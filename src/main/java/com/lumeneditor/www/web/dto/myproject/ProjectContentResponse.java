@@ -0,0 +1,12 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+/**
+ * 프로젝트 타임라인 조회 응답입니다.
+ *
+ * @param projectKey 프로젝트의 키입니다.
+ * @param timeline   타임라인 문서입니다. 아직 저장하지 않았으면 null 입니다.
+ * @param version    문서의 버전입니다. 자동 저장 시 baseVersion 으로 보냅니다.
+ * @param shared     복제로 인해 다른 프로젝트와 같은 내용을 공유하고 있으면 true 입니다.
+ */
+public record ProjectContentResponse(Long projectKey, String timeline, long version, boolean shared) {
+}
@@ -0,0 +1,15 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 프로젝트 목록의 한 페이지입니다.
+ *
+ * @param items      최근 생성 순서의 프로젝트 목록입니다.
+ * @param nextCursor 다음 페이지 요청에 전달할 커서, 마지막 페이지이면 생략합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProjectPage(List<ProjectResponse> items, String nextCursor) {
+}
@@ -0,0 +1,19 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.lumeneditor.www.comm.eunm.YesNo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectRequest {
+
+    private String projectName;
+    private YesNo disclosureStatus; // 생략 시 N (비공개)
+
+
+}
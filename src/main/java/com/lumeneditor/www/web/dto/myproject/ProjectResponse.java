@@ -0,0 +1,18 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.lumeneditor.www.comm.eunm.YesNo;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 생성, 목록 조회 응답의 프로젝트 항목입니다.
+ * 목록 조회에서는 엔티티를 거치지 않고 JPQL 생성자 표현식으로 바로 만듭니다.
+ */
+public record ProjectResponse(Long projectKey, String projectName, YesNo disclosureStatus, LocalDateTime projectDate) {
+
+    public static ProjectResponse from(Projects projects) {
+        return new ProjectResponse(projects.getProjectKey(), projects.getProjectName(),
+                projects.getDisclosureStatus(), projects.getProjectDate());
+    }
+}
@@ -0,0 +1,12 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * 자동 저장 한 번에 추가된 작업 로그입니다.
+ *
+ * @param version    이 작업을 적용한 뒤의 문서 버전입니다.
+ * @param operations 저장된 작업 JSON 배열입니다. 다시 파싱하지 않고 그대로 응답에 씁니다.
+ */
+public record TimelineChange(long version, @JsonRawValue String operations) {
+}
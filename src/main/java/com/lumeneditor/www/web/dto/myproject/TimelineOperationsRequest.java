@@ -0,0 +1,21 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimelineOperationsRequest {
+
+    private Long baseVersion; // 서버에서 마지막으로 확인받은 문서 버전
+    private List<JsonNode> operations; // 그 이후의 작업 (JSON Patch: add / remove / replace / move)
+
+
+}
@@ -0,0 +1,13 @@
+package com.lumeneditor.www.web.dto.myproject;
+
+import java.util.List;
+
+/**
+ * 자동 저장 결과 또는 작업 로그 조회 응답입니다.
+ *
+ * @param projectKey 프로젝트의 키입니다.
+ * @param version    서버의 현재 문서 버전입니다.
+ * @param changes    요청한 버전 이후의 작업 로그입니다. 저장에 성공하면 빈 목록입니다.
+ */
+public record TimelineOperationsResponse(Long projectKey, long version, List<TimelineChange> changes) {
+}
@@ -0,0 +1,15 @@
+package com.lumeneditor.www.web.dto.render;
+
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+
+/**
+ * 렌더링 진행 상황 SSE 이벤트(progress)의 본문입니다. 서버 간에는 Redis Pub/Sub 으로 같은 JSON 을 전달합니다.
+ *
+ * @param mediaKey 완료되었을 때의 결과 미디어 키, 그 외에는 null 입니다.
+ */
+public record RenderJobEvent(Long jobKey, RenderStatus status, Integer progress, Long mediaKey, String errorMessage) {
+
+    public static RenderJobEvent of(RenderJobResponse job) {
+        return new RenderJobEvent(job.jobKey(), job.status(), job.progress(), job.mediaKey(), job.errorMessage());
+    }
+}
@@ -0,0 +1,19 @@
+package com.lumeneditor.www.web.dto.render;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RenderJobRequest {
+
+    private Long projectKey;
+    private RenderFormat format; // 생략 시 MP4
+
+
+}
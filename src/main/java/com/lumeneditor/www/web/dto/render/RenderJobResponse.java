@@ -0,0 +1,17 @@
+package com.lumeneditor.www.web.dto.render;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 렌더링 작업 조회 응답입니다.
+ *
+ * @param mediaKey 완료된 작업의 결과 미디어 키입니다. {@code GET /media/{mediaKey}} 로 내려받습니다.
+ * @param attempts 시작한 횟수입니다. 실패한 작업은 설정된 횟수까지 다시 시도합니다.
+ */
+public record RenderJobResponse(Long jobKey, Long projectKey, RenderFormat format, RenderStatus status, Integer progress,
+                                Integer attempts, Long mediaKey, String errorMessage, LocalDateTime createdDate,
+                                LocalDateTime startedDate, LocalDateTime finishedDate) {
+}
@@ -0,0 +1,59 @@
+-- 미디어 원본 테이블 (내용의 SHA-256 으로 한 번만 저장, 참조가 없어진 뒤 유예 시간이 지나면 삭제)
+CREATE TABLE media_blobs
+(
+    blob_hash         CHAR(64)        NOT NULL PRIMARY KEY,
+    blob_size         BIGINT UNSIGNED NOT NULL,
+    ref_count         INT             NOT NULL DEFAULT 1, -- 보정 전 어긋난 값에서 감소해도 오류가 나지 않도록 부호 있음
+    created_date      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    unreferenced_date DATETIME
+);
+
+-- 수거 대상 조회 (참조가 없어진 시각 순)
+CREATE INDEX idx_media_blobs_unreferenced ON media_blobs (unreferenced_date);
+
+-- 작업공간 미디어 테이블 (업로드마다 한 행, 같은 내용은 같은 원본 참조)
+CREATE TABLE workspace_media
+(
+    media_key      BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    workspaces_key BIGINT UNSIGNED NOT NULL,
+    blob_hash      CHAR(64)        NOT NULL,
+    file_name      VARCHAR(255)    NOT NULL,
+    content_type   VARCHAR(255)    NOT NULL,
+    created_date   DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (blob_hash) REFERENCES media_blobs (blob_hash)
+);
+
+-- 작업공간별 미디어 목록 (최근 업로드 순)
+CREATE INDEX idx_workspace_media_list ON workspace_media (workspaces_key, media_key);
+
+-- 해시로 추가할 때 같은 작업공간에 같은 내용이 있는지 확인
+CREATE INDEX idx_workspace_media_blob ON workspace_media (workspaces_key, blob_hash);
+
+-- 조각 업로드 세션 (완료 또는 만료 시 삭제)
+CREATE TABLE upload_sessions
+(
+    upload_id      CHAR(36)                      NOT NULL PRIMARY KEY,
+    workspaces_key BIGINT UNSIGNED               NOT NULL,
+    file_name      VARCHAR(255)                  NOT NULL,
+    content_type   VARCHAR(255)                  NOT NULL,
+    total_size     BIGINT UNSIGNED               NOT NULL,
+    chunk_size     INT UNSIGNED                  NOT NULL,
+    part_count     INT UNSIGNED                  NOT NULL,
+    status         ENUM ('OPEN', 'COMPLETING')   NOT NULL DEFAULT 'OPEN',
+    created_date   DATETIME                      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE
+);
+
+-- 만료된 세션 정리 (생성 시각 순)
+CREATE INDEX idx_upload_sessions_created ON upload_sessions (created_date);
+
+-- 받은 조각 (조각별 SHA-256)
+CREATE TABLE upload_parts
+(
+    upload_id   CHAR(36)     NOT NULL,
+    part_number INT UNSIGNED NOT NULL,
+    part_hash   CHAR(64)     NOT NULL,
+    PRIMARY KEY (upload_id, part_number),
+    FOREIGN KEY (upload_id) REFERENCES upload_sessions (upload_id) ON DELETE CASCADE
+);
@@ -0,0 +1,29 @@
+-- 렌더링(내보내기) 작업 테이블 (작업 대기열 겸용, workspaces.sql 과 media.sql 이후 실행)
+CREATE TABLE render_jobs
+(
+    job_key        BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    project_key    BIGINT UNSIGNED                                                 NOT NULL,
+    workspaces_key BIGINT UNSIGNED                                                 NOT NULL,
+    format         ENUM ('MP4', 'WEBM')                                            NOT NULL,
+    timeline       LONGTEXT                                                        NOT NULL,
+    status         ENUM ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELED') NOT NULL DEFAULT 'QUEUED',
+    progress       TINYINT UNSIGNED                                                NOT NULL DEFAULT 0,
+    attempts       INT UNSIGNED                                                    NOT NULL DEFAULT 0,
+    run_after      DATETIME                                                        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    worker_id      CHAR(36),
+    heartbeat_date DATETIME,
+    media_key      BIGINT UNSIGNED,
+    error_message  VARCHAR(500),
+    created_date   DATETIME                                                        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_date   DATETIME,
+    finished_date  DATETIME,
+    FOREIGN KEY (project_key) REFERENCES projects (project_key) ON DELETE CASCADE,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (media_key) REFERENCES workspace_media (media_key) ON DELETE SET NULL
+);
+
+-- 워커가 가져갈 대기 작업 (요청 순서)
+CREATE INDEX idx_render_jobs_queue ON render_jobs (status, run_after, job_key);
+
+-- 작업공간별 작업 목록, 렌더링 중/대기 작업 수 확인
+CREATE INDEX idx_render_jobs_workspace ON render_jobs (workspaces_key, status, job_key);
@@ -0,0 +1,4 @@
+-- 기존 user 테이블 변경 (user 테이블을 만드는 스크립트는 이 저장소에 없으므로 별도 실행)
+-- 행 변경 버전 (내 정보 조회 ETag 계산용)
+ALTER TABLE user
+    ADD COLUMN row_version BIGINT UNSIGNED NOT NULL DEFAULT 0;
@@ -3,9 +3,32 @@ CREATE TABLE workspaces
 (
     workspaces_key BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
     user_key       BIGINT UNSIGNED NOT NULL,
+    row_version    BIGINT UNSIGNED NOT NULL DEFAULT 0,
     FOREIGN KEY (user_key) REFERENCES user (user_key) ON DELETE CASCADE
 );
 
+-- 프로젝트 타임라인 테이블 (복제된 프로젝트끼리 공유, ref_count 가 0 이 되면 삭제)
+CREATE TABLE project_contents
+(
+    content_key      BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    timeline         LONGTEXT        NOT NULL,
+    version          BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    snapshot_version BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    ref_count        INT UNSIGNED    NOT NULL DEFAULT 1,
+    created_date     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 타임라인 작업 로그 (자동 저장 한 번에 한 행, snapshot_version 이하는 압축 후 삭제)
+CREATE TABLE timeline_operations
+(
+    content_key  BIGINT UNSIGNED NOT NULL,
+    version      BIGINT UNSIGNED NOT NULL,
+    operations   LONGTEXT        NOT NULL,
+    created_date DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (content_key, version),
+    FOREIGN KEY (content_key) REFERENCES project_contents (content_key) ON DELETE CASCADE
+);
+
 -- 프로젝트 테이블
 
 CREATE TABLE projects
@@ -14,6 +37,13 @@ CREATE TABLE projects
     project_name      VARCHAR(255)    NOT NULL,
     disclosure_status ENUM ('Y', 'N') NOT NULL DEFAULT 'N',
     project_date      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    archived          ENUM ('Y', 'N') NOT NULL DEFAULT 'N',
     workspaces_key    BIGINT UNSIGNED NOT NULL,
-    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE
-);
\ No newline at end of file
+    row_version       BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    content_key       BIGINT UNSIGNED,
+    FOREIGN KEY (workspaces_key) REFERENCES workspaces (workspaces_key) ON DELETE CASCADE,
+    FOREIGN KEY (content_key) REFERENCES project_contents (content_key)
+);
+
+-- 프로젝트 목록 키셋 페이지네이션 (작업공간별 보관 여부별 최근 생성 순, 외래 키 인덱스 겸용)
+CREATE INDEX idx_projects_workspace_date ON projects (workspaces_key, archived, project_date, project_key);
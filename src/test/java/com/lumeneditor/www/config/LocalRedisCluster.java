@@ -0,0 +1,137 @@
+package com.lumeneditor.www.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 테스트용으로 로컬에 여러 개의 redis-server 프로세스를 띄워 클러스터(마스터 3, 복제본 3)를 구성합니다.
+ * redis-server 와 redis-cli 가 PATH 에 있어야 합니다.
+ */
+class LocalRedisCluster implements AutoCloseable {
+
+    private static final int NODE_COUNT = 6;
+    private static final long STARTUP_TIMEOUT_MILLIS = 20_000L;
+
+    private final int basePort;
+    private final Path workDir;
+    private final List<Process> processes = new ArrayList<>();
+
+    private LocalRedisCluster(int basePort, Path workDir) {
+        this.basePort = basePort;
+        this.workDir = workDir;
+    }
+
+    // redis-server, redis-cli 실행 가능 여부
+    static boolean isAvailable() {
+        return succeeds("redis-server", "--version") && succeeds("redis-cli", "--version");
+    }
+
+    static LocalRedisCluster start(int basePort) throws IOException, InterruptedException {
+        LocalRedisCluster cluster = new LocalRedisCluster(basePort, Files.createTempDirectory("lumen-redis-cluster"));
+        try {
+            cluster.startNodes();
+            cluster.createCluster();
+            return cluster;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+    }
+
+    List<String> nodes() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add("127.0.0.1:" + (basePort + i));
+        }
+        return nodes;
+    }
+
+    private void startNodes() throws IOException, InterruptedException {
+        for (int i = 0; i < NODE_COUNT; i++) {
+            int port = basePort + i;
+            Process process = new ProcessBuilder(
+                    "redis-server",
+                    "--port", String.valueOf(port),
+                    "--cluster-enabled", "yes",
+                    "--cluster-config-file", "nodes-" + port + ".conf",
+                    "--cluster-node-timeout", "2000",
+                    "--appendonly", "no",
+                    "--save", "",
+                    "--dir", workDir.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(workDir.resolve("redis-" + port + ".log").toFile())
+                    .start();
+            processes.add(process);
+        }
+        for (int i = 0; i < NODE_COUNT; i++) {
+            int port = basePort + i;
+            awaitOutput("PONG", "redis-cli", "-p", String.valueOf(port), "ping");
+        }
+    }
+
+    private void createCluster() throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("redis-cli", "--cluster", "create"));
+        command.addAll(nodes());
+        command.addAll(List.of("--cluster-replicas", "1", "--cluster-yes"));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("redis-cli --cluster create failed:\n" + output);
+        }
+        for (int i = 0; i < NODE_COUNT; i++) {
+            awaitOutput("cluster_state:ok", "redis-cli", "-p", String.valueOf(basePort + i), "cluster", "info");
+        }
+    }
+
+    // 명령 출력에 expected 가 나타날 때까지 대기
+    private static void awaitOutput(String expected, String... command) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            process.waitFor();
+            if (output.contains(expected)) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Timed out waiting for '" + expected + "' from " + String.join(" ", command));
+    }
+
+    private static boolean succeeds(String... command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.lumeneditor.www.config;
+
+import com.lumeneditor.www.comm.RedisHotKeyCache;
+import com.lumeneditor.www.comm.RedisKeys;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RedisClusterTopologyTest {
+
+    private static final int BASE_PORT = 17000;
+
+    private static LocalRedisCluster cluster;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        // redis-server 가 설치되지 않은 환경에서는 클러스터 테스트를 건너뜁니다.
+        if (LocalRedisCluster.isAvailable()) {
+            cluster = LocalRedisCluster.start(BASE_PORT);
+        }
+    }
+
+    @AfterAll
+    static void stopCluster() throws Exception {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    private ApplicationContextRunner clusterContext() {
+        return new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(RedisConfig.class)
+                .withPropertyValues(
+                        "spring.data.redis.host=127.0.0.1",
+                        "spring.data.redis.port=" + BASE_PORT,
+                        "spring.data.redis.cluster.nodes=" + String.join(",", cluster.nodes()),
+                        "lumen.redis.topology=CLUSTER",
+                        "lumen.redis.read-from=replicaPreferred");
+    }
+
+    @Test
+    void userKeysShareOneHashSlot() {
+        String userId = "tester@lumen.com";
+
+        // 같은 사용자의 키는 해시 태그 덕분에 동일한 슬롯에 배치되어야 합니다.
+        assertThat(SlotHash.getSlot(RedisKeys.refreshToken(userId)))
+                .isEqualTo(SlotHash.getSlot(RedisKeys.profile(userId)));
+    }
+
+    @Test
+    void refreshTokenIsReadFromPrimaryEvenWithReplicaReads() {
+        assumeTrue(cluster != null, "redis-server / redis-cli not available");
+
+        clusterContext().run(context -> {
+            @SuppressWarnings("unchecked")
+            RedisTemplate<String, String> redisTemplate = context.getBean("redisTemplate", RedisTemplate.class);
+            RedisHotKeyCache hotKeyCache = context.getBean(RedisHotKeyCache.class);
+            String key = RedisKeys.refreshToken("replica@lumen.com");
+
+            // 로그아웃(삭제) 직후에도 복제 지연과 관계없이 바로 반영되어야 합니다.
+            redisTemplate.opsForValue().set(key, "refresh-token");
+            assertThat(hotKeyCache.exists(key)).isTrue();
+            redisTemplate.delete(key);
+            assertThat(hotKeyCache.exists(key)).isFalse();
+        });
+    }
+
+    @Test
+    void profileWrittenToPrimaryIsVisibleThroughReplicaReads() {
+        assumeTrue(cluster != null, "redis-server / redis-cli not available");
+
+        clusterContext().run(context -> {
+            RedisTemplateFactory factory = context.getBean(RedisTemplateFactory.class);
+            RedisTemplate<String, String> writer = factory.create(String.class);
+            RedisTemplate<String, String> reader = factory.createReader(String.class);
+            String key = RedisKeys.profile("replica@lumen.com");
+
+            writer.opsForValue().set(key, "profile");
+
+            // 복제본 조회는 복제 지연이 있을 수 있으므로 잠시 대기합니다.
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while (reader.opsForValue().get(key) == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(reader.opsForValue().get(key)).isEqualTo("profile");
+
+            writer.delete(key);
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.media.MediaRangeWriter.MediaFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaRangeWriterTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final MediaFile FILE = new MediaFile(HASH, CONTENT.length, "video/mp4", "clip.mp4");
+
+    @TempDir
+    Path root;
+
+    private MediaRangeWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalBlobStorage storage = new LocalBlobStorage(root);
+        Path source = Files.write(root.resolve("source"), CONTENT);
+        storage.put(HASH, source);
+        writer = new MediaRangeWriter(storage);
+    }
+
+    @Test
+    void sendsWholeContentWithoutRange() throws Exception {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/media/1"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertArrayEquals(CONTENT, response.getContentAsByteArray());
+    }
+
+    @Test
+    void sendsSingleRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/20", response.getHeader("Content-Range"));
+        assertEquals("2345", response.getContentAsString());
+    }
+
+    @Test
+    void sendsSuffixRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("Range", "bytes=-3");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("hij", response.getContentAsString());
+    }
+
+    @Test
+    void sendsMultipleRangesAsMultipart() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("Range", "bytes=0-1,10-11");
+
+        MockHttpServletResponse response = write(request);
+        String body = response.getContentAsString();
+
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        assertTrue(body.contains("Content-Range: bytes 0-1/20\r\n\r\n01"));
+        assertTrue(body.contains("Content-Range: bytes 10-11/20\r\n\r\nab"));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLengthLong());
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(CONTENT, response.getContentAsByteArray());
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("Range", "bytes=50-60");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void answersNotModifiedForSameETag() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/1");
+        request.addHeader("If-None-Match", "\"" + HASH + "\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void sendsScriptableTypeAsAttachment() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(new MockHttpServletRequest("GET", "/media/1"), response, new MediaFile(HASH, CONTENT.length, "image/svg+xml", "logo.svg"));
+
+        assertEquals("application/octet-stream", response.getContentType());
+        assertTrue(response.getHeader("Content-Disposition").startsWith("attachment"));
+        assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+        assertEquals("sandbox", response.getHeader("Content-Security-Policy"));
+    }
+
+    @Test
+    void sendsVideoInline() throws Exception {
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/media/1"));
+
+        assertEquals("video/mp4", response.getContentType());
+        assertTrue(response.getHeader("Content-Disposition").startsWith("inline"));
+        assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(request, response, FILE);
+        return response;
+    }
+}
@@ -0,0 +1,95 @@
+package com.lumeneditor.www.domain.media;
+
+import com.lumeneditor.www.domain.media.MediaUrlSigner.SignedMedia;
+import com.lumeneditor.www.web.dto.media.SignedMediaUrlResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaUrlSignerTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:03:00Z");
+    private static final SignableMedia MEDIA = new SignableMedia(42L, 7L, "b".repeat(64), 1000, "video/mp4; codecs=avc1");
+
+    private final MediaUrlSigner signer = signerAt(NOW);
+
+    @Test
+    void verifiesIssuedUrl() {
+        SignedMediaUrlResponse url = signer.sign(MEDIA, null, null);
+
+        SignedMedia signed = signer.verify(42L, request(url.url()));
+
+        assertNotNull(signed);
+        assertEquals(7L, signed.userKey());
+        assertEquals(MEDIA.blobHash(), signed.file().hash());
+        assertEquals(1000, signed.file().size());
+        assertEquals("video/mp4; codecs=avc1", signed.file().contentType());
+        assertNull(signed.range());
+    }
+
+    @Test
+    void carriesAllowedRange() {
+        SignedMediaUrlResponse url = signer.sign(MEDIA, 0L, 99L);
+
+        SignedMedia signed = signer.verify(42L, request(url.url()));
+
+        assertNotNull(signed);
+        assertEquals(0, signed.range().getRangeStart(1000));
+        assertEquals(99, signed.range().getRangeEnd(1000));
+    }
+
+    @Test
+    void rejectsOtherPathOrTamperedValue() {
+        SignedMediaUrlResponse url = signer.sign(MEDIA, 0L, 99L);
+
+        // 다른 미디어 경로에 같은 서명 사용
+        assertNull(signer.verify(43L, request(url.url())));
+        // 허용 구간을 넓힘
+        assertNull(signer.verify(42L, request(url.url().replace("r=0-99", "r=0-999"))));
+        // 다른 키로 서명
+        MediaUrlSigner other = new MediaUrlSigner("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII),
+                Duration.ofHours(1), Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC));
+        assertNull(other.verify(42L, request(url.url())));
+    }
+
+    @Test
+    void rejectsExpiredUrl() {
+        SignedMediaUrlResponse url = signer.sign(MEDIA, null, null);
+
+        assertNotNull(signerAt(Instant.ofEpochSecond(url.expiresAt() - 1)).verify(42L, request(url.url())));
+        assertNull(signerAt(Instant.ofEpochSecond(url.expiresAt())).verify(42L, request(url.url())));
+    }
+
+    @Test
+    void issuesSameUrlWithinWindow() {
+        // 만료 시각을 10분 단위로 올림하므로 같은 구간의 발급 결과는 같음
+        SignedMediaUrlResponse first = signer.sign(MEDIA, null, null);
+        SignedMediaUrlResponse second = signerAt(NOW.plusSeconds(300)).sign(MEDIA, null, null);
+
+        assertEquals(first.url(), second.url());
+        assertEquals(0, first.expiresAt() % 600);
+    }
+
+    private static MediaUrlSigner signerAt(Instant now) {
+        return new MediaUrlSigner(KEY, Duration.ofHours(1), Duration.ofMinutes(10), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static MockHttpServletRequest request(String url) {
+        UriComponents components = UriComponentsBuilder.fromUriString(url).build();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", components.getPath());
+        components.getQueryParams().forEach((name, values) ->
+                request.addParameter(name, URLDecoder.decode(values.get(0), StandardCharsets.UTF_8)));
+        return request;
+    }
+}
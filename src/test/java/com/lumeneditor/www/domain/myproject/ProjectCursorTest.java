@@ -0,0 +1,35 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.lumeneditor.www.exception.ExpectedCustomException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        ProjectCursor cursor = new ProjectCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 5), 1234L);
+
+        assertEquals(cursor, ProjectCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new ProjectCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        // 쿼리 파라미터로 그대로 전달할 수 있어야 함
+        assertEquals(-1, encoded.indexOf('+'));
+        assertEquals(-1, encoded.indexOf('/'));
+        assertEquals(-1, encoded.indexOf('='));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(ExpectedCustomException.class, () -> ProjectCursor.decode("not a cursor"));
+        assertThrows(ExpectedCustomException.class, () -> ProjectCursor.decode("MjAyNC0wMy0wMQ")); // 키가 없는 날짜
+    }
+}
@@ -0,0 +1,59 @@
+package com.lumeneditor.www.domain.myproject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimelinePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TimelinePatch patch = new TimelinePatch(objectMapper);
+
+    @Test
+    void appliesBatchesInOrder() throws Exception {
+        String timeline = "{\"tracks\":[{\"clips\":[{\"start\":0},{\"start\":100}]}]}";
+        List<String> batches = List.of(
+                "[{\"op\":\"replace\",\"path\":\"/tracks/0/clips/1/start\",\"value\":150}]",
+                "[{\"op\":\"add\",\"path\":\"/tracks/0/clips/-\",\"value\":{\"start\":300}}," +
+                        "{\"op\":\"remove\",\"path\":\"/tracks/0/clips/0\"}]",
+                "[{\"op\":\"add\",\"path\":\"/tracks/-\",\"value\":{\"clips\":[]}}," +
+                        "{\"op\":\"move\",\"from\":\"/tracks/0/clips/1\",\"path\":\"/tracks/1/clips/0\"}]");
+
+        JsonNode result = objectMapper.readTree(patch.apply(timeline, batches));
+
+        assertEquals(objectMapper.readTree("{\"tracks\":[{\"clips\":[{\"start\":150}]},{\"clips\":[{\"start\":300}]}]}"), result);
+    }
+
+    @Test
+    void startsFromEmptyDocumentAndSkipsInapplicableOperations() throws Exception {
+        List<String> batches = List.of(
+                "[{\"op\":\"add\",\"path\":\"/name\",\"value\":\"intro\"}," +
+                        "{\"op\":\"remove\",\"path\":\"/missing\"}," +
+                        "{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"opening\"}]");
+
+        JsonNode result = objectMapper.readTree(patch.apply(null, batches));
+
+        assertEquals(objectMapper.readTree("{\"name\":\"opening\"}"), result);
+    }
+
+    @Test
+    void returnsSnapshotUnchangedWithoutBatches() {
+        String timeline = "{ \"tracks\" : [] }";
+
+        // 로그가 없으면 다시 직렬화하지 않음
+        assertSame(timeline, patch.apply(timeline, List.of()));
+    }
+
+    @Test
+    void validatesOperationShape() throws Exception {
+        assertTrue(patch.isValid(List.of(objectMapper.readTree("{\"op\":\"add\",\"path\":\"/a\",\"value\":1}"))));
+        assertFalse(patch.isValid(List.of(objectMapper.readTree("{\"op\":\"test\",\"path\":\"/a\",\"value\":1}"))));
+        assertFalse(patch.isValid(List.of(objectMapper.readTree("{\"op\":\"add\",\"path\":\"a\",\"value\":1}"))));
+        assertFalse(patch.isValid(List.of(objectMapper.readTree("{\"op\":\"replace\",\"path\":\"/a\"}"))));
+        assertFalse(patch.isValid(List.of(objectMapper.readTree("{\"op\":\"move\",\"path\":\"/a\"}"))));
+    }
+}
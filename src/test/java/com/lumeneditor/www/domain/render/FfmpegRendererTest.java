@@ -0,0 +1,56 @@
+package com.lumeneditor.www.domain.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lumeneditor.www.domain.render.FfmpegRenderer.Clip;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FfmpegRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsClipsOfFirstTrackInOrder() throws Exception {
+        String timeline = "{\"tracks\":[{\"clips\":[{\"mediaKey\":7,\"in\":500,\"out\":2500},{\"mediaKey\":3,\"out\":1000}]}," +
+                "{\"clips\":[{\"mediaKey\":9,\"out\":100}]}]}";
+
+        List<Clip> clips = FfmpegRenderer.clipsOf(objectMapper.readTree(timeline));
+
+        assertEquals(List.of(new Clip(7, 500, 2500), new Clip(3, 0, 1000)), clips);
+    }
+
+    @Test
+    void rejectsTimelineWithoutValidClips() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> FfmpegRenderer.clipsOf(objectMapper.readTree("{}")));
+        assertThrows(IllegalArgumentException.class, () -> FfmpegRenderer.clipsOf(
+                objectMapper.readTree("{\"tracks\":[{\"clips\":[{\"mediaKey\":1,\"in\":300,\"out\":300}]}]}")));
+        assertThrows(IllegalArgumentException.class, () -> FfmpegRenderer.clipsOf(
+                objectMapper.readTree("{\"tracks\":[{\"clips\":[{\"in\":0,\"out\":300}]}]}")));
+    }
+
+    @Test
+    void writesConcatListWithQuotedPathsAndSeconds() {
+        Path source = Path.of("/data/blobs/it's.mp4");
+        List<Clip> clips = List.of(new Clip(1, 1500, 61_025), new Clip(1, 0, 40));
+
+        String list = FfmpegRenderer.concatList(clips, Map.of(1L, source));
+
+        assertEquals("ffconcat version 1.0\n" +
+                "file '/data/blobs/it'\\''s.mp4'\ninpoint 1.500\noutpoint 61.025\n" +
+                "file '/data/blobs/it'\\''s.mp4'\ninpoint 0.000\noutpoint 0.040\n", list);
+    }
+
+    @Test
+    void computesPercentFromProgressOutput() {
+        assertEquals(25, FfmpegRenderer.percentOf("out_time_us=2500000", 10_000));
+        assertEquals(99, FfmpegRenderer.percentOf("out_time_us=12000000", 10_000));
+        assertEquals(100, FfmpegRenderer.percentOf("progress=end", 10_000));
+        assertEquals(-1, FfmpegRenderer.percentOf("out_time_us=N/A", 10_000));
+        assertEquals(-1, FfmpegRenderer.percentOf("frame=42", 10_000));
+    }
+}
@@ -0,0 +1,192 @@
+package com.lumeneditor.www.domain.render;
+
+import com.lumeneditor.www.comm.eunm.RenderFormat;
+import com.lumeneditor.www.comm.eunm.RenderStatus;
+import com.lumeneditor.www.domain.media.MediaBlobStore;
+import com.lumeneditor.www.domain.media.MediaBlobStore.StoredBlob;
+import com.lumeneditor.www.domain.media.entity.WorkspaceMedia;
+import com.lumeneditor.www.domain.myproject.entity.Projects;
+import com.lumeneditor.www.domain.render.entity.RenderJob;
+import com.lumeneditor.www.web.dto.render.RenderJobEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class RenderWorkerTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @TempDir
+    Path workDir;
+
+    private final RenderJobRepository renderJobRepository = mock(RenderJobRepository.class);
+    private final MediaBlobStore mediaBlobStore = mock(MediaBlobStore.class);
+    private final RenderProgressHub renderProgressHub = mock(RenderProgressHub.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private RenderWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(renderJobRepository.updateProgress(anyLong(), anyString(), anyInt(), any())).willReturn(1);
+
+        StubRenderer renderer = new StubRenderer();
+        ReflectionTestUtils.setField(renderer, "step", Duration.ZERO);
+        worker = new RenderWorker(renderJobRepository, renderer, mediaBlobStore, renderProgressHub, transactionManager, 1);
+        ReflectionTestUtils.setField(worker, "perUserLimit", 1);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryDelay", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(worker, "heartbeatInterval", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(worker, "lease", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(worker, "workDir", workDir);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    @Test
+    void claimsJobUnderReadCommittedAndStoresTheResult() throws Exception {
+        RenderJob job = queued(10L, 0);
+        givenClaimable(new ClaimCandidate(10L, 1L));
+        given(renderJobRepository.findById(10L)).willReturn(Optional.of(job));
+        given(mediaBlobStore.storeFile(any())).willReturn(new StoredBlob("a".repeat(64), 3, null));
+        given(mediaBlobStore.attach(eq(1L), any(), eq("intro.mp4"), eq(RenderFormat.MP4.getContentType())))
+                .willReturn(WorkspaceMedia.builder().mediaKey(99L).build());
+        given(renderJobRepository.markSucceeded(eq(10L), anyString(), any(), any())).willReturn(1);
+
+        worker.poll();
+
+        verify(renderJobRepository, timeout(TIMEOUT_MILLIS)).markSucceeded(eq(10L), eq(job.getWorkerId()), any(), any());
+        verify(renderProgressHub, timeout(TIMEOUT_MILLIS)).publish(new RenderJobEvent(10L, RenderStatus.SUCCEEDED, 100, 99L, null));
+        assertEquals(RenderStatus.RUNNING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+
+        // 작업공간 잠금 이후의 렌더링 수 확인이 커밋된 작업을 보도록 가져가기는 READ COMMITTED 로 실행
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertEquals(TransactionDefinition.ISOLATION_READ_COMMITTED, definitions.getAllValues().get(0).getIsolationLevel());
+    }
+
+    @Test
+    void skipsWorkspaceAtRunningLimitAndLocksWorkspacesInKeyOrder() {
+        RenderJob other = queued(12L, 0);
+        givenClaimable(new ClaimCandidate(11L, 1L), new ClaimCandidate(12L, 2L));
+        given(renderJobRepository.countRunning(1L)).willReturn(1L);
+        given(renderJobRepository.countRunning(2L)).willReturn(0L);
+        given(renderJobRepository.findById(12L)).willReturn(Optional.of(other));
+
+        worker.poll();
+
+        InOrder inOrder = inOrder(renderJobRepository);
+        inOrder.verify(renderJobRepository).lockWorkspace(1L);
+        inOrder.verify(renderJobRepository).lockWorkspace(2L);
+        verify(renderJobRepository, never()).findById(11L);
+        assertEquals(RenderStatus.RUNNING, other.getStatus());
+    }
+
+    @Test
+    void claimsNothingWhenEveryWorkspaceIsAtLimit() {
+        givenClaimable(new ClaimCandidate(11L, 1L));
+        given(renderJobRepository.countRunning(1L)).willReturn(1L);
+
+        worker.poll();
+
+        verify(renderJobRepository, never()).findById(anyLong());
+        verify(renderJobRepository, after(200).never()).updateProgress(anyLong(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    void requeuesFailedRenderWithBackoff() throws Exception {
+        RenderJob job = queued(10L, 1);
+        givenClaimable(new ClaimCandidate(10L, 1L));
+        given(renderJobRepository.findById(10L)).willReturn(Optional.of(job));
+        given(mediaBlobStore.storeFile(any())).willThrow(new IOException("disk full"));
+        given(renderJobRepository.markFailed(anyLong(), anyString(), any(), anyInt(), any(), any(), any())).willReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.poll();
+
+        // 두 번째 시도의 실패이므로 retry-delay 의 두 배 뒤에 다시 가져감
+        ArgumentCaptor<LocalDateTime> runAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(renderJobRepository, timeout(TIMEOUT_MILLIS)).markFailed(eq(10L), anyString(), eq(RenderStatus.QUEUED), eq(0),
+                eq("disk full"), runAfter.capture(), isNull());
+        assertFalse(runAfter.getValue().isBefore(before.plusSeconds(60)));
+        assertTrue(runAfter.getValue().isBefore(LocalDateTime.now().plusSeconds(61)));
+    }
+
+    @Test
+    void failsRenderAfterMaxAttempts() throws Exception {
+        RenderJob job = queued(10L, 2);
+        givenClaimable(new ClaimCandidate(10L, 1L));
+        given(renderJobRepository.findById(10L)).willReturn(Optional.of(job));
+        given(mediaBlobStore.storeFile(any())).willThrow(new IOException("disk full"));
+        given(renderJobRepository.markFailed(anyLong(), anyString(), any(), anyInt(), any(), any(), any())).willReturn(1);
+
+        worker.poll();
+
+        verify(renderJobRepository, timeout(TIMEOUT_MILLIS)).markFailed(eq(10L), anyString(), eq(RenderStatus.FAILED), anyInt(),
+                eq("disk full"), any(), notNull());
+        verify(renderProgressHub, timeout(TIMEOUT_MILLIS)).publish(argThat(event -> event.status() == RenderStatus.FAILED));
+    }
+
+    @Test
+    void recoversJobsWhoseHeartbeatExpired() {
+        RenderJobEvent requeued = new RenderJobEvent(10L, RenderStatus.QUEUED, 0, null, "Render worker stopped responding");
+        given(renderJobRepository.findExpired(any(), any())).willReturn(List.of(10L, 11L));
+        given(renderJobRepository.expire(eq(10L), any(), eq(3), any())).willReturn(1);
+        given(renderJobRepository.expire(eq(11L), any(), eq(3), any())).willReturn(0);
+        given(renderJobRepository.findEvent(10L)).willReturn(Optional.of(requeued));
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.recoverExpired();
+
+        // lease 보다 오래 heartbeat 가 없던 작업만 되돌리며, 그 사이 갱신된 작업(0 건)은 발행하지 않음
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(renderJobRepository).expire(eq(10L), cutoff.capture(), eq(3), any());
+        assertFalse(cutoff.getValue().isBefore(before.minusMinutes(1)));
+        verify(renderProgressHub).publish(requeued);
+        verify(renderJobRepository, never()).findEvent(11L);
+    }
+
+
+    private void givenClaimable(ClaimCandidate... candidates) {
+        List<Number> keys = List.of(candidates).stream().map(candidate -> (Number) candidate.jobKey()).toList();
+        given(renderJobRepository.findClaimable(any(), eq(1), anyInt())).willReturn(keys).willReturn(List.of());
+        given(renderJobRepository.findCandidates(List.of(candidates).stream().map(ClaimCandidate::jobKey).toList()))
+                .willReturn(List.of(candidates));
+    }
+
+    private static RenderJob queued(Long jobKey, int attempts) {
+        return RenderJob.builder()
+                .jobKey(jobKey)
+                .projects(Projects.builder().projectName("intro").build())
+                .format(RenderFormat.MP4)
+                .timeline("{}")
+                .status(RenderStatus.QUEUED)
+                .progress(0)
+                .attempts(attempts)
+                .build();
+    }
+}